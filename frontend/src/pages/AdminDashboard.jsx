@@ -158,7 +158,7 @@ export default function AdminDashboard() {
       const response = await adminAPI.deleteUser(userId);
       console.log('✅ Delete response:', response);
 
-      alert(`User ${userName} deleted successfully!`);
+      alert(`User ${userName} deactivated. Their data is being deleted in the background.`);
 
       console.log('🔄 Refreshing dashboard data...');
       await fetchDashboardData(); // Refresh dashboard summary
@@ -40,8 +40,8 @@ export default function ServiceListPage() {
     async function fetchServices() {
       setLoading(true);
       try {
-        // Fetch all services
-        const res = await serviceAPI.search({});
+        // Fetch the newest services (capped server-side)
+        const res = await serviceAPI.listAll();
         const allServices = res.data?.data || res.data || [];
 
         console.log('Fetched services:', allServices);
@@ -59,6 +59,7 @@ export const adminAPI = {
   suspendUser: (userId) => api.post(`/admin/users/${userId}/suspend`),
   reactivateUser: (userId) => api.post(`/admin/users/${userId}/reactivate`),
   deleteUser: (userId) => api.delete(`/admin/users/${userId}`),
+  getDeletionStatus: (jobId) => api.get(`/admin/users/deletions/${jobId}`),
   getAllBookings: () => api.get('/admin/bookings'),
   getRecentUsers: (days, limit) => api.get('/admin/users/recent', { params: { days, limit } }),
 };
@@ -85,7 +86,7 @@ export const providerAPI = {
   login: (data) => api.post('/auth/login', data),
   update: (id, data) => api.put(`/users/${id}`, data),
   delete: (id) => api.delete(`/users/${id}`),
-  getAll: () => api.get('/users/providers/search', { params: { keyword: '' } }),
+  getAll: (params) => api.get('/users/providers', { params }),
   getById: (id) => api.get(`/users/${id}`),
   searchByCity: (city) => api.get(`/users/providers/city/${city}`),
   getAvailableCities: () => api.get('/users/providers/locations/cities'),
@@ -97,6 +98,7 @@ export const providerAPI = {
    --------------------------- */
 export const serviceAPI = {
   search: (params) => api.get('/services', { params }),
+  listAll: () => api.get('/services/all'),
   getById: (id) => api.get(`/services/${id}`),
   getByProvider: (providerId) => api.get(`/services/provider/${providerId}`),
   create: (data, providerId) => api.post('/services', data, { params: { providerId } }),
@@ -2,10 +2,12 @@ package Team.C.Service.Spot;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling  // Enable scheduled tasks for auto-cleanup
+@EnableAsync  // Enable async event listeners (listing view tracking)
 public class ServiceSpotApplication {
 
 	public static void main(String[] args) {
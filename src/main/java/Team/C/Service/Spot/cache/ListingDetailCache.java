@@ -0,0 +1,76 @@
+package Team.C.Service.Spot.cache;
+
+import Team.C.Service.Spot.config.CacheConfig;
+import Team.C.Service.Spot.dto.response.ServiceListingResponse;
+import Team.C.Service.Spot.search.ListingDocument;
+import Team.C.Service.Spot.search.ListingIndex;
+import Team.C.Service.Spot.search.ProviderChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Per-listing cache of GET /api/services/{id} responses.
+ *
+ * <p>Registered as a listing index so the existing change events invalidate
+ * it after commit: an entry is dropped when its listing is updated, toggled,
+ * rated or deleted. Every entry of a provider is dropped when the provider's
+ * profile changes, since the response embeds the provider. The TTL bounds staleness for reads
+ * that raced with a write. Cached responses are shared and must not be
+ * modified by callers.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+public class ListingDetailCache implements ListingIndex {
+
+    private final LruCache<Long, ServiceListingResponse> cache;
+
+    public ListingDetailCache(CacheConfig config) {
+        this.cache = new LruCache<>(config.getListingDetailMaxEntries(),
+                Duration.ofSeconds(config.getListingDetailTtlSeconds()));
+    }
+
+    public ServiceListingResponse get(Long listingId) {
+        return cache.get(listingId);
+    }
+
+    public void put(ServiceListingResponse response) {
+        cache.put(response.getId(), response);
+    }
+
+    public LruCache.Stats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void rebuild(Collection<ListingDocument> documents) {
+        cache.clear();
+    }
+
+    @Override
+    public void upsert(ListingDocument document) {
+        cache.invalidate(document.getId());
+    }
+
+    @Override
+    public void remove(Long listingId) {
+        cache.invalidate(listingId);
+    }
+
+    /**
+     * Drop the cached listings of a provider whose profile changed.
+     *
+     * @param event the committed provider change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProviderChanged(ProviderChangedEvent event) {
+        cache.invalidateIf(response -> response.getProvider() != null
+                && Objects.equals(response.getProvider().getId(), event.getProviderId()));
+    }
+}
@@ -0,0 +1,156 @@
+package Team.C.Service.Spot.cache;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Small size-bounded LRU cache with a time-to-live and hit/miss/eviction counters.
+ *
+ * <p>Entries are kept in access order, so the least recently read entry is
+ * evicted first once maxEntries is reached. Expired entries are dropped
+ * when they are read. All operations are synchronized; the critical sections
+ * are a hash lookup and a linked-list move.</p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public class LruCache<K, V> {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Map<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public LruCache(int maxEntries, Duration ttl) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                boolean evict = size() > LruCache.this.maxEntries;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    /**
+     * Get a live entry.
+     *
+     * @param key the key
+     * @return the cached value, or null when absent or expired
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (System.nanoTime() - entry.createdAt > ttlNanos) {
+            entries.remove(key);
+            evictions.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * Store a value, evicting the least recently used entry if the cache is full.
+     *
+     * @param key the key
+     * @param value the value (null values are not cached)
+     */
+    public synchronized void put(K key, V value) {
+        if (value != null) {
+            entries.put(key, new Entry<>(value, System.nanoTime()));
+        }
+    }
+
+    /**
+     * Remove one entry.
+     *
+     * @param key the key
+     */
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Remove every entry whose value matches.
+     *
+     * @param predicate condition on the cached value
+     * @return number of entries removed
+     */
+    public synchronized int invalidateIf(Predicate<V> predicate) {
+        int removed = 0;
+        for (Iterator<Entry<V>> it = entries.values().iterator(); it.hasNext(); ) {
+            if (predicate.test(it.next().value)) {
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Remove every entry.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Get a snapshot of the cache counters.
+     *
+     * @return hits, misses, evictions and current size
+     */
+    public synchronized Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), maxEntries);
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long createdAt;
+
+        private Entry(V value, long createdAt) {
+            this.value = value;
+            this.createdAt = createdAt;
+        }
+    }
+
+    /**
+     * Cache counters since startup.
+     */
+    @Value
+    public static class Stats {
+        long hits;
+        long misses;
+        long evictions;
+        int size;
+        int maxEntries;
+
+        public double getHitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package Team.C.Service.Spot.cache;
+
+import Team.C.Service.Spot.config.CacheConfig;
+import Team.C.Service.Spot.dto.response.ServiceListingResponse;
+import Team.C.Service.Spot.dto.response.UserResponse;
+import Team.C.Service.Spot.search.ListingDocument;
+import Team.C.Service.Spot.search.ListingIndex;
+import Team.C.Service.Spot.search.ProviderChangedEvent;
+import Team.C.Service.Spot.search.ProviderDocument;
+import Team.C.Service.Spot.search.TextAnalyzer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Short-lived cache of listing and provider keyword search results, keyed by
+ * the normalized query.
+ *
+ * <p>A write only drops the entries it could affect: those that already
+ * contain the changed listing or provider, and those whose query words
+ * appear in the new text (the write may add a match). Queries without words
+ * (list everything) are affected by every write. Typo-tolerant matches a
+ * write adds are only picked up when the entry expires, which the short TTL
+ * bounds. Cached lists are shared and must not be modified by callers.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+public class SearchResultCache implements ListingIndex {
+
+    private final LruCache<String, Entry<ServiceListingResponse>> listings;
+    private final LruCache<String, Entry<UserResponse>> providers;
+
+    public SearchResultCache(CacheConfig config) {
+        Duration ttl = Duration.ofSeconds(config.getSearchResultTtlSeconds());
+        this.listings = new LruCache<>(config.getSearchResultMaxEntries(), ttl);
+        this.providers = new LruCache<>(config.getSearchResultMaxEntries(), ttl);
+    }
+
+    /**
+     * Build the cache key of a keyword.
+     *
+     * @param keyword raw keyword (may be null)
+     * @param analyzed true when the search backend tokenizes the keyword itself, so
+     *                 case, punctuation and stop words can be folded away; false for
+     *                 LIKE searches, where only case and surrounding spaces are irrelevant
+     * @return normalized key
+     */
+    public static String key(String keyword, boolean analyzed) {
+        if (keyword == null) {
+            return "";
+        }
+        return analyzed
+                ? String.join(" ", TextAnalyzer.tokenize(keyword))
+                : keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public List<ServiceListingResponse> getListings(String key) {
+        Entry<ServiceListingResponse> entry = listings.get(key);
+        return entry != null ? entry.results : null;
+    }
+
+    /**
+     * Cache listing search results.
+     *
+     * @param key normalized key
+     * @param keyword raw keyword, used to decide which writes affect the entry
+     * @param results results to share
+     * @return the cached (unmodifiable) results
+     */
+    public List<ServiceListingResponse> putListings(String key, String keyword, List<ServiceListingResponse> results) {
+        Entry<ServiceListingResponse> entry = new Entry<>(keyword, results, ServiceListingResponse::getId,
+                response -> response.getProvider() != null ? response.getProvider().getId() : null);
+        listings.put(key, entry);
+        return entry.results;
+    }
+
+    public List<UserResponse> getProviders(String key) {
+        Entry<UserResponse> entry = providers.get(key);
+        return entry != null ? entry.results : null;
+    }
+
+    /**
+     * Cache provider search results.
+     *
+     * @param key normalized key
+     * @param keyword raw keyword, used to decide which writes affect the entry
+     * @param results results to share
+     * @return the cached (unmodifiable) results
+     */
+    public List<UserResponse> putProviders(String key, String keyword, List<UserResponse> results) {
+        Entry<UserResponse> entry = new Entry<>(keyword, results, UserResponse::getId, UserResponse::getId);
+        providers.put(key, entry);
+        return entry.results;
+    }
+
+    public LruCache.Stats listingStats() {
+        return listings.stats();
+    }
+
+    public LruCache.Stats providerStats() {
+        return providers.stats();
+    }
+
+    @Override
+    public void rebuild(Collection<ListingDocument> documents) {
+        listings.clear();
+    }
+
+    @Override
+    public void upsert(ListingDocument document) {
+        String text = text(document.getTitle(), document.getDescription(),
+                document.getCategoryName(), document.getCity());
+        listings.invalidateIf(entry -> entry.ids.contains(document.getId()) || entry.couldMatch(text));
+    }
+
+    @Override
+    public void remove(Long listingId) {
+        listings.invalidateIf(entry -> entry.ids.contains(listingId));
+    }
+
+    /**
+     * Drop the results a provider change could affect: provider searches that
+     * contain or could now match the provider, and listing searches that embed it.
+     *
+     * @param event the committed provider change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProviderChanged(ProviderChangedEvent event) {
+        Long providerId = event.getProviderId();
+        ProviderDocument document = event.getDocument();
+        String text = document != null
+                ? text(document.getName(), document.getServiceType(), document.getDescription(), document.getCity())
+                : null;
+
+        providers.invalidateIf(entry -> entry.ids.contains(providerId) || (text != null && entry.couldMatch(text)));
+        listings.invalidateIf(entry -> entry.providerIds.contains(providerId));
+    }
+
+    private static String text(String... parts) {
+        StringBuilder text = new StringBuilder();
+        for (String part : parts) {
+            if (part != null) {
+                text.append(part.toLowerCase(Locale.ROOT)).append(' ');
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Cached results with the IDs and query words used for invalidation
+     */
+    private static final class Entry<R> {
+        private final List<String> terms;
+        private final List<R> results;
+        private final Set<Long> ids;
+        private final Set<Long> providerIds;
+
+        private Entry(String keyword, List<R> results, Function<R, Long> id, Function<R, Long> providerId) {
+            this.terms = TextAnalyzer.tokenize(keyword);
+            this.results = List.copyOf(results);
+            this.ids = results.stream().map(id).filter(Objects::nonNull).collect(Collectors.toSet());
+            this.providerIds = results.stream().map(providerId).filter(Objects::nonNull).collect(Collectors.toSet());
+        }
+
+        /**
+         * @param text lower-cased searchable text of the changed row
+         * @return true if the row could now be one of the results
+         */
+        private boolean couldMatch(String text) {
+            if (terms.isEmpty()) {
+                return true;
+            }
+            for (String term : terms) {
+                if (text.contains(term)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
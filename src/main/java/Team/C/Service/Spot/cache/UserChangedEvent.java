@@ -0,0 +1,17 @@
+package Team.C.Service.Spot.cache;
+
+import lombok.Value;
+
+/**
+ * Application event published whenever a user account of any role is
+ * modified or deleted. Evicts the user's cached profile after commit.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Value
+public class UserChangedEvent {
+
+    Long userId;
+}
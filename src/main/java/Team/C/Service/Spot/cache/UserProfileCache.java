@@ -0,0 +1,120 @@
+package Team.C.Service.Spot.cache;
+
+import Team.C.Service.Spot.config.CacheConfig;
+import Team.C.Service.Spot.model.User;
+import Team.C.Service.Spot.search.ProviderChangedEvent;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Locale;
+
+/**
+ * Cache of user profiles keyed by ID, with a secondary email -> ID mapping.
+ *
+ * <p>Profiles are held as detached copies without their collections, and
+ * every read hands out a fresh copy, so a caller modifying the returned
+ * entity cannot change the cached one. An email mapping is only trusted when
+ * the profile it points to still has that email, so a changed email never
+ * resolves to the wrong user. Entries are dropped once a
+ * {@link UserChangedEvent} or {@link ProviderChangedEvent} commits; the TTL
+ * bounds staleness for reads that raced with a write and for changes made on
+ * other nodes.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+public class UserProfileCache {
+
+    private final LruCache<Long, User> byId;
+    private final LruCache<String, Long> idByEmail;
+
+    public UserProfileCache(CacheConfig config) {
+        Duration ttl = Duration.ofSeconds(config.getUserProfileTtlSeconds());
+        this.byId = new LruCache<>(config.getUserProfileMaxEntries(), ttl);
+        this.idByEmail = new LruCache<>(config.getUserProfileMaxEntries(), ttl);
+    }
+
+    /**
+     * @param id user ID
+     * @return a copy of the cached profile, or null on a miss
+     */
+    public User getById(Long id) {
+        User cached = byId.get(id);
+        return cached != null ? copy(cached) : null;
+    }
+
+    /**
+     * @param email user email (case-insensitive)
+     * @return a copy of the cached profile, or null on a miss
+     */
+    public User getByEmail(String email) {
+        if (email == null) {
+            return null;
+        }
+        String key = emailKey(email);
+        Long id = idByEmail.get(key);
+        if (id == null) {
+            return null;
+        }
+        User cached = byId.get(id);
+        if (cached == null || cached.getEmail() == null || !emailKey(cached.getEmail()).equals(key)) {
+            idByEmail.invalidate(key);
+            return null;
+        }
+        return copy(cached);
+    }
+
+    /**
+     * Cache a profile loaded from the database.
+     *
+     * @param user the loaded user (not modified)
+     */
+    public void put(User user) {
+        if (user == null || user.getId() == null) {
+            return;
+        }
+        // A lazy proxy's own fields are empty; copy the loaded instance behind it
+        byId.put(user.getId(), copy(Hibernate.unproxy(user, User.class)));
+        if (user.getEmail() != null) {
+            idByEmail.put(emailKey(user.getEmail()), user.getId());
+        }
+    }
+
+    public void invalidate(Long id) {
+        byId.invalidate(id);
+    }
+
+    public LruCache.Stats stats() {
+        return byId.stats();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProviderChanged(ProviderChangedEvent event) {
+        invalidate(event.getProviderId());
+    }
+
+    private static String emailKey(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Scalar fields only; lazy collections are replaced by empty lists.
+     */
+    private static User copy(User user) {
+        return user.toBuilder()
+                .serviceListings(new ArrayList<>())
+                .bookingsAsCustomer(new ArrayList<>())
+                .bookingsAsProvider(new ArrayList<>())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package Team.C.Service.Spot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "cache")
+public class CacheConfig {
+
+    /**
+     * Maximum number of listing detail responses kept in memory
+     */
+    private int listingDetailMaxEntries = 10000;
+
+    /**
+     * Upper bound on how long a cached listing detail can be served
+     */
+    private long listingDetailTtlSeconds = 300;
+
+    /**
+     * Maximum number of distinct queries kept per search cache (listings, providers)
+     */
+    private int searchResultMaxEntries = 500;
+
+    /**
+     * How long a search result can be served; bounds staleness of fuzzy matches
+     */
+    private long searchResultTtlSeconds = 60;
+
+    /**
+     * Maximum number of user profiles kept in memory
+     */
+    private int userProfileMaxEntries = 10000;
+
+    /**
+     * Upper bound on how long a cached user profile can be served
+     */
+    private long userProfileTtlSeconds = 300;
+
+}
@@ -0,0 +1,56 @@
+package Team.C.Service.Spot.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the MySQL FULLTEXT indexes needed by search.mode=FULLTEXT.
+ *
+ * <p>Hibernate's ddl-auto cannot declare FULLTEXT indexes and MySQL has no
+ * CREATE INDEX IF NOT EXISTS, so the indexes are checked in information_schema
+ * and created on startup when missing. Nothing is done in the other search modes.</p>
+ *
+ * <p>Note: InnoDB ignores words shorter than innodb_ft_min_token_size (default 3)
+ * and its built-in stopwords, so very short keywords return no FULLTEXT matches.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FullTextIndexInitializer implements CommandLineRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SearchConfig searchConfig;
+
+    @Override
+    public void run(String... args) {
+        if (searchConfig.getMode() != SearchConfig.Mode.FULLTEXT) {
+            return;
+        }
+
+        createIfMissing("service_listings", "ft_listing_title_description", "title, description");
+        createIfMissing("users", "ft_user_name_service_type_description", "name, service_type, description");
+    }
+
+    private void createIfMissing(String table, String indexName, String columns) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, table, indexName);
+
+        if (existing != null && existing > 0) {
+            log.info("✅ FULLTEXT index {} already exists on {}", indexName, table);
+            return;
+        }
+
+        log.info("🔧 Creating FULLTEXT index {} on {}({})...", indexName, table, columns);
+        jdbcTemplate.execute("CREATE FULLTEXT INDEX " + indexName + " ON " + table + " (" + columns + ")");
+        log.info("✅ FULLTEXT index {} created", indexName);
+    }
+}
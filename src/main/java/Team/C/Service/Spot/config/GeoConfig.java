@@ -0,0 +1,34 @@
+package Team.C.Service.Spot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "geo")
+public class GeoConfig {
+
+    /**
+     * Classpath CSV with pincode,latitude,longitude rows
+     */
+    private String centroidsResource = "geo/pincode-centroids.csv";
+
+    /**
+     * Service radius assumed for listings that do not declare one
+     */
+    private int defaultServiceRadiusKm = 10;
+
+    /**
+     * Largest service radius accepted on write and indexed; bounds the grid cells one listing occupies
+     */
+    private int maxServiceRadiusKm = 100;
+
+    /**
+     * Side of a spatial grid cell in degrees (0.1 degree is about 11 km)
+     */
+    private double cellSizeDegrees = 0.1;
+
+}
@@ -0,0 +1,51 @@
+package Team.C.Service.Spot.config;
+
+import Team.C.Service.Spot.model.IdSequences;
+import Team.C.Service.Spot.repository.IdSequenceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Migrates existing databases to the table-backed entity ID generators.
+ *
+ * Rows created while the entities used IDENTITY keep their IDs; each
+ * id_sequences row is seeded (or moved forward) to MAX(id) + 1 of its table.
+ * This runs after Hibernate has created the id_sequences table and data.sql
+ * has run, but before the web server accepts requests and before the other
+ * startup runners (such as AdminInitializer) insert anything.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+    /**
+     * sequence name -> entity table
+     */
+    private static final Map<String, String> SEQUENCES = new LinkedHashMap<>();
+
+    static {
+        SEQUENCES.put(IdSequences.USERS, "users");
+        SEQUENCES.put(IdSequences.SERVICE_CATEGORIES, "service_categories");
+        SEQUENCES.put(IdSequences.SERVICE_LISTINGS, "service_listings");
+        SEQUENCES.put(IdSequences.SPECIFIC_AVAILABILITY, "specific_availability");
+        SEQUENCES.put(IdSequences.BOOKINGS, "bookings");
+        SEQUENCES.put(IdSequences.REVIEWS, "reviews");
+        SEQUENCES.put(IdSequences.OUTBOX_EVENTS, "outbox_events");
+    }
+
+    private final IdSequenceRepository idSequenceRepository;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SEQUENCES.forEach((sequence, table) -> {
+            long next = idSequenceRepository.synchronize(sequence, table);
+            log.info("✅ ID sequence {} ready, next id {}", sequence, next);
+        });
+    }
+}
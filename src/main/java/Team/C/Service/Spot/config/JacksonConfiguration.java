@@ -0,0 +1,29 @@
+package Team.C.Service.Spot.config;
+
+import Team.C.Service.Spot.web.SparseFieldsetFilter;
+import org.springframework.boot.jackson.autoconfigure.JsonMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JSON mapper configuration.
+ * Registers the sparse fieldset filter used by SparseFieldsetAdvice.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Configuration
+public class JacksonConfiguration {
+
+    /**
+     * Listing, booking and user responses carry the sparse fieldset filter ID;
+     * without a filter hint every property is written.
+     *
+     * @return customizer for the auto-configured JsonMapper
+     */
+    @Bean
+    public JsonMapperBuilderCustomizer sparseFieldsetCustomizer() {
+        return SparseFieldsetFilter::register;
+    }
+}
@@ -0,0 +1,24 @@
+package Team.C.Service.Spot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "listing-import")
+public class ListingImportConfig {
+
+    /**
+     * Rows inserted per JDBC batch (and per transaction)
+     */
+    private int batchSize = 500;
+
+    /**
+     * Rows accepted per import; the rest of the body is ignored and the report is marked truncated
+     */
+    private int maxRows = 50000;
+
+}
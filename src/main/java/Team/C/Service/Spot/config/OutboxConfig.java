@@ -0,0 +1,45 @@
+package Team.C.Service.Spot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxConfig {
+
+    /**
+     * Poll the outbox for changes made by other nodes
+     */
+    private boolean dispatchEnabled = true;
+
+    /**
+     * Delay between two polls of the outbox
+     */
+    private long pollIntervalMs = 1000;
+
+    /**
+     * Rows read per query when polling
+     */
+    private int batchSize = 500;
+
+    /**
+     * How far back each poll looks again, to pick up rows whose transaction
+     * committed after a later row was already read; must exceed the longest write transaction
+     */
+    private long lookbackSeconds = 60;
+
+    /**
+     * Rows older than this are deleted
+     */
+    private long retentionHours = 24;
+
+    /**
+     * Delay between two clean-ups of old rows
+     */
+    private long cleanupIntervalMs = 3600000;
+
+}
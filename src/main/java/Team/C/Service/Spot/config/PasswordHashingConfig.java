@@ -0,0 +1,49 @@
+package Team.C.Service.Spot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "password-hashing")
+public class PasswordHashingConfig {
+
+    /**
+     * Threads hashing passwords; 0 uses one per available processor
+     */
+    private int threads = 0;
+
+    /**
+     * Hash requests allowed to wait for a thread; beyond this, requests are rejected with 503
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * Longest a request waits for its hash (queueing included) before giving up with 503
+     */
+    private long maxWaitMs = 5000;
+
+    /**
+     * Fixed BCrypt cost; 0 calibrates the cost at startup to hit targetHashMs
+     */
+    private int strength = 0;
+
+    /**
+     * Hash time the startup calibration aims for, in milliseconds
+     */
+    private long targetHashMs = 100;
+
+    /**
+     * Lowest cost the calibration may pick, however slow the node
+     */
+    private int minStrength = 10;
+
+    /**
+     * Highest cost the calibration may pick, however fast the node
+     */
+    private int maxStrength = 14;
+
+}
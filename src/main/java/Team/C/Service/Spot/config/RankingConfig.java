@@ -0,0 +1,69 @@
+package Team.C.Service.Spot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "ranking")
+public class RankingConfig {
+
+    /**
+     * Re-rank browse and search results; when false the retrieval order is kept
+     */
+    private boolean enabled = true;
+
+    /**
+     * Weight of the retrieval order (text relevance for keyword searches)
+     */
+    private double relevanceWeight = 0.3;
+
+    /**
+     * Weight of the review-count-smoothed average rating
+     */
+    private double ratingWeight = 0.3;
+
+    /**
+     * Weight of the booking count
+     */
+    private double popularityWeight = 0.15;
+
+    /**
+     * Weight of listing age (newer is better)
+     */
+    private double recencyWeight = 0.05;
+
+    /**
+     * Weight of the provider being verified
+     */
+    private double verifiedWeight = 0.1;
+
+    /**
+     * Weight of the distance to the searched location (location searches only)
+     */
+    private double distanceWeight = 0.1;
+
+    /**
+     * Rating assumed for a listing before it has reviews
+     */
+    private double ratingPriorMean = 3.5;
+
+    /**
+     * Number of reviews the prior rating counts as
+     */
+    private double ratingPriorReviews = 5;
+
+    /**
+     * Age at which the recency signal has halved
+     */
+    private double recencyHalfLifeDays = 90;
+
+    /**
+     * Distance at which the distance signal has halved
+     */
+    private double distanceScaleKm = 5;
+
+}
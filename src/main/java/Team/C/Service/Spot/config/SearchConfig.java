@@ -0,0 +1,59 @@
+package Team.C.Service.Spot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "search")
+public class SearchConfig {
+
+    /**
+     * Backend used by listing and provider keyword search
+     */
+    private Mode mode = Mode.INDEX;
+
+    /**
+     * MATCH ... AGAINST flavour used when mode is FULLTEXT
+     */
+    private FullTextMode fullTextMode = FullTextMode.NATURAL_LANGUAGE;
+
+    /**
+     * Maximum number of listings (or providers) returned by a keyword search
+     */
+    private int maxResults = 200;
+
+    /**
+     * Add typo-tolerant matches when an exact search returns fewer results than this (0 disables)
+     */
+    private int fuzzyMinResults = 5;
+
+    /**
+     * Maximum edit distance of a fuzzy match for words longer than four characters
+     */
+    private int fuzzyMaxEdits = 2;
+
+    public enum Mode {
+        /**
+         * In-memory inverted index (listings); LIKE for providers
+         */
+        INDEX,
+        /**
+         * MySQL FULLTEXT indexes queried with MATCH ... AGAINST
+         */
+        FULLTEXT,
+        /**
+         * Legacy LIKE '%keyword%' queries
+         */
+        LIKE
+    }
+
+    public enum FullTextMode {
+        NATURAL_LANGUAGE,
+        BOOLEAN
+    }
+
+}
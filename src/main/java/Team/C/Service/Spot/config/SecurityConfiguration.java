@@ -1,5 +1,6 @@
 package Team.C.Service.Spot.config;
 
+import Team.C.Service.Spot.security.BCryptCostCalibration;
 import Team.C.Service.Spot.security.JwtAuthenticationEntryPoint;
 import Team.C.Service.Spot.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
@@ -46,13 +47,13 @@ public class SecurityConfiguration {
 
     /**
      * BCrypt password encoder bean.
-     * Uses strength 10 for password hashing.
+     * Uses the cost calibrated for this node at startup.
      *
      * @return PasswordEncoder instance for password encoding/matching
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(10);
+    public PasswordEncoder passwordEncoder(BCryptCostCalibration costCalibration) {
+        return new BCryptPasswordEncoder(costCalibration.getStrength());
     }
 
     /**
@@ -78,6 +79,7 @@ public class SecurityConfiguration {
                     "/api/categories/**",              // Public categories
                     "/api/services",                   // Browse services
                     "/api/services/**",                // Service details
+                    "/api/users/providers",            // Provider directory
                     "/api/users/providers/**",         // Browse providers
                     "/error",                          // Error page
                     "/actuator/**"                     // Health checks (if enabled)
@@ -0,0 +1,35 @@
+package Team.C.Service.Spot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "user-deletion")
+public class UserDeletionConfig {
+
+    /**
+     * Rows removed per DELETE statement; each chunk commits on its own so row locks are held briefly
+     */
+    private int chunkSize = 500;
+
+    /**
+     * How long the status of a finished deletion job stays available
+     */
+    private long statusRetentionMinutes = 60;
+
+    /**
+     * Delay between two scans for jobs to resume (left behind by a restart, a crash or a full executor)
+     */
+    private long resumeIntervalMs = 60000;
+
+    /**
+     * A job whose heartbeat is older than this is considered abandoned and resumed;
+     * must exceed the longest chunk plus the clock skew between nodes
+     */
+    private long staleAfterSeconds = 120;
+
+}
@@ -0,0 +1,39 @@
+package Team.C.Service.Spot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "views")
+public class ViewCounterConfig {
+
+    /**
+     * Buffer views in memory and write them in batches; false writes every view immediately
+     */
+    private boolean buffered = true;
+
+    /**
+     * Delay between two flushes of the buffered views
+     */
+    private long flushIntervalMs = 5000;
+
+    /**
+     * Loss tolerance: flush early once this many views are waiting in memory
+     */
+    private long maxPendingViews = 10000;
+
+    /**
+     * Rows per JDBC batch when flushing
+     */
+    private int batchSize = 500;
+
+    /**
+     * Write the remaining buffered views when the application shuts down
+     */
+    private boolean drainOnShutdown = true;
+
+}
@@ -3,11 +3,13 @@ package Team.C.Service.Spot.controller;
 import Team.C.Service.Spot.dto.response.AdminStatisticsResponse;
 import Team.C.Service.Spot.dto.response.ApiResponse;
 import Team.C.Service.Spot.dto.response.BookingResponse;
+import Team.C.Service.Spot.dto.response.UserDeletionStatus;
 import Team.C.Service.Spot.dto.response.UserResponse;
 import Team.C.Service.Spot.service.AdminService;
 import Team.C.Service.Spot.service.BookingService;
-import Team.C.Service.Spot.service.UserService;
+import Team.C.Service.Spot.service.UserDeletionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -30,7 +32,7 @@ import java.util.List;
 public class AdminController {
 
     private final AdminService adminService;
-    private final UserService userService;
+    private final UserDeletionService userDeletionService;
     private final BookingService bookingService;
 
     /**
@@ -106,14 +108,28 @@ public class AdminController {
 
     /**
      * Delete a user account.
+     * The account is deactivated at once and its data removed in the background.
      *
      * @param userId user ID to delete
-     * @return success response
+     * @return status of the deletion job
      */
     @DeleteMapping("/users/{userId}")
-    public ResponseEntity<ApiResponse<String>> deleteUser(@PathVariable Long userId) {
-        userService.deleteUser(userId);
-        return ResponseEntity.ok(ApiResponse.success("User deleted successfully", "Deleted"));
+    public ResponseEntity<ApiResponse<UserDeletionStatus>> deleteUser(@PathVariable Long userId) {
+        UserDeletionStatus status = userDeletionService.deleteUser(userId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("User deletion started", status));
+    }
+
+    /**
+     * Get the progress of a user deletion.
+     *
+     * @param jobId job ID returned when the deletion was started
+     * @return status of the deletion job
+     */
+    @GetMapping("/users/deletions/{jobId}")
+    public ResponseEntity<ApiResponse<UserDeletionStatus>> getDeletionStatus(@PathVariable String jobId) {
+        UserDeletionStatus status = userDeletionService.getStatus(jobId);
+        return ResponseEntity.ok(ApiResponse.success("Deletion status retrieved", status));
     }
 
     /**
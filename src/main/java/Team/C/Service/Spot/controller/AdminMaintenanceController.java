@@ -1,6 +1,8 @@
 package Team.C.Service.Spot.controller;
 
+import Team.C.Service.Spot.cache.LruCache;
 import Team.C.Service.Spot.dto.response.ApiResponse;
+import Team.C.Service.Spot.security.PasswordHasher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -8,6 +10,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.Map;
 
 /**
  * Admin Maintenance Controller
@@ -91,5 +94,32 @@ public class AdminMaintenanceController {
             ApiResponse.success("Maintenance statistics retrieved", stats)
         );
     }
-}
 
+    /**
+     * Get cache statistics
+     * Shows hits, misses, evictions and size of the in-memory caches
+     *
+     * @return Statistics per cache
+     */
+    @GetMapping("/caches")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, LruCache.Stats>>> getCacheStats() {
+        return ResponseEntity.ok(
+            ApiResponse.success("Cache statistics retrieved", maintenanceService.getCacheStats())
+        );
+    }
+
+    /**
+     * Get password hashing statistics
+     * Shows queue depth, rejections and hash latency of the login hashing executor
+     *
+     * @return Password hashing statistics
+     */
+    @GetMapping("/password-hashing")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<PasswordHasher.Stats>> getPasswordHashingStats() {
+        return ResponseEntity.ok(
+            ApiResponse.success("Password hashing statistics retrieved", maintenanceService.getPasswordHashingStats())
+        );
+    }
+}
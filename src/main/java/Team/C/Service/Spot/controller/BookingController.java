@@ -1,6 +1,7 @@
 package Team.C.Service.Spot.controller;
 
 import Team.C.Service.Spot.dto.request.CreateBookingRequest;
+import Team.C.Service.Spot.dto.request.ResponseView;
 import Team.C.Service.Spot.dto.request.UpdateBookingStatusRequest;
 import Team.C.Service.Spot.dto.response.ApiResponse;
 import Team.C.Service.Spot.dto.response.BookingResponse;
@@ -48,11 +49,16 @@ public class BookingController {
      * Get booking by ID.
      *
      * @param id booking ID
+     * @param fields optional comma-separated fields to return
+     * @param expand optional comma-separated nested objects to include
      * @return booking details
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<BookingResponse>> getBookingById(@PathVariable Long id) {
-        BookingResponse booking = bookingService.getBookingById(id);
+    public ResponseEntity<ApiResponse<BookingResponse>> getBookingById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
+        BookingResponse booking = bookingService.getBookingById(id, ResponseView.of(fields, expand));
         return ResponseEntity.ok(ApiResponse.success("Booking retrieved successfully", booking));
     }
 
@@ -62,13 +68,17 @@ public class BookingController {
      *
      * @param userId user ID
      * @param role user role (CUSTOMER or PROVIDER)
+     * @param fields optional comma-separated fields to return
+     * @param expand optional comma-separated nested objects to include
      * @return list of bookings
      */
     @GetMapping
     public ResponseEntity<ApiResponse<List<BookingResponse>>> getBookingsByUser(
             @RequestParam Long userId,
-            @RequestParam(required = false, defaultValue = "CUSTOMER") String role) {
-        List<BookingResponse> bookings = bookingService.getBookingsByUser(userId, role);
+            @RequestParam(required = false, defaultValue = "CUSTOMER") String role,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
+        List<BookingResponse> bookings = bookingService.getBookingsByUser(userId, role, ResponseView.of(fields, expand));
         return ResponseEntity.ok(ApiResponse.success("Bookings retrieved successfully", bookings));
     }
 
@@ -76,12 +86,16 @@ public class BookingController {
      * Get bookings by customer ID.
      *
      * @param customerId customer ID
+     * @param fields optional comma-separated fields to return
+     * @param expand optional comma-separated nested objects to include
      * @return list of customer bookings
      */
     @GetMapping("/customer/{customerId}")
     public ResponseEntity<ApiResponse<List<BookingResponse>>> getBookingsByCustomer(
-            @PathVariable Long customerId) {
-        List<BookingResponse> bookings = bookingService.getBookingsByCustomer(customerId);
+            @PathVariable Long customerId,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
+        List<BookingResponse> bookings = bookingService.getBookingsByCustomer(customerId, ResponseView.of(fields, expand));
         return ResponseEntity.ok(ApiResponse.success("Customer bookings retrieved successfully", bookings));
     }
 
@@ -89,12 +103,16 @@ public class BookingController {
      * Get bookings by provider ID.
      *
      * @param providerId provider ID
+     * @param fields optional comma-separated fields to return
+     * @param expand optional comma-separated nested objects to include
      * @return list of provider bookings
      */
     @GetMapping("/provider/{providerId}")
     public ResponseEntity<ApiResponse<List<BookingResponse>>> getBookingsByProvider(
-            @PathVariable Long providerId) {
-        List<BookingResponse> bookings = bookingService.getBookingsByProvider(providerId);
+            @PathVariable Long providerId,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
+        List<BookingResponse> bookings = bookingService.getBookingsByProvider(providerId, ResponseView.of(fields, expand));
         return ResponseEntity.ok(ApiResponse.success("Provider bookings retrieved successfully", bookings));
     }
 
@@ -102,12 +120,16 @@ public class BookingController {
      * Get bookings by service listing ID.
      *
      * @param serviceId service listing ID
+     * @param fields optional comma-separated fields to return
+     * @param expand optional comma-separated nested objects to include
      * @return list of bookings
      */
     @GetMapping("/service/{serviceId}")
     public ResponseEntity<ApiResponse<List<BookingResponse>>> getBookingsByService(
-            @PathVariable Long serviceId) {
-        List<BookingResponse> bookings = bookingService.getBookingsByServiceListing(serviceId);
+            @PathVariable Long serviceId,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
+        List<BookingResponse> bookings = bookingService.getBookingsByServiceListing(serviceId, ResponseView.of(fields, expand));
         return ResponseEntity.ok(ApiResponse.success("Service bookings retrieved successfully", bookings));
     }
 
@@ -115,12 +137,16 @@ public class BookingController {
      * Get bookings by status.
      *
      * @param status booking status
+     * @param fields optional comma-separated fields to return
+     * @param expand optional comma-separated nested objects to include
      * @return list of bookings
      */
     @GetMapping("/status/{status}")
     public ResponseEntity<ApiResponse<List<BookingResponse>>> getBookingsByStatus(
-            @PathVariable BookingStatus status) {
-        List<BookingResponse> bookings = bookingService.getBookingsByStatus(status);
+            @PathVariable BookingStatus status,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand) {
+        List<BookingResponse> bookings = bookingService.getBookingsByStatus(status, ResponseView.of(fields, expand));
         return ResponseEntity.ok(ApiResponse.success("Bookings retrieved successfully", bookings));
     }
 
@@ -2,14 +2,26 @@ package Team.C.Service.Spot.controller;
 
 import Team.C.Service.Spot.dto.request.CreateServiceListingRequest;
 import Team.C.Service.Spot.dto.response.ApiResponse;
+import Team.C.Service.Spot.dto.response.CursorPageResponse;
+import Team.C.Service.Spot.dto.response.FacetedListingResponse;
+import Team.C.Service.Spot.dto.response.ListingImportResponse;
 import Team.C.Service.Spot.dto.response.ServiceListingResponse;
+import Team.C.Service.Spot.model.enums.ListingImportFormat;
+import Team.C.Service.Spot.model.enums.ListingSort;
+import Team.C.Service.Spot.search.ListingFacetIndex;
+import Team.C.Service.Spot.search.ListingPriceIndex;
+import Team.C.Service.Spot.search.ListingSuggester;
+import Team.C.Service.Spot.service.ListingImportService;
 import Team.C.Service.Spot.service.ServiceListingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -26,20 +38,123 @@ import java.util.List;
 @CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"})
 public class ServiceListingController {
 
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
     private final ServiceListingService serviceListingService;
+    private final ListingImportService listingImportService;
 
     /**
-     * Get all service listings.
-     * Returns all active listings for customers to browse.
+     * Browse active service listings page by page.
+     * Pass the returned nextCursor as "after" to fetch the following page.
      *
-     * @return list of all active service listings
+     * @param sort sort order (NEWEST, PRICE_ASC, PRICE_DESC, RATING, POPULARITY)
+     * @param after cursor from the previous page
+     * @param limit page size (default 20, max 100)
+     * @return one page of listings with the next cursor
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<ServiceListingResponse>>> getAllListings() {
+    public ResponseEntity<ApiResponse<CursorPageResponse<ServiceListingResponse>>> browseListings(
+            @RequestParam(defaultValue = "NEWEST") ListingSort sort,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        CursorPageResponse<ServiceListingResponse> page = serviceListingService.browseListings(sort, after, limit);
+        return ResponseEntity.ok(ApiResponse.success("Service listings retrieved successfully", page));
+    }
+
+    /**
+     * Legacy unpaged list of active service listings, capped at the newest 500.
+     * Kept for clients that filter on their side; new clients should page with {@link #browseListings}.
+     *
+     * @return up to 500 active service listings
+     */
+    @GetMapping("/all")
+    public ResponseEntity<ApiResponse<List<ServiceListingResponse>>> getAllListingsLegacy() {
         List<ServiceListingResponse> listings = serviceListingService.getAllActiveListings();
         return ResponseEntity.ok(ApiResponse.success("Service listings retrieved successfully", listings));
     }
 
+    /**
+     * Filter listings for the browse page and get facet counts in one call.
+     * Every filter is optional; each facet is counted with the other filters applied.
+     *
+     * @param city city name
+     * @param categoryId category ID
+     * @param minPrice minimum price (inclusive)
+     * @param maxPrice maximum price (inclusive)
+     * @param minRating minimum average rating
+     * @param pincode pincode
+     * @param page zero-based page number (default 0)
+     * @param size page size (default 20, max 100)
+     * @return matching listings with city, category, pincode, price band and rating counts
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<ApiResponse<FacetedListingResponse>> getFacetedListings(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(required = false) Integer pincode,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        ListingFacetIndex.Filter filter = ListingFacetIndex.Filter.builder()
+                .city(city != null && !city.isBlank() ? city : null)
+                .categoryId(categoryId)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .minRating(minRating)
+                .pincode(pincode)
+                .build();
+        FacetedListingResponse response = serviceListingService.getFacetedListings(filter, page, size);
+        return ResponseEntity.ok(ApiResponse.success("Service listings retrieved successfully", response));
+    }
+
+    /**
+     * Get active listings priced within a range, cheapest first.
+     *
+     * @param city optional city filter
+     * @param categoryId optional category filter
+     * @param minPrice inclusive lower bound
+     * @param maxPrice inclusive upper bound
+     * @param page zero-based page number (default 0)
+     * @param size page size (default 20, max 100)
+     * @return listings in the price range
+     */
+    @GetMapping("/price-range")
+    public ResponseEntity<ApiResponse<List<ServiceListingResponse>>> getListingsByPriceRange(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        List<ServiceListingResponse> listings =
+                serviceListingService.getListingsByPriceRange(city, categoryId, minPrice, maxPrice, page, size);
+        return ResponseEntity.ok(ApiResponse.success("Service listings retrieved successfully", listings));
+    }
+
+    /**
+     * Get the price histogram for a price slider and the number of listings in the selected range.
+     *
+     * @param city optional city filter
+     * @param categoryId optional category filter
+     * @param minPrice selected lower bound
+     * @param maxPrice selected upper bound
+     * @param bins number of histogram bins (default 20, max 100)
+     * @return histogram over the full price range and the count of selected listings
+     */
+    @GetMapping("/price-histogram")
+    public ResponseEntity<ApiResponse<ListingPriceIndex.Histogram>> getPriceHistogram(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(defaultValue = "20") int bins) {
+        ListingPriceIndex.Histogram histogram =
+                serviceListingService.getPriceHistogram(city, categoryId, minPrice, maxPrice, bins);
+        return ResponseEntity.ok(ApiResponse.success("Price histogram retrieved successfully", histogram));
+    }
+
     /**
      * Get service listing by ID.
      *
@@ -75,6 +190,42 @@ public class ServiceListingController {
                 .body(ApiResponse.success("Service listing created successfully", listing));
     }
 
+    /**
+     * Bulk-import service listings for a provider.
+     * The body is streamed as NDJSON (application/x-ndjson) or CSV with a header row (text/csv),
+     * one CreateServiceListingRequest per line.
+     * Temporary: providerId from request param (should come from JWT token in production)
+     *
+     * @param contentType body content type
+     * @param providerId provider owning the listings
+     * @param body raw request body
+     * @return per-row import report
+     */
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ApiResponse<ListingImportResponse>> importListings(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestParam(required = false) Long providerId,
+            InputStream body) {
+
+        if (providerId == null) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Provider ID is required", HttpStatus.BAD_REQUEST.value()));
+        }
+
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        ListingImportFormat format;
+        if (TEXT_CSV.equalsTypeAndSubtype(mediaType)) {
+            format = ListingImportFormat.CSV;
+        } else if (MediaType.APPLICATION_NDJSON.equalsTypeAndSubtype(mediaType)) {
+            format = ListingImportFormat.NDJSON;
+        } else {
+            throw new IllegalArgumentException("Unsupported import content type: " + contentType);
+        }
+        ListingImportResponse report = listingImportService.importListings(body, format, providerId);
+        return ResponseEntity.ok(ApiResponse.success(
+                "Imported " + report.getCreated() + " of " + report.getTotalRows() + " listings", report));
+    }
+
     /**
      * Update service listing.
      *
@@ -171,6 +322,41 @@ public class ServiceListingController {
         return ResponseEntity.ok(ApiResponse.success("Search results retrieved successfully", listings));
     }
 
+    /**
+     * Autocomplete a partly typed search across listing titles, categories and cities.
+     *
+     * @param q typed text
+     * @param limit maximum number of suggestions (default 10)
+     * @return suggestions, most booked and viewed first
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<ListingSuggester.Suggestion>>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<ListingSuggester.Suggestion> suggestions = serviceListingService.suggest(q, limit);
+        return ResponseEntity.ok(ApiResponse.success("Suggestions retrieved successfully", suggestions));
+    }
+
+    /**
+     * Get listings whose service radius reaches a customer location.
+     * Give either a pincode or latitude and longitude.
+     *
+     * @param pincode customer pincode
+     * @param lat customer latitude
+     * @param lon customer longitude
+     * @param limit maximum number of results (default 50)
+     * @return list of listings that serve the location, nearest first
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<List<ServiceListingResponse>>> getListingsReaching(
+            @RequestParam(required = false) Integer pincode,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lon,
+            @RequestParam(defaultValue = "50") int limit) {
+        List<ServiceListingResponse> listings = serviceListingService.getListingsReaching(pincode, lat, lon, limit);
+        return ResponseEntity.ok(ApiResponse.success("Nearby listings retrieved successfully", listings));
+    }
+
     /**
      * Get featured listings.
      *
@@ -186,14 +372,18 @@ public class ServiceListingController {
      * Get top-rated listings by city.
      *
      * @param city city name
+     * @param categoryId optional category filter
      * @param minRating minimum rating (default 4.0)
+     * @param limit maximum number of listings (default 20, max 100)
      * @return list of top-rated listings
      */
     @GetMapping("/top-rated")
     public ResponseEntity<ApiResponse<List<ServiceListingResponse>>> getTopRatedListings(
             @RequestParam String city,
-            @RequestParam(defaultValue = "4.0") Double minRating) {
-        List<ServiceListingResponse> listings = serviceListingService.getTopRatedListings(city, minRating);
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "4.0") Double minRating,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<ServiceListingResponse> listings = serviceListingService.getTopRatedListings(city, categoryId, minRating, limit);
         return ResponseEntity.ok(ApiResponse.success("Top-rated listings retrieved successfully", listings));
     }
 
@@ -201,12 +391,16 @@ public class ServiceListingController {
      * Get popular listings by city.
      *
      * @param city city name
+     * @param categoryId optional category filter
+     * @param limit maximum number of listings (default 20, max 100)
      * @return list of popular listings
      */
     @GetMapping("/popular")
     public ResponseEntity<ApiResponse<List<ServiceListingResponse>>> getPopularListings(
-            @RequestParam String city) {
-        List<ServiceListingResponse> listings = serviceListingService.getPopularListings(city);
+            @RequestParam String city,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<ServiceListingResponse> listings = serviceListingService.getPopularListings(city, categoryId, limit);
         return ResponseEntity.ok(ApiResponse.success("Popular listings retrieved successfully", listings));
     }
 
@@ -238,13 +432,7 @@ public class ServiceListingController {
      */
     @GetMapping("/locations/cities")
     public ResponseEntity<ApiResponse<List<String>>> getAvailableCities() {
-        List<ServiceListingResponse> allListings = serviceListingService.getFeaturedListings();
-        List<String> cities = allListings.stream()
-                .map(ServiceListingResponse::getCity)
-                .filter(city -> city != null && !city.isEmpty())
-                .distinct()
-                .sorted()
-                .collect(java.util.stream.Collectors.toList());
+        List<String> cities = serviceListingService.getAvailableCities();
         return ResponseEntity.ok(ApiResponse.success("Available cities retrieved successfully", cities));
     }
 
@@ -255,13 +443,7 @@ public class ServiceListingController {
      */
     @GetMapping("/types")
     public ResponseEntity<ApiResponse<List<String>>> getAvailableServiceTypes() {
-        List<ServiceListingResponse> allListings = serviceListingService.getFeaturedListings();
-        List<String> serviceTypes = allListings.stream()
-                .map(listing -> listing.getCategory() != null ? listing.getCategory().getName() : null)
-                .filter(type -> type != null && !type.isEmpty())
-                .distinct()
-                .sorted()
-                .collect(java.util.stream.Collectors.toList());
+        List<String> serviceTypes = serviceListingService.getAvailableServiceTypes();
         return ResponseEntity.ok(ApiResponse.success("Available service types retrieved successfully", serviceTypes));
     }
 
@@ -272,13 +454,7 @@ public class ServiceListingController {
      */
     @GetMapping("/locations/pincodes")
     public ResponseEntity<ApiResponse<List<Integer>>> getAvailablePincodes() {
-        List<ServiceListingResponse> allListings = serviceListingService.getFeaturedListings();
-        List<Integer> pincodes = allListings.stream()
-                .map(ServiceListingResponse::getPincode)
-                .filter(pincode -> pincode != null)
-                .distinct()
-                .sorted()
-                .collect(java.util.stream.Collectors.toList());
+        List<Integer> pincodes = serviceListingService.getAvailablePincodes();
         return ResponseEntity.ok(ApiResponse.success("Available pincodes retrieved successfully", pincodes));
     }
 
@@ -286,16 +462,16 @@ public class ServiceListingController {
      * Get service listings by pincode.
      *
      * @param pincode pincode to search
-     * @return list of services in that pincode
+     * @param page zero-based page number (default 0)
+     * @param size page size (default 20, max 100)
+     * @return one page of active services in that pincode
      */
     @GetMapping("/pincode/{pincode}")
     public ResponseEntity<ApiResponse<List<ServiceListingResponse>>> getListingsByPincode(
-            @PathVariable Integer pincode) {
-        List<ServiceListingResponse> allListings = serviceListingService.getFeaturedListings();
-        List<ServiceListingResponse> filteredListings = allListings.stream()
-                .filter(listing -> pincode.equals(listing.getPincode()))
-                .collect(java.util.stream.Collectors.toList());
-        return ResponseEntity.ok(ApiResponse.success("Services in pincode " + pincode + " retrieved successfully", filteredListings));
+            @PathVariable Integer pincode,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        List<ServiceListingResponse> listings = serviceListingService.getListingsByPincode(pincode, page, size);
+        return ResponseEntity.ok(ApiResponse.success("Services in pincode " + pincode + " retrieved successfully", listings));
     }
 }
-
@@ -2,7 +2,11 @@ package Team.C.Service.Spot.controller;
 
 import Team.C.Service.Spot.dto.request.UpdateUserRequest;
 import Team.C.Service.Spot.dto.response.ApiResponse;
+import Team.C.Service.Spot.dto.response.CursorPageResponse;
+import Team.C.Service.Spot.dto.response.UserDeletionStatus;
 import Team.C.Service.Spot.dto.response.UserResponse;
+import Team.C.Service.Spot.service.ProviderDirectoryService;
+import Team.C.Service.Spot.service.UserDeletionService;
 import Team.C.Service.Spot.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +31,8 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final ProviderDirectoryService providerDirectoryService;
+    private final UserDeletionService userDeletionService;
 
     /**
      * Get user profile by ID.
@@ -81,13 +87,28 @@ public class UserController {
      * Delete user account.
      * TODO: Extract user ID from JWT token and verify authorization.
      *
+     * The account is deactivated at once and its data removed in the background.
+     *
      * @param id user ID
-     * @return success response
+     * @return status of the deletion job
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<ApiResponse<String>> deleteUser(@PathVariable Long id) {
-        userService.deleteUser(id);
-        return ResponseEntity.ok(ApiResponse.success("User account deleted successfully", "Deleted"));
+    public ResponseEntity<ApiResponse<UserDeletionStatus>> deleteUser(@PathVariable Long id) {
+        UserDeletionStatus status = userDeletionService.deleteUser(id);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("User account deletion started", status));
+    }
+
+    /**
+     * Get the progress of an account deletion.
+     *
+     * @param jobId job ID returned when the deletion was started
+     * @return status of the deletion job
+     */
+    @GetMapping("/deletions/{jobId}")
+    public ResponseEntity<ApiResponse<UserDeletionStatus>> getDeletionStatus(@PathVariable String jobId) {
+        UserDeletionStatus status = userDeletionService.getStatus(jobId);
+        return ResponseEntity.ok(ApiResponse.success("Deletion status retrieved", status));
     }
 
     /**
@@ -115,6 +136,31 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success("Search results retrieved successfully", providers));
     }
 
+    /**
+     * Browse the provider directory page by page.
+     * Every filter is optional; pass the returned nextCursor as "after" to fetch the following page.
+     *
+     * @param city city name
+     * @param pincode pincode
+     * @param serviceType exact service type
+     * @param verified only verified (true) or unverified (false) providers
+     * @param after cursor from the previous page
+     * @param limit page size (default 20, max 100)
+     * @return one page of active providers with the next cursor
+     */
+    @GetMapping("/providers")
+    public ResponseEntity<ApiResponse<CursorPageResponse<UserResponse>>> browseProviders(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) Integer pincode,
+            @RequestParam(required = false) String serviceType,
+            @RequestParam(required = false) Boolean verified,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        CursorPageResponse<UserResponse> page = providerDirectoryService.browseProviders(
+                city, pincode, serviceType, verified, after, limit);
+        return ResponseEntity.ok(ApiResponse.success("Providers retrieved successfully", page));
+    }
+
     /**
      * Get list of unique cities where providers are available.
      *
@@ -122,47 +168,33 @@ public class UserController {
      */
     @GetMapping("/providers/locations/cities")
     public ResponseEntity<ApiResponse<List<String>>> getProviderCities() {
-        List<UserResponse> providers = userService.searchProviders("");
-        List<String> cities = providers.stream()
-                .map(UserResponse::getCity)
-                .filter(city -> city != null && !city.isEmpty())
-                .distinct()
-                .sorted()
-                .collect(java.util.stream.Collectors.toList());
+        List<String> cities = providerDirectoryService.getProviderCities();
         return ResponseEntity.ok(ApiResponse.success("Provider cities retrieved successfully", cities));
     }
 
     /**
      * Get list of unique service types offered by providers.
      *
+     * @param city optional city to restrict the service types to
      * @return list of service types
      */
     @GetMapping("/providers/service-types")
-    public ResponseEntity<ApiResponse<List<String>>> getProviderServiceTypes() {
-        List<UserResponse> providers = userService.searchProviders("");
-        List<String> serviceTypes = providers.stream()
-                .map(UserResponse::getServiceType)
-                .filter(type -> type != null && !type.isEmpty())
-                .distinct()
-                .sorted()
-                .collect(java.util.stream.Collectors.toList());
+    public ResponseEntity<ApiResponse<List<String>>> getProviderServiceTypes(
+            @RequestParam(required = false) String city) {
+        List<String> serviceTypes = providerDirectoryService.getProviderServiceTypes(city);
         return ResponseEntity.ok(ApiResponse.success("Provider service types retrieved successfully", serviceTypes));
     }
 
     /**
      * Get list of unique pincodes where providers are available.
      *
+     * @param city optional city to restrict the pincodes to
      * @return list of pincodes
      */
     @GetMapping("/providers/locations/pincodes")
-    public ResponseEntity<ApiResponse<List<Integer>>> getProviderPincodes() {
-        List<UserResponse> providers = userService.searchProviders("");
-        List<Integer> pincodes = providers.stream()
-                .map(UserResponse::getPincode)
-                .filter(pincode -> pincode != null)
-                .distinct()
-                .sorted()
-                .collect(java.util.stream.Collectors.toList());
+    public ResponseEntity<ApiResponse<List<Integer>>> getProviderPincodes(
+            @RequestParam(required = false) String city) {
+        List<Integer> pincodes = providerDirectoryService.getProviderPincodes(city);
         return ResponseEntity.ok(ApiResponse.success("Provider pincodes retrieved successfully", pincodes));
     }
 
@@ -170,50 +202,54 @@ public class UserController {
      * Search providers by pincode.
      *
      * @param pincode pincode to search
-     * @return list of providers in that pincode
+     * @param page zero-based page number (default 0)
+     * @param size page size (default 20, max 100)
+     * @return one page of active providers in that pincode
      */
     @GetMapping("/providers/pincode/{pincode}")
     public ResponseEntity<ApiResponse<List<UserResponse>>> getProvidersByPincode(
-            @PathVariable Integer pincode) {
-        List<UserResponse> providers = userService.searchProviders("");
-        List<UserResponse> filteredProviders = providers.stream()
-                .filter(provider -> pincode.equals(provider.getPincode()))
-                .collect(java.util.stream.Collectors.toList());
-        return ResponseEntity.ok(ApiResponse.success("Providers in pincode " + pincode + " retrieved successfully", filteredProviders));
+            @PathVariable Integer pincode,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        List<UserResponse> providers = providerDirectoryService.getProvidersByPincode(pincode, page, size);
+        return ResponseEntity.ok(ApiResponse.success("Providers in pincode " + pincode + " retrieved successfully", providers));
     }
 
     /**
      * Search providers by city.
      *
      * @param city city name
-     * @return list of providers in that city
+     * @param page zero-based page number (default 0)
+     * @param size page size (default 20, max 100)
+     * @return one page of active providers in that city
      */
     @GetMapping("/providers/city/{city}")
     public ResponseEntity<ApiResponse<List<UserResponse>>> getProvidersByCity(
-            @PathVariable String city) {
-        List<UserResponse> providers = userService.searchProviders("");
-        List<UserResponse> filteredProviders = providers.stream()
-                .filter(provider -> city.equalsIgnoreCase(provider.getCity()))
-                .collect(java.util.stream.Collectors.toList());
-        return ResponseEntity.ok(ApiResponse.success("Providers in " + city + " retrieved successfully", filteredProviders));
+            @PathVariable String city,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        List<UserResponse> providers = providerDirectoryService.getProvidersByCity(city, page, size);
+        return ResponseEntity.ok(ApiResponse.success("Providers in " + city + " retrieved successfully", providers));
     }
 
     /**
      * Delete own profile (self-deletion for customers and providers).
      * User can delete their own account.
      *
+     * The account is deactivated at once and its data removed in the background.
+     *
      * @param id user ID
-     * @return success message
+     * @return status of the deletion job
      */
     @DeleteMapping("/{id}/delete-profile")
-    public ResponseEntity<ApiResponse<String>> deleteOwnProfile(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<UserDeletionStatus>> deleteOwnProfile(@PathVariable Long id) {
         // TODO: In production, verify that JWT token user ID matches the path variable ID
         // to ensure users can only delete their own accounts
 
-        userService.deleteUser(id);
-        return ResponseEntity.ok(ApiResponse.success(
-                "Your profile has been permanently deleted. All your data including bookings and reviews have been removed.",
-                "Profile deleted successfully"));
+        UserDeletionStatus status = userDeletionService.deleteUser(id);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(
+                "Your profile is being permanently deleted. All your data including bookings and reviews will be removed.",
+                status));
     }
 }
 
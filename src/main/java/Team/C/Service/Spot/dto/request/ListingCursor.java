@@ -0,0 +1,114 @@
+package Team.C.Service.Spot.dto.request;
+
+import Team.C.Service.Spot.model.ServiceListing;
+import Team.C.Service.Spot.model.enums.ListingSort;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for the paginated listing browse API.
+ * Holds the sort key and ID of the last listing on the previous page,
+ * encoded as URL-safe Base64 so clients treat it as an opaque token.
+ * Rating and booking count may be null; a null sort key is encoded as an
+ * empty value and sorts after every non-null key (MySQL puts NULLs last in
+ * descending order).
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Value
+public class ListingCursor {
+
+    ListingSort sort;
+
+    /**
+     * Sort key of the last listing, null when the listing has none
+     */
+    String sortValue;
+    Long id;
+
+    /**
+     * Build the cursor pointing just after the given listing.
+     *
+     * @param sort the active sort order
+     * @param listing the last listing of the current page
+     * @return cursor for the next page
+     */
+    public static ListingCursor after(ListingSort sort, ServiceListing listing) {
+        Object value = switch (sort) {
+            case NEWEST -> listing.getCreatedAt();
+            case PRICE_ASC, PRICE_DESC -> listing.getPrice();
+            case RATING -> listing.getAverageRating();
+            case POPULARITY -> listing.getTotalBookings();
+        };
+        return new ListingCursor(sort, value != null ? value.toString() : null, listing.getId());
+    }
+
+    /**
+     * Decode a cursor token received from a client.
+     *
+     * @param token the opaque cursor
+     * @param expectedSort the sort order of the current request
+     * @return decoded cursor
+     * @throws IllegalArgumentException if the token is malformed or was issued for another sort
+     */
+    public static ListingCursor decode(String token, ListingSort expectedSort) {
+        ListingCursor cursor;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            cursor = new ListingCursor(ListingSort.valueOf(parts[0]), parts[1].isEmpty() ? null : parts[1],
+                    Long.parseLong(parts[2]));
+            cursor.validate();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        if (cursor.getSort() != expectedSort) {
+            throw new IllegalArgumentException("Cursor was issued for sort " + cursor.getSort() + ", not " + expectedSort);
+        }
+        return cursor;
+    }
+
+    /**
+     * Encode the cursor as an opaque URL-safe token.
+     *
+     * @return cursor token
+     */
+    public String encode() {
+        String raw = sort.name() + "|" + (sortValue != null ? sortValue : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean hasNullValue() {
+        return sortValue == null;
+    }
+
+    public Double doubleValue() {
+        return sortValue != null ? Double.valueOf(sortValue) : null;
+    }
+
+    public Integer intValue() {
+        return sortValue != null ? Integer.valueOf(sortValue) : null;
+    }
+
+    public LocalDateTime dateTimeValue() {
+        return LocalDateTime.parse(sortValue);
+    }
+
+    private void validate() {
+        // Creation time and price are NOT NULL columns
+        if (sortValue == null && sort != ListingSort.RATING && sort != ListingSort.POPULARITY) {
+            throw new IllegalArgumentException("Missing sort value");
+        }
+        switch (sort) {
+            case NEWEST -> dateTimeValue();
+            case PRICE_ASC, PRICE_DESC, RATING -> doubleValue();
+            case POPULARITY -> intValue();
+        }
+    }
+}
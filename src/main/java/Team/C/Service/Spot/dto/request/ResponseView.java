@@ -0,0 +1,100 @@
+package Team.C.Service.Spot.dto.request;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Response shape requested by the client through the {@code fields} and
+ * {@code expand} query parameters.
+ *
+ * <p>Without either parameter the response is returned in its full shape.
+ * As soon as one of them is present the response becomes sparse: each object
+ * is reduced to its card fields (or to the listed {@code fields}) and nested
+ * objects are only included when named in {@code expand}.</p>
+ *
+ * <p>Controllers build the view from the query parameters and pass it down,
+ * so mappers can skip (and avoid lazily loading) the nested objects the
+ * client did not ask for.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public final class ResponseView {
+
+    public static final String FIELDS_PARAM = "fields";
+    public static final String EXPAND_PARAM = "expand";
+
+    private static final ResponseView FULL = new ResponseView(false, Set.of(), Set.of());
+
+    private final boolean sparse;
+    private final Set<String> fields;
+    private final Set<String> expand;
+
+    private ResponseView(boolean sparse, Set<String> fields, Set<String> expand) {
+        this.sparse = sparse;
+        this.fields = fields;
+        this.expand = expand;
+    }
+
+    /**
+     * Get the full view, used when the caller is not an API request.
+     *
+     * @return view rendering every field and nested object
+     */
+    public static ResponseView full() {
+        return FULL;
+    }
+
+    /**
+     * Build a view from raw parameter values.
+     *
+     * @param fields comma-separated field names (may be null)
+     * @param expand comma-separated nested object names (may be null)
+     * @return full view when both are null, sparse view otherwise
+     */
+    public static ResponseView of(String fields, String expand) {
+        if (fields == null && expand == null) {
+            return FULL;
+        }
+        return new ResponseView(true, split(fields), split(expand));
+    }
+
+    /**
+     * @return true if responses should be reduced to cards
+     */
+    public boolean isSparse() {
+        return sparse;
+    }
+
+    /**
+     * @return explicitly requested top-level fields (empty for the default card)
+     */
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * Check whether a nested object should be rendered.
+     * Always true for the full view; for a sparse view the object must be
+     * named in {@code expand} or {@code fields}.
+     *
+     * @param name nested object name, e.g. provider
+     * @return true if the nested object is wanted
+     */
+    public boolean expands(String name) {
+        return !sparse || expand.contains(name) || fields.contains(name);
+    }
+
+    private static Set<String> split(String value) {
+        if (value == null || value.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(part -> !part.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -59,7 +59,10 @@ public class BookingResponse {
     private LocalDateTime completedAt;
     private LocalDateTime cancelledAt;
 
-    // Relationships
+    // Relationships (IDs are always set; the nested objects can be left out with ?expand=)
+    private Long customerId;
+    private Long providerId;
+    private Long serviceListingId;
     private UserResponse customer;
     private UserResponse provider;
     private ServiceListingResponse serviceListing;
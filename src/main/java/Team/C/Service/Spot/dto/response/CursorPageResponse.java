@@ -0,0 +1,30 @@
+package Team.C.Service.Spot.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated collection.
+ * Pass nextCursor back as the "after" parameter to fetch the following page.
+ *
+ * @param <T> the type of items in the page
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+    private int limit;
+    private String sort;
+}
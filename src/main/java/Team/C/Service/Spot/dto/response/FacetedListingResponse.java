@@ -0,0 +1,35 @@
+package Team.C.Service.Spot.dto.response;
+
+import Team.C.Service.Spot.search.ListingFacetIndex;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of filtered listings together with the facet counts for every
+ * browse filter. Each dimension is counted with all other filters applied.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FacetedListingResponse {
+
+    private List<ServiceListingResponse> items;
+    private long total;
+    private int page;
+    private int size;
+
+    private List<ListingFacetIndex.FacetValue> cities;
+    private List<ListingFacetIndex.FacetValue> categories;
+    private List<ListingFacetIndex.FacetValue> pincodes;
+    private List<ListingFacetIndex.FacetValue> priceBands;
+    private List<ListingFacetIndex.FacetValue> ratings;
+}
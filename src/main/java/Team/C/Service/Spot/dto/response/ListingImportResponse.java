@@ -0,0 +1,54 @@
+package Team.C.Service.Spot.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a bulk listing import, with one entry per data row.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ListingImportResponse {
+
+    private int totalRows;
+    private int created;
+    private int failed;
+
+    /**
+     * True if the body had more rows than listing-import.max-rows
+     */
+    private boolean truncated;
+
+    private List<RowResult> rows;
+
+    /**
+     * Outcome of one data row (rows are numbered from 1, not counting a CSV header)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowResult {
+        private int row;
+        private boolean success;
+        private Long listingId;
+        private String error;
+
+        public static RowResult created(int row, Long listingId) {
+            return new RowResult(row, true, listingId, null);
+        }
+
+        public static RowResult failed(int row, String error) {
+            return new RowResult(row, false, null, error);
+        }
+    }
+}
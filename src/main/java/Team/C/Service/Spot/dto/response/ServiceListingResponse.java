@@ -38,6 +38,11 @@ public class ServiceListingResponse {
     private Integer reviewCount;
     private Integer viewCount;
 
+    /**
+     * Distance from the searched location in km (only set by location searches)
+     */
+    private Double distanceKm;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
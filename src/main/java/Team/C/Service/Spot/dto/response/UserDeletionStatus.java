@@ -0,0 +1,42 @@
+package Team.C.Service.Spot.dto.response;
+
+import Team.C.Service.Spot.model.enums.DeletionJobState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Progress of a background user deletion job.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserDeletionStatus {
+
+    private String jobId;
+    private Long userId;
+    private DeletionJobState state;
+
+    /**
+     * Step currently running (or the one that failed)
+     */
+    private String stage;
+
+    /**
+     * Rows deleted so far, per step
+     */
+    private Map<String, Long> deleted;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
@@ -2,6 +2,7 @@ package Team.C.Service.Spot.exception;
 
 import Team.C.Service.Spot.dto.response.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -44,6 +45,22 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage(), HttpStatus.BAD_REQUEST.value()));
     }
 
+    /**
+     * Handle ServiceOverloadedException (load shedding).
+     * Returns 503 with Retry-After so clients back off instead of piling up.
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ApiResponse<Object>> handleServiceOverloadedException(
+            ServiceOverloadedException ex, WebRequest request) {
+
+        log.warn("Request shed at {}: {}", request.getDescription(false), ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value()));
+    }
+
     /**
      * Handle validation errors from @Valid annotations.
      * Returns field-specific error messages.
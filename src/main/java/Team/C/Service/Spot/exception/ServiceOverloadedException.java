@@ -0,0 +1,17 @@
+package Team.C.Service.Spot.exception;
+
+/**
+ * Thrown when a bounded resource (such as the password hashing executor) is
+ * saturated and the request is shed instead of queued. Mapped to 503 with a
+ * Retry-After header by GlobalExceptionHandler.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,6 @@
 package Team.C.Service.Spot.mapper;
 
+import Team.C.Service.Spot.dto.request.ResponseView;
 import Team.C.Service.Spot.dto.response.BookingResponse;
 import Team.C.Service.Spot.model.Booking;
 import lombok.RequiredArgsConstructor;
@@ -20,12 +21,25 @@ public class BookingMapper {
     private final ServiceListingMapper serviceListingMapper;
 
     /**
-     * Convert Booking entity to BookingResponse DTO
+     * Convert Booking entity to BookingResponse DTO with every nested object.
      *
      * @param booking the booking entity
      * @return BookingResponse DTO
      */
     public BookingResponse toResponse(Booking booking) {
+        return toResponse(booking, ResponseView.full());
+    }
+
+    /**
+     * Convert Booking entity to BookingResponse DTO.
+     * Nested customer, provider and listing are only mapped (and lazily loaded)
+     * when the view wants them; their IDs are always included.
+     *
+     * @param booking the booking entity
+     * @param view requested response shape
+     * @return BookingResponse DTO
+     */
+    public BookingResponse toResponse(Booking booking, ResponseView view) {
         if (booking == null) {
             return null;
         }
@@ -56,9 +70,13 @@ public class BookingMapper {
                 .confirmedAt(booking.getConfirmedAt())
                 .completedAt(booking.getCompletedAt())
                 .cancelledAt(booking.getCancelledAt())
-                .customer(userMapper.toResponse(booking.getCustomer()))
-                .provider(userMapper.toResponse(booking.getProvider()))
-                .serviceListing(serviceListingMapper.toResponse(booking.getServiceListing()))
+                .customerId(booking.getCustomer() != null ? booking.getCustomer().getId() : null)
+                .providerId(booking.getProvider() != null ? booking.getProvider().getId() : null)
+                .serviceListingId(booking.getServiceListing() != null ? booking.getServiceListing().getId() : null)
+                .customer(view.expands("customer") ? userMapper.toResponse(booking.getCustomer()) : null)
+                .provider(view.expands("provider") ? userMapper.toResponse(booking.getProvider()) : null)
+                .serviceListing(view.expands("serviceListing")
+                        ? serviceListingMapper.toResponse(booking.getServiceListing()) : null)
                 .build();
     }
 }
@@ -37,5 +37,29 @@ public class ServiceCategoryMapper {
                 .activeListingsCount(category.getActiveListingsCount())
                 .build();
     }
-}
 
+    /**
+     * Convert ServiceCategory entity to a response without activeListingsCount.
+     * Used when the category is embedded in listing responses: counting the
+     * active listings would load the category's whole listing collection.
+     *
+     * @param category the ServiceCategory entity
+     * @return ServiceCategoryResponse DTO without the listing count
+     */
+    public ServiceCategoryResponse toSummaryResponse(ServiceCategory category) {
+        if (category == null) {
+            return null;
+        }
+
+        return ServiceCategoryResponse.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .description(category.getDescription())
+                .icon(category.getIcon())
+                .slug(category.getSlug())
+                .active(category.getActive())
+                .displayOrder(category.getDisplayOrder())
+                .createdAt(category.getCreatedAt())
+                .build();
+    }
+}
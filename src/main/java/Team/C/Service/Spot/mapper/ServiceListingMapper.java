@@ -97,7 +97,7 @@ public class ServiceListingMapper {
                 .createdAt(listing.getCreatedAt())
                 .updatedAt(listing.getUpdatedAt())
                 .provider(userMapper.toSimplifiedResponse(listing.getProvider()))
-                .category(categoryMapper.toResponse(listing.getCategory()))
+                .category(categoryMapper.toSummaryResponse(listing.getCategory()))
                 .build();
     }
 
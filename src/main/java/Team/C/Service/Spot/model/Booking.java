@@ -38,10 +38,13 @@ public class Booking {
     // ==================== Identity Fields ====================
 
     /**
-     * Primary key with auto-increment strategy
+     * Primary key, allocated in blocks from the id_sequences table
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "bookings_id")
+    @TableGenerator(name = "bookings_id", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.BOOKINGS, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     /**
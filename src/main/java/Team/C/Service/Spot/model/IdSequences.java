@@ -0,0 +1,37 @@
+package Team.C.Service.Spot.model;
+
+/**
+ * Shared settings of the table-backed ID generators used by every entity.
+ *
+ * <p>Each entity has one row in the {@value #TABLE} table holding the next
+ * free ID. Hibernate reserves {@value #ALLOCATION_SIZE} IDs per round trip
+ * with the pooled-lo optimizer (a reservation that reads N hands out
+ * N .. N + size - 1 and stores N + size), so inserts no longer need the
+ * database to assign the key and can be sent as JDBC batches. Code that
+ * inserts with plain JDBC must reserve its IDs from the same row.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequences";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    /**
+     * Sequence names, one per entity table
+     */
+    public static final String USERS = "users";
+    public static final String SERVICE_LISTINGS = "service_listings";
+    public static final String BOOKINGS = "bookings";
+    public static final String REVIEWS = "reviews";
+    public static final String SPECIFIC_AVAILABILITY = "specific_availability";
+    public static final String SERVICE_CATEGORIES = "service_categories";
+    public static final String OUTBOX_EVENTS = "outbox_events";
+
+    private IdSequences() {
+    }
+}
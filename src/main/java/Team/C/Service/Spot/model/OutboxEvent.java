@@ -0,0 +1,74 @@
+package Team.C.Service.Spot.model;
+
+import Team.C.Service.Spot.model.enums.OutboxAggregateType;
+import Team.C.Service.Spot.model.enums.OutboxChangeType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One catalog change recorded in the transactional outbox.
+ *
+ * <p>Rows are written in the same transaction as the change they describe,
+ * so a change is recorded if and only if it commits. Only the changed
+ * entity's identity is stored; consumers on other nodes reload its current
+ * state when the row is dispatched.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_created", columnList = "created_at, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    /**
+     * Primary key, allocated in blocks from the id_sequences table
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "outbox_events_id")
+    @TableGenerator(name = "outbox_events_id", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.OUTBOX_EVENTS, allocationSize = IdSequences.ALLOCATION_SIZE)
+    private Long id;
+
+    /**
+     * Kind of entity that changed
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 20)
+    private OutboxAggregateType aggregateType;
+
+    /**
+     * ID of the entity that changed
+     */
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    /**
+     * Whether the entity was created/modified or deleted
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 20)
+    private OutboxChangeType changeType;
+
+    /**
+     * Node that made the change; that node has already applied it locally
+     */
+    @Column(nullable = false, length = 36)
+    private String origin;
+
+    /**
+     * Set by the database on insert, so every node orders rows on the same clock
+     */
+    @Column(name = "created_at", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6)")
+    private LocalDateTime createdAt;
+}
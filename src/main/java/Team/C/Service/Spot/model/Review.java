@@ -31,7 +31,10 @@ import java.time.LocalDateTime;
 public class Review {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "reviews_id")
+    @TableGenerator(name = "reviews_id", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.REVIEWS, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     /**
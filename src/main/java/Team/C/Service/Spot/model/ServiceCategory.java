@@ -32,10 +32,13 @@ import java.util.List;
 public class ServiceCategory {
 
     /**
-     * Primary key with auto-increment strategy
+     * Primary key, allocated in blocks from the id_sequences table
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "service_categories_id")
+    @TableGenerator(name = "service_categories_id", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.SERVICE_CATEGORIES, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     /**
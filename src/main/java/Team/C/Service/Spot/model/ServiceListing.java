@@ -26,7 +26,12 @@ import java.util.List;
     @Index(name = "idx_provider", columnList = "provider_id"),
     @Index(name = "idx_category", columnList = "category_id"),
     @Index(name = "idx_city", columnList = "city"),
-    @Index(name = "idx_active", columnList = "active")
+    @Index(name = "idx_active", columnList = "active"),
+    @Index(name = "idx_pincode_active", columnList = "pincode, active"),
+    @Index(name = "idx_active_created", columnList = "active, created_at, id"),
+    @Index(name = "idx_active_price", columnList = "active, price, id"),
+    @Index(name = "idx_active_rating", columnList = "active, average_rating, id"),
+    @Index(name = "idx_active_bookings", columnList = "active, total_bookings, id")
 })
 @Data
 @NoArgsConstructor
@@ -37,10 +42,13 @@ public class ServiceListing {
     // ==================== Identity Fields ====================
 
     /**
-     * Primary key with auto-increment strategy
+     * Primary key, allocated in blocks from the id_sequences table
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "service_listings_id")
+    @TableGenerator(name = "service_listings_id", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.SERVICE_LISTINGS, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     // ==================== Service Information ====================
@@ -187,10 +195,12 @@ public class ServiceListing {
     private Integer reviewCount = 0;
 
     /**
-     * View count for analytics
+     * View count for analytics.
+     * Only written by the batched view counter, never by entity updates,
+     * so saving a stale entity cannot overwrite newer counts.
      */
     @Builder.Default
-    @Column(name = "view_count")
+    @Column(name = "view_count", updatable = false)
     private Integer viewCount = 0;
 
     // ==================== Audit Fields ====================
@@ -33,7 +33,10 @@ import java.time.LocalDateTime;
 public class SpecificAvailability {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "specific_availability_id")
+    @TableGenerator(name = "specific_availability_id", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.SPECIFIC_AVAILABILITY, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     /**
@@ -28,21 +28,27 @@ import java.util.List;
 @Table(name = "users", indexes = {
     @Index(name = "idx_email", columnList = "email"),
     @Index(name = "idx_role", columnList = "role"),
-    @Index(name = "idx_city", columnList = "city")
+    @Index(name = "idx_city", columnList = "city"),
+    @Index(name = "idx_role_city_active", columnList = "role, city, active"),
+    @Index(name = "idx_role_pincode_active", columnList = "role, pincode, active"),
+    @Index(name = "idx_role_service_type_active", columnList = "role, service_type, active")
 })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class User {
 
     // ==================== Identity Fields ====================
 
     /**
-     * Primary key with auto-increment strategy
+     * Primary key, allocated in blocks from the id_sequences table
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id")
+    @TableGenerator(name = "users_id", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.USERS, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     /**
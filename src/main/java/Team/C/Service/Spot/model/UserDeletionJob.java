@@ -0,0 +1,88 @@
+package Team.C.Service.Spot.model;
+
+import Team.C.Service.Spot.model.enums.DeletionJobState;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Persistent state of a background user deletion job.
+ *
+ * <p>Stored so a job survives restarts and can be resumed by any node: a job
+ * that is not finished and whose heartbeat is older than
+ * {@code user-deletion.stale-after-seconds} is picked up again. The deleted
+ * row counts are updated in the same transaction as each chunk they count.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Entity
+@Table(name = "user_deletion_jobs", indexes = {
+    @Index(name = "idx_deletion_user_state", columnList = "user_id, state"),
+    @Index(name = "idx_deletion_state_heartbeat", columnList = "state, heartbeat_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserDeletionJob {
+
+    /**
+     * Random UUID, also used as the public job ID
+     */
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    /**
+     * User being deleted; not a foreign key, the user row is the last thing removed
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DeletionJobState state;
+
+    /**
+     * Step currently running (or the one that failed)
+     */
+    @Column(length = 30)
+    private String stage;
+
+    @Column(name = "reviews_deleted", nullable = false)
+    @Builder.Default
+    private long reviewsDeleted = 0;
+
+    @Column(name = "bookings_deleted", nullable = false)
+    @Builder.Default
+    private long bookingsDeleted = 0;
+
+    @Column(name = "availability_deleted", nullable = false)
+    @Builder.Default
+    private long availabilityDeleted = 0;
+
+    @Column(name = "listings_deleted", nullable = false)
+    @Builder.Default
+    private long listingsDeleted = 0;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    /**
+     * Refreshed with every chunk; a stale heartbeat means the worker is gone
+     */
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(length = 1000)
+    private String error;
+}
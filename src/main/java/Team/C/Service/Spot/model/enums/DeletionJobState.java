@@ -0,0 +1,30 @@
+package Team.C.Service.Spot.model.enums;
+
+/**
+ * Lifecycle of a background user deletion job.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public enum DeletionJobState {
+    /**
+     * Created, waiting for a worker
+     */
+    QUEUED,
+
+    /**
+     * Deleting rows
+     */
+    RUNNING,
+
+    /**
+     * Every row of the user is gone
+     */
+    COMPLETED,
+
+    /**
+     * Stopped on an error; deleting the user again resumes it
+     */
+    FAILED
+}
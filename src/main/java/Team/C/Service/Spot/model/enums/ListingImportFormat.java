@@ -0,0 +1,20 @@
+package Team.C.Service.Spot.model.enums;
+
+/**
+ * Body formats accepted by the bulk listing import.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public enum ListingImportFormat {
+    /**
+     * One CreateServiceListingRequest JSON object per line (application/x-ndjson)
+     */
+    NDJSON,
+
+    /**
+     * Header row with CreateServiceListingRequest field names, then one listing per line (text/csv)
+     */
+    CSV
+}
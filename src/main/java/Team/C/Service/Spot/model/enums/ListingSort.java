@@ -0,0 +1,37 @@
+package Team.C.Service.Spot.model.enums;
+
+/**
+ * Sort orders supported by the paginated listing browse API.
+ * Every order ends with the listing ID as tie-breaker so that keyset
+ * pagination is stable, and each one is backed by an (active, key, id) index.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public enum ListingSort {
+    /**
+     * Most recently created first (created_at DESC, id DESC)
+     */
+    NEWEST,
+
+    /**
+     * Cheapest first (price ASC, id ASC)
+     */
+    PRICE_ASC,
+
+    /**
+     * Most expensive first (price DESC, id DESC)
+     */
+    PRICE_DESC,
+
+    /**
+     * Highest rated first (average_rating DESC, id DESC)
+     */
+    RATING,
+
+    /**
+     * Most booked first (total_bookings DESC, id DESC)
+     */
+    POPULARITY
+}
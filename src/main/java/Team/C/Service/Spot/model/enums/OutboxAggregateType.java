@@ -0,0 +1,30 @@
+package Team.C.Service.Spot.model.enums;
+
+/**
+ * Entities whose changes are recorded in the outbox.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public enum OutboxAggregateType {
+    /**
+     * A service listing (ListingChangedEvent)
+     */
+    LISTING,
+
+    /**
+     * A provider account (ProviderChangedEvent)
+     */
+    PROVIDER,
+
+    /**
+     * A service category (CategoryChangedEvent)
+     */
+    CATEGORY,
+
+    /**
+     * A user account of any role (UserChangedEvent)
+     */
+    USER
+}
@@ -0,0 +1,20 @@
+package Team.C.Service.Spot.model.enums;
+
+/**
+ * Kind of change recorded in the outbox.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public enum OutboxChangeType {
+    /**
+     * Created or modified
+     */
+    UPSERTED,
+
+    /**
+     * Deleted
+     */
+    REMOVED
+}
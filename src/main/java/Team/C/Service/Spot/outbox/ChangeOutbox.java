@@ -0,0 +1,75 @@
+package Team.C.Service.Spot.outbox;
+
+import Team.C.Service.Spot.cache.UserChangedEvent;
+import Team.C.Service.Spot.model.OutboxEvent;
+import Team.C.Service.Spot.model.enums.OutboxAggregateType;
+import Team.C.Service.Spot.model.enums.OutboxChangeType;
+import Team.C.Service.Spot.repository.OutboxEventRepository;
+import Team.C.Service.Spot.search.CategoryChangedEvent;
+import Team.C.Service.Spot.search.ListingChangedEvent;
+import Team.C.Service.Spot.search.ProviderChangedEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Writes catalog and user account change events to the outbox table.
+ *
+ * <p>The listeners run synchronously when the service layer publishes a
+ * change event, so the outbox row joins the writing transaction and commits
+ * or rolls back with it. Events published outside a transaction are not
+ * recorded: every service write is transactional, and the events replayed by
+ * {@link OutboxDispatcher} are published outside one on purpose.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    /**
+     * Identifies this node in the rows it writes
+     */
+    @Getter
+    private final String origin = UUID.randomUUID().toString();
+
+    @EventListener
+    public void onListingChanged(ListingChangedEvent event) {
+        record(OutboxAggregateType.LISTING, event.getListingId(), event.isRemoval());
+    }
+
+    @EventListener
+    public void onProviderChanged(ProviderChangedEvent event) {
+        record(OutboxAggregateType.PROVIDER, event.getProviderId(), event.isRemoval());
+    }
+
+    @EventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        record(OutboxAggregateType.CATEGORY, event.getCategoryId(), false);
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        record(OutboxAggregateType.USER, event.getUserId(), false);
+    }
+
+    private void record(OutboxAggregateType type, Long id, boolean removal) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(type)
+                .aggregateId(id)
+                .changeType(removal ? OutboxChangeType.REMOVED : OutboxChangeType.UPSERTED)
+                .origin(origin)
+                .build());
+    }
+}
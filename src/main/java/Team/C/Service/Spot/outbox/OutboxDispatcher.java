@@ -0,0 +1,229 @@
+package Team.C.Service.Spot.outbox;
+
+import Team.C.Service.Spot.cache.UserChangedEvent;
+import Team.C.Service.Spot.config.OutboxConfig;
+import Team.C.Service.Spot.model.OutboxEvent;
+import Team.C.Service.Spot.model.ServiceListing;
+import Team.C.Service.Spot.model.User;
+import Team.C.Service.Spot.model.enums.OutboxAggregateType;
+import Team.C.Service.Spot.model.enums.Role;
+import Team.C.Service.Spot.repository.OutboxEventRepository;
+import Team.C.Service.Spot.repository.ServiceListingRepository;
+import Team.C.Service.Spot.repository.UserRepository;
+import Team.C.Service.Spot.search.CategoryChangedEvent;
+import Team.C.Service.Spot.search.ListingChangedEvent;
+import Team.C.Service.Spot.search.ListingDocument;
+import Team.C.Service.Spot.search.ProviderChangedEvent;
+import Team.C.Service.Spot.search.ProviderDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Replays the catalog and user account changes other nodes recorded in the outbox as local
+ * change events, so every node's indexes and caches converge without a
+ * message broker.
+ *
+ * <p>Each poll reads the rows created since the previous poll (minus a
+ * lookback window, because a row can commit after a later row was already
+ * read) in pages of (createdAt, id). Rows already dispatched within the
+ * window are skipped. The changed entities of a page are reloaded in one
+ * query per type and published as {@link ListingChangedEvent},
+ * {@link ProviderChangedEvent}, {@link CategoryChangedEvent} and
+ * {@link UserChangedEvent} (which evicts the cached profile), outside any
+ * transaction, to the same listeners that handle local writes. The node's own
+ * rows are skipped; they were applied when their transaction committed.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxDispatcher implements SmartInitializingSingleton {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ServiceListingRepository listingRepository;
+    private final UserRepository userRepository;
+    private final ChangeOutbox changeOutbox;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxConfig config;
+
+    /**
+     * Database time of the previous poll
+     */
+    private LocalDateTime lastPoll;
+
+    /**
+     * IDs dispatched within the lookback window -> their creation time
+     */
+    private final Map<Long, LocalDateTime> dispatched = new HashMap<>();
+
+    /**
+     * Start from the current database time: the indexes are built from the
+     * tables after this point, so older changes are already included.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        lastPoll = databaseTime();
+    }
+
+    /**
+     * Periodic poll of the outbox.
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        if (!config.isDispatchEnabled()) {
+            return;
+        }
+        try {
+            int count = dispatchNewRows();
+            if (count > 0) {
+                log.debug("Dispatched {} outbox changes from other nodes", count);
+            }
+        } catch (RuntimeException e) {
+            log.error("Outbox poll failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Periodic deletion of rows past the retention period.
+     */
+    @Scheduled(fixedDelayString = "${outbox.cleanup-interval-ms:3600000}")
+    public void cleanUp() {
+        LocalDateTime cutoff = databaseTime().minusHours(config.getRetentionHours());
+        Integer deleted = new TransactionTemplate(transactionManager)
+                .execute(status -> outboxEventRepository.deleteCreatedBefore(cutoff));
+        if (deleted != null && deleted > 0) {
+            log.info("Deleted {} outbox rows older than {}", deleted, cutoff);
+        }
+    }
+
+    private int dispatchNewRows() {
+        LocalDateTime now = databaseTime();
+        LocalDateTime since = lastPoll.minusSeconds(config.getLookbackSeconds());
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        int count = 0;
+        LocalDateTime afterTime = since;
+        Long afterId = 0L;
+        List<OutboxEvent> page;
+        do {
+            page = outboxEventRepository.findPageAfter(changeOutbox.getOrigin(), afterTime, afterId,
+                    PageRequest.of(0, config.getBatchSize()));
+            if (page.isEmpty()) {
+                break;
+            }
+
+            List<OutboxEvent> fresh = new ArrayList<>(page.size());
+            for (OutboxEvent event : page) {
+                if (dispatched.putIfAbsent(event.getId(), event.getCreatedAt()) == null) {
+                    fresh.add(event);
+                }
+            }
+            if (!fresh.isEmpty()) {
+                // Load inside a transaction, publish after it so nothing is re-recorded
+                List<Object> events = readOnly.execute(status -> toEvents(fresh));
+                events.forEach(eventPublisher::publishEvent);
+                count += fresh.size();
+            }
+
+            OutboxEvent last = page.get(page.size() - 1);
+            afterTime = last.getCreatedAt();
+            afterId = last.getId();
+        } while (page.size() == config.getBatchSize());
+
+        lastPoll = now;
+        forgetBefore(since);
+        return count;
+    }
+
+    /**
+     * Turn a page of rows into change events carrying the entities' current state.
+     * Several rows for the same entity collapse into one event.
+     */
+    private List<Object> toEvents(List<OutboxEvent> rows) {
+        Set<Long> listingIds = new LinkedHashSet<>();
+        Set<Long> providerIds = new LinkedHashSet<>();
+        Set<Long> categoryIds = new LinkedHashSet<>();
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (OutboxEvent row : rows) {
+            if (row.getAggregateType() == OutboxAggregateType.LISTING) {
+                listingIds.add(row.getAggregateId());
+            } else if (row.getAggregateType() == OutboxAggregateType.PROVIDER) {
+                providerIds.add(row.getAggregateId());
+            } else if (row.getAggregateType() == OutboxAggregateType.CATEGORY) {
+                categoryIds.add(row.getAggregateId());
+            } else {
+                userIds.add(row.getAggregateId());
+            }
+        }
+
+        List<Object> events = new ArrayList<>(
+                listingIds.size() + providerIds.size() + categoryIds.size() + userIds.size());
+
+        if (!listingIds.isEmpty()) {
+            Map<Long, ServiceListing> listings = new HashMap<>();
+            listingRepository.findAllWithDetailsByIdIn(listingIds).forEach(l -> listings.put(l.getId(), l));
+            for (Long id : listingIds) {
+                ServiceListing listing = listings.get(id);
+                events.add(listing != null
+                        ? ListingChangedEvent.upserted(ListingDocument.from(listing))
+                        : ListingChangedEvent.removed(id));
+            }
+        }
+
+        if (!providerIds.isEmpty()) {
+            Map<Long, User> providers = new HashMap<>();
+            userRepository.findAllById(providerIds).forEach(u -> providers.put(u.getId(), u));
+            for (Long id : providerIds) {
+                User provider = providers.get(id);
+                events.add(provider != null && provider.getRole() == Role.PROVIDER
+                        ? ProviderChangedEvent.upserted(ProviderDocument.from(provider))
+                        : ProviderChangedEvent.removed(id));
+            }
+        }
+
+        for (Long id : categoryIds) {
+            events.add(new CategoryChangedEvent(id));
+        }
+        for (Long id : userIds) {
+            events.add(new UserChangedEvent(id));
+        }
+        return events;
+    }
+
+    private void forgetBefore(LocalDateTime cutoff) {
+        Iterator<LocalDateTime> times = dispatched.values().iterator();
+        while (times.hasNext()) {
+            if (times.next().isBefore(cutoff)) {
+                times.remove();
+            }
+        }
+    }
+
+    private LocalDateTime databaseTime() {
+        return jdbcTemplate.queryForObject("SELECT NOW(6)", LocalDateTime.class);
+    }
+}
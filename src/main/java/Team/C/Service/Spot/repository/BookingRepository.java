@@ -1,5 +1,6 @@
 package Team.C.Service.Spot.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,6 +11,7 @@ import Team.C.Service.Spot.model.User;
 import Team.C.Service.Spot.model.enums.BookingStatus;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -258,4 +260,26 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
      */
     @Query("SELECT b FROM Booking b WHERE b.customer.id = :customerId")
     List<Booking> findByCustomerId(@Param("customerId") Long customerId);
+
+    /**
+     * Find the IDs of a customer's bookings, lowest first (idx_customer).
+     * Used by the chunked user deletion job.
+     */
+    @Query("SELECT b.id FROM Booking b WHERE b.customer.id = :customerId ORDER BY b.id")
+    List<Long> findIdsByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+
+    /**
+     * Find the IDs of a provider's bookings, lowest first (idx_provider).
+     * Used by the chunked user deletion job.
+     */
+    @Query("SELECT b.id FROM Booking b WHERE b.provider.id = :providerId ORDER BY b.id")
+    List<Long> findIdsByProviderId(@Param("providerId") Long providerId, Pageable pageable);
+
+    /**
+     * Find the IDs of the bookings on the given listings (idx_service).
+     * Used by the chunked user deletion job.
+     */
+    @Query("SELECT b.id FROM Booking b WHERE b.serviceListing.id IN :serviceListingIds ORDER BY b.id")
+    List<Long> findIdsByServiceListingIdIn(@Param("serviceListingIds") Collection<Long> serviceListingIds,
+                                           Pageable pageable);
 }
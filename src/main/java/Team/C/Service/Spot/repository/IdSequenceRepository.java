@@ -0,0 +1,86 @@
+package Team.C.Service.Spot.repository;
+
+import Team.C.Service.Spot.model.IdSequences;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * JDBC access to the id_sequences table behind the entity ID generators.
+ *
+ * <p>Used by plain JDBC inserts to reserve IDs from the same rows Hibernate
+ * allocates from, and on startup to move each sequence past the IDs that
+ * already exist.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdSequenceRepository {
+
+    private static final String SELECT_FOR_UPDATE_SQL = "SELECT " + IdSequences.VALUE_COLUMN
+            + " FROM " + IdSequences.TABLE + " WHERE " + IdSequences.NAME_COLUMN + " = ? FOR UPDATE";
+
+    private static final String UPDATE_SQL = "UPDATE " + IdSequences.TABLE + " SET " + IdSequences.VALUE_COLUMN
+            + " = ? WHERE " + IdSequences.NAME_COLUMN + " = ?";
+
+    private static final String INSERT_SQL = "INSERT INTO " + IdSequences.TABLE + " (" + IdSequences.NAME_COLUMN
+            + ", " + IdSequences.VALUE_COLUMN + ") VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Reserve a block of consecutive IDs. Runs in its own short transaction so
+     * the sequence row is not locked for the duration of the caller's work.
+     *
+     * @param sequence sequence name (see {@link IdSequences})
+     * @param count number of IDs to reserve
+     * @return the first reserved ID; the block is [first, first + count)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserve(String sequence, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("At least one ID must be reserved");
+        }
+        Long next;
+        try {
+            next = jdbcTemplate.queryForObject(SELECT_FOR_UPDATE_SQL, Long.class, sequence);
+        } catch (EmptyResultDataAccessException e) {
+            throw new IllegalStateException("ID sequence not initialized: " + sequence);
+        }
+        jdbcTemplate.update(UPDATE_SQL, next + count, sequence);
+        return next;
+    }
+
+    /**
+     * Make sure a sequence exists and hands out IDs above every existing row
+     * of its table. Never moves a sequence backwards, so it is safe to run on
+     * every startup.
+     *
+     * @param sequence sequence name
+     * @param table entity table whose id column the sequence feeds
+     * @return the sequence's next value after synchronizing
+     */
+    @Transactional
+    public long synchronize(String sequence, String table) {
+        long floor = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table, Long.class);
+        List<Long> current = jdbcTemplate.queryForList(SELECT_FOR_UPDATE_SQL, Long.class, sequence);
+
+        if (current.isEmpty()) {
+            jdbcTemplate.update(INSERT_SQL, sequence, floor);
+            return floor;
+        }
+        if (current.get(0) < floor) {
+            jdbcTemplate.update(UPDATE_SQL, floor, sequence);
+            return floor;
+        }
+        return current.get(0);
+    }
+}
@@ -0,0 +1,51 @@
+package Team.C.Service.Spot.repository;
+
+import Team.C.Service.Spot.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for the transactional outbox.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Read the next page of changes made by other nodes, in (createdAt, id) order,
+     * strictly after the given position. Served by the (created_at, id) index.
+     *
+     * @param origin this node's origin, whose changes are skipped
+     * @param createdAt creation time of the last row read
+     * @param id ID of the last row read
+     * @param page page size
+     * @return the next rows
+     */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.origin <> :origin " +
+           "AND (e.createdAt > :createdAt OR (e.createdAt = :createdAt AND e.id > :id)) " +
+           "ORDER BY e.createdAt, e.id")
+    List<OutboxEvent> findPageAfter(@Param("origin") String origin,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id,
+                                    Pageable page);
+
+    /**
+     * Delete rows older than the retention period.
+     *
+     * @param cutoff rows created before this time are deleted
+     * @return number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -3,10 +3,12 @@ package Team.C.Service.Spot.repository;
 import Team.C.Service.Spot.model.Review;
 import Team.C.Service.Spot.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -116,5 +118,28 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT r FROM Review r WHERE r.provider = :provider AND r.rating >= 4 " +
            "AND r.flagged = false ORDER BY r.createdAt DESC")
     List<Review> findPositiveReviews(@Param("provider") User provider);
-}
 
+    /**
+     * Delete up to limit reviews written by a customer (idx_customer).
+     * Used by the chunked user deletion job.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM reviews WHERE customer_id = :customerId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByCustomerId(@Param("customerId") Long customerId, @Param("limit") int limit);
+
+    /**
+     * Delete up to limit reviews about a provider (idx_provider).
+     * Used by the chunked user deletion job.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM reviews WHERE provider_id = :providerId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByProviderId(@Param("providerId") Long providerId, @Param("limit") int limit);
+
+    /**
+     * Delete the reviews attached to the given bookings (idx_booking).
+     * Used by the chunked user deletion job before it deletes the bookings.
+     */
+    @Modifying
+    @Query("DELETE FROM Review r WHERE r.booking.id IN :bookingIds")
+    int deleteByBookingIdIn(@Param("bookingIds") Collection<Long> bookingIds);
+}
@@ -1,6 +1,9 @@
 package Team.C.Service.Spot.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -8,7 +11,10 @@ import Team.C.Service.Spot.model.ServiceListing;
 import Team.C.Service.Spot.model.ServiceCategory;
 import Team.C.Service.Spot.model.User;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for ServiceListing entity operations.
@@ -27,14 +33,26 @@ public interface ServiceListingRepository extends JpaRepository<ServiceListing,
      * @param active the active status
      * @return list of active listings
      */
+    @EntityGraph(attributePaths = {"category", "provider"})
     List<ServiceListing> findByActive(Boolean active);
 
+    /**
+     * Find one page of service listings by active status, with category and provider.
+     *
+     * @param active the active status
+     * @param page page number, size and sort
+     * @return listings in the page
+     */
+    @EntityGraph(attributePaths = {"category", "provider"})
+    List<ServiceListing> findByActive(Boolean active, Pageable page);
+
     /**
      * Find all service listings by provider.
      *
      * @param provider the provider user
      * @return list of listings by the provider
      */
+    @EntityGraph(attributePaths = {"category", "provider"})
     List<ServiceListing> findByProvider(User provider);
 
     /**
@@ -53,6 +71,7 @@ public interface ServiceListingRepository extends JpaRepository<ServiceListing,
      * @param active the active status
      * @return list of active listings by the provider
      */
+    @EntityGraph(attributePaths = {"category", "provider"})
     List<ServiceListing> findByProviderAndActive(User provider, Boolean active);
 
     /**
@@ -70,6 +89,7 @@ public interface ServiceListingRepository extends JpaRepository<ServiceListing,
      * @param active the active status
      * @return list of active listings in the category
      */
+    @EntityGraph(attributePaths = {"category", "provider"})
     List<ServiceListing> findByCategoryAndActive(ServiceCategory category, Boolean active);
 
     /**
@@ -87,6 +107,7 @@ public interface ServiceListingRepository extends JpaRepository<ServiceListing,
      * @param active the active status
      * @return list of active listings in the city
      */
+    @EntityGraph(attributePaths = {"category", "provider"})
     List<ServiceListing> findByCityAndActive(String city, Boolean active);
 
     /**
@@ -97,6 +118,7 @@ public interface ServiceListingRepository extends JpaRepository<ServiceListing,
      * @param active the active status
      * @return list of matching listings
      */
+    @EntityGraph(attributePaths = {"category", "provider"})
     List<ServiceListing> findByCityAndCategoryAndActive(
         String city,
         ServiceCategory category,
@@ -110,6 +132,7 @@ public interface ServiceListingRepository extends JpaRepository<ServiceListing,
      * @param active the active status
      * @return list of featured active listings
      */
+    @EntityGraph(attributePaths = {"category", "provider"})
     List<ServiceListing> findByFeaturedAndActive(Boolean featured, Boolean active);
 
     /**
@@ -118,11 +141,264 @@ public interface ServiceListingRepository extends JpaRepository<ServiceListing,
      * @param keyword the search keyword
      * @return list of matching listings
      */
+    @EntityGraph(attributePaths = {"category", "provider"})
     @Query("SELECT s FROM ServiceListing s WHERE s.active = true AND " +
            "(LOWER(s.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(s.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
     List<ServiceListing> searchByKeyword(@Param("keyword") String keyword);
 
+    /**
+     * Full-text search in natural language mode, ranked by relevance.
+     * Requires the ft_listing_title_description FULLTEXT index.
+     *
+     * @param query the search text
+     * @param limit maximum number of results
+     * @return IDs of matching listings, best match first
+     */
+    @Query(value = "SELECT s.id FROM service_listings s WHERE s.active = true " +
+           "AND MATCH(s.title, s.description) AGAINST (:query IN NATURAL LANGUAGE MODE) " +
+           "ORDER BY MATCH(s.title, s.description) AGAINST (:query IN NATURAL LANGUAGE MODE) DESC " +
+           "LIMIT :limit", nativeQuery = true)
+    List<Long> fullTextSearch(@Param("query") String query, @Param("limit") int limit);
+
+    /**
+     * Full-text search in boolean mode, ranked by relevance.
+     * Requires the ft_listing_title_description FULLTEXT index.
+     *
+     * @param query boolean mode query (e.g. "+plumb* +repair*")
+     * @param limit maximum number of results
+     * @return IDs of matching listings, best match first
+     */
+    @Query(value = "SELECT s.id FROM service_listings s WHERE s.active = true " +
+           "AND MATCH(s.title, s.description) AGAINST (:query IN BOOLEAN MODE) " +
+           "ORDER BY MATCH(s.title, s.description) AGAINST (:query IN BOOLEAN MODE) DESC " +
+           "LIMIT :limit", nativeQuery = true)
+    List<Long> fullTextSearchBoolean(@Param("query") String query, @Param("limit") int limit);
+
+    /**
+     * Find all active listings with category and provider fetched in the same query.
+     * Used to build the in-memory search indexes at startup.
+     *
+     * @return list of active listings with associations initialized
+     */
+    @Query("SELECT s FROM ServiceListing s JOIN FETCH s.category JOIN FETCH s.provider " +
+           "WHERE s.active = true")
+    List<ServiceListing> findAllActiveWithDetails();
+
+    /**
+     * Find the active listings of one category with category and provider fetched.
+     * Used to refresh the indexes after a category change.
+     *
+     * @param categoryId the category ID
+     * @return list of active listings in the category with associations initialized
+     */
+    @Query("SELECT s FROM ServiceListing s JOIN FETCH s.category JOIN FETCH s.provider " +
+           "WHERE s.active = true AND s.category.id = :categoryId")
+    List<ServiceListing> findActiveWithDetailsByCategoryId(@Param("categoryId") Long categoryId);
+
+    /**
+     * Find listings by IDs with category and provider fetched in the same query.
+     * Used to materialize search results returned by the in-memory index.
+     *
+     * @param ids the listing IDs
+     * @return list of matching listings (unordered)
+     */
+    @Query("SELECT s FROM ServiceListing s JOIN FETCH s.category JOIN FETCH s.provider " +
+           "WHERE s.id IN :ids")
+    List<ServiceListing> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find one listing with its category and provider in a single query.
+     *
+     * @param id the listing ID
+     * @return the listing, if it exists
+     */
+    @Query("SELECT s FROM ServiceListing s JOIN FETCH s.category JOIN FETCH s.provider WHERE s.id = :id")
+    Optional<ServiceListing> findWithDetailsById(@Param("id") Long id);
+
+    /**
+     * Find one page of active listings in a pincode.
+     * Served by the (pincode, active) index.
+     *
+     * @param pincode the pincode
+     * @param page page number and size
+     * @return active listings in the pincode ordered by ID
+     */
+    @Query("SELECT s FROM ServiceListing s JOIN FETCH s.category JOIN FETCH s.provider " +
+           "WHERE s.pincode = :pincode AND s.active = true ORDER BY s.id ASC")
+    List<ServiceListing> findActiveByPincode(@Param("pincode") Integer pincode, Pageable page);
+
+    // ==================== Keyset Pagination ====================
+    // Each sort has a first-page query and an "after cursor" query. Both walk the
+    // matching (active, sort key, id) index, so a page costs O(limit) regardless
+    // of catalog size. Pass PageRequest.of(0, n) to cap the number of rows.
+    // Rating and booking count are nullable; MySQL sorts NULLs last in descending
+    // order, so their "after" queries also take the NULL rows, and a cursor sitting
+    // on a NULL key continues with the "null after" query.
+
+    /**
+     * First page of active listings, newest first.
+     *
+     * @param page row limit (page number must be 0)
+     * @return listings ordered by creation time descending
+     */
+    @Query("SELECT s FROM ServiceListing s JOIN FETCH s.category JOIN FETCH s.provider " +
+           "WHERE s.active = true ORDER BY s.createdAt DESC, s.id DESC")
+    List<ServiceListing> findActiveNewest(Pageable page);
+
+    /**
+     * Next page of active listings, newest first.
+     *
+     * @param createdAt creation time of the last listing on the previous page
+     * @param id ID of the last listing on the previous page
+     * @param page row limit (page number must be 0)
+     * @return listings after the cursor
+     */
+    @Query("SELECT s FROM ServiceListing s JOIN FETCH s.category JOIN FETCH s.provider " +
+           "WHERE s.active = true AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id)) " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    List<ServiceListing> findActiveNewestAfter(
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable page
+    );
+
+    /**
+     * First page of active listings, cheapest first.
+     *
+     * @param page row limit (page number must be 0)
+     * @return listings ordered by price ascending
+     */
+    @Query("SELECT s FROM ServiceListing s JOIN FETCH s.category JOIN FETCH s.provider " +
+           "WHERE s.active = true ORDER BY s.price ASC, s.id ASC")
+    List<ServiceListing> findActiveByPriceAsc(Pageable page);
+
+    /**
+     * Next page of active listings, cheapest first.
+     *
+     * @param price price of the last listing on the previous page
+     * @param id ID of the last listing on the previous page
+     * @param page row limit (page number must be 0)
+     * @return listings after the cursor
+     */
+    @Query("SELECT s FROM ServiceListing s JOIN FETCH s.category JOIN FETCH s.provider " +
+           "WHERE s.active = true AND (s.price > :price OR (s.price = :price AND s.id > :id)) " +
+           "ORDER BY s.price ASC, s.id ASC")
+    List<ServiceListing> findActiveByPriceAscAfter(
+        @Param("price") Double price,
+        @Param("id") Long id,
+        Pageable page
+    );
+
+    /**
+     * First page of active listings, most expensive first.
+     *
+     * @param page row limit (page number must be 0)
+     * @return listings ordered by price descending
+     */
+    @Query("SELECT s FROM ServiceListing s JOIN FETCH s.category JOIN FETCH s.provider " +
+           "WHERE s.active = true ORDER BY s.price DESC, s.id DESC")
+    List<ServiceListing> findActiveByPriceDesc(Pageable page);
+
+    /**
+     * Next page of active listings, most expensive first.
+     *
+     * @param price price of the last listing on the previous page
+     * @param id ID of the last listing on the previous page
+     * @param page row limit (page number must be 0)
+     * @return listings after the cursor
+     */
+    @Query("SELECT s FROM ServiceListing s JOIN FETCH s.category JOIN FETCH s.provider " +
+           "WHERE s.active = true AND (s.price < :price OR (s.price = :price AND s.id < :id)) " +
+           "ORDER BY s.price DESC, s.id DESC")
+    List<ServiceListing> findActiveByPriceDescAfter(
+        @Param("price") Double price,
+        @Param("id") Long id,
+        Pageable page
+    );
+
+    /**
+     * First page of active listings, highest rated first.
+     *
+     * @param page row limit (page number must be 0)
+     * @return listings ordered by average rating descending
+     */
+    @Query("SELECT s FROM ServiceListing s JOIN FETCH s.category JOIN FETCH s.provider " +
+           "WHERE s.active = true ORDER BY s.averageRating DESC, s.id DESC")
+    List<ServiceListing> findActiveByRating(Pageable page);
+
+    /**
+     * Next page of active listings, highest rated first.
+     *
+     * @param rating average rating of the last listing on the previous page
+     * @param id ID of the last listing on the previous page
+     * @param page row limit (page number must be 0)
+     * @return listings after the cursor
+     */
+    @Query("SELECT s FROM ServiceListing s JOIN FETCH s.category JOIN FETCH s.provider " +
+           "WHERE s.active = true AND (s.averageRating < :rating OR (s.averageRating = :rating AND s.id < :id) " +
+           "OR s.averageRating IS NULL) " +
+           "ORDER BY s.averageRating DESC, s.id DESC")
+    List<ServiceListing> findActiveByRatingAfter(
+        @Param("rating") Double rating,
+        @Param("id") Long id,
+        Pageable page
+    );
+
+    /**
+     * Next page of active listings, highest rated first, when the previous page
+     * ended on a listing without a rating.
+     *
+     * @param id ID of the last listing on the previous page
+     * @param page row limit (page number must be 0)
+     * @return unrated listings after the cursor
+     */
+    @Query("SELECT s FROM ServiceListing s JOIN FETCH s.category JOIN FETCH s.provider " +
+           "WHERE s.active = true AND s.averageRating IS NULL AND s.id < :id " +
+           "ORDER BY s.averageRating DESC, s.id DESC")
+    List<ServiceListing> findActiveByRatingAfterNull(@Param("id") Long id, Pageable page);
+
+    /**
+     * First page of active listings, most booked first.
+     *
+     * @param page row limit (page number must be 0)
+     * @return listings ordered by booking count descending
+     */
+    @Query("SELECT s FROM ServiceListing s JOIN FETCH s.category JOIN FETCH s.provider " +
+           "WHERE s.active = true ORDER BY s.totalBookings DESC, s.id DESC")
+    List<ServiceListing> findActiveByPopularity(Pageable page);
+
+    /**
+     * Next page of active listings, most booked first.
+     *
+     * @param bookings booking count of the last listing on the previous page
+     * @param id ID of the last listing on the previous page
+     * @param page row limit (page number must be 0)
+     * @return listings after the cursor
+     */
+    @Query("SELECT s FROM ServiceListing s JOIN FETCH s.category JOIN FETCH s.provider " +
+           "WHERE s.active = true AND (s.totalBookings < :bookings OR (s.totalBookings = :bookings AND s.id < :id) " +
+           "OR s.totalBookings IS NULL) " +
+           "ORDER BY s.totalBookings DESC, s.id DESC")
+    List<ServiceListing> findActiveByPopularityAfter(
+        @Param("bookings") Integer bookings,
+        @Param("id") Long id,
+        Pageable page
+    );
+
+    /**
+     * Next page of active listings, most booked first, when the previous page
+     * ended on a listing without a booking count.
+     *
+     * @param id ID of the last listing on the previous page
+     * @param page row limit (page number must be 0)
+     * @return listings without a booking count after the cursor
+     */
+    @Query("SELECT s FROM ServiceListing s JOIN FETCH s.category JOIN FETCH s.provider " +
+           "WHERE s.active = true AND s.totalBookings IS NULL AND s.id < :id " +
+           "ORDER BY s.totalBookings DESC, s.id DESC")
+    List<ServiceListing> findActiveByPopularityAfterNull(@Param("id") Long id, Pageable page);
+
     /**
      * Find top-rated service listings in a city.
      *
@@ -146,6 +422,7 @@ public interface ServiceListingRepository extends JpaRepository<ServiceListing,
      * @param active the active status
      * @return list of listings within price range
      */
+    @EntityGraph(attributePaths = {"category", "provider"})
     List<ServiceListing> findByPriceBetweenAndActive(
         Double minPrice,
         Double maxPrice,
@@ -178,4 +455,54 @@ public interface ServiceListingRepository extends JpaRepository<ServiceListing,
      * @return count of listings in category
      */
     long countByCategory(ServiceCategory category);
+
+    /**
+     * Count one more booking on a listing with a single relative UPDATE, so
+     * concurrent bookings of the same listing never overwrite each other's increment.
+     *
+     * @param id the listing ID
+     * @return number of rows updated
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ServiceListing s SET s.totalBookings = COALESCE(s.totalBookings, 0) + 1 WHERE s.id = :id")
+    int incrementTotalBookings(@Param("id") Long id);
+
+    /**
+     * Read a listing's booking count straight from the database.
+     *
+     * @param id the listing ID
+     * @return the current total_bookings value
+     */
+    @Query("SELECT s.totalBookings FROM ServiceListing s WHERE s.id = :id")
+    Integer findTotalBookingsById(@Param("id") Long id);
+
+    /**
+     * Find the IDs of a provider's listings, lowest first.
+     * Used by the chunked user deletion job.
+     *
+     * @param providerId the provider's ID
+     * @param pageable how many IDs to return
+     * @return listing IDs
+     */
+    @Query("SELECT s.id FROM ServiceListing s WHERE s.provider.id = :providerId ORDER BY s.id")
+    List<Long> findIdsByProviderId(@Param("providerId") Long providerId, Pageable pageable);
+
+    /**
+     * Find the IDs of a provider's active listings.
+     *
+     * @param providerId the provider's ID
+     * @return listing IDs
+     */
+    @Query("SELECT s.id FROM ServiceListing s WHERE s.provider.id = :providerId AND s.active = true")
+    List<Long> findActiveIdsByProviderId(@Param("providerId") Long providerId);
+
+    /**
+     * Deactivate all of a provider's listings with a single UPDATE on the provider index.
+     *
+     * @param providerId the provider's ID
+     * @return number of listings deactivated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ServiceListing s SET s.active = false WHERE s.provider.id = :providerId AND s.active = true")
+    int deactivateByProviderId(@Param("providerId") Long providerId);
 }
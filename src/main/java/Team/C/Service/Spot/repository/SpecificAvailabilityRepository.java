@@ -4,12 +4,14 @@ import Team.C.Service.Spot.model.SpecificAvailability;
 import Team.C.Service.Spot.model.User;
 import Team.C.Service.Spot.model.ServiceListing;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -112,5 +114,23 @@ public interface SpecificAvailabilityRepository extends JpaRepository<SpecificAv
      * Delete all past availability (cleanup)
      */
     void deleteByAvailableDateLessThan(LocalDate date);
-}
 
+    /**
+     * Delete up to limit availability slots of a provider (idx_provider_date).
+     * Used by the chunked user deletion job.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM specific_availability WHERE provider_id = :providerId LIMIT :limit",
+           nativeQuery = true)
+    int deleteChunkByProviderId(@Param("providerId") Long providerId, @Param("limit") int limit);
+
+    /**
+     * Delete up to limit availability slots of the given listings (idx_service_date).
+     * Used by the chunked user deletion job before it deletes the listings.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM specific_availability WHERE service_listing_id IN (:serviceListingIds) LIMIT :limit",
+           nativeQuery = true)
+    int deleteChunkByServiceListingIdIn(@Param("serviceListingIds") Collection<Long> serviceListingIds,
+                                        @Param("limit") int limit);
+}
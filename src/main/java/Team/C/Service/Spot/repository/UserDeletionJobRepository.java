@@ -0,0 +1,113 @@
+package Team.C.Service.Spot.repository;
+
+import Team.C.Service.Spot.model.UserDeletionJob;
+import Team.C.Service.Spot.model.enums.DeletionJobState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for background user deletion jobs.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Repository
+public interface UserDeletionJobRepository extends JpaRepository<UserDeletionJob, String> {
+
+    /**
+     * Find a user's job in one of the given states.
+     *
+     * @param userId the user ID
+     * @param states states to match
+     * @return the first matching job, if any
+     */
+    Optional<UserDeletionJob> findFirstByUserIdAndStateIn(Long userId, Collection<DeletionJobState> states);
+
+    /**
+     * Find the IDs of jobs in one of the given states whose worker stopped sending heartbeats.
+     *
+     * @param states states to match
+     * @param staleBefore heartbeats older than this are stale
+     * @return job IDs
+     */
+    @Query("SELECT j.id FROM UserDeletionJob j WHERE j.state IN :states AND j.heartbeatAt < :staleBefore")
+    List<String> findStaleIds(@Param("states") Collection<DeletionJobState> states,
+                              @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * Move a new job from queued to running. Only one caller can succeed.
+     *
+     * @param id the job ID
+     * @param queued the state the job must still be in
+     * @param running the new state
+     * @param now start time and heartbeat
+     * @return 1 if the job was started, 0 if someone else already took it
+     */
+    @Modifying
+    @Query("UPDATE UserDeletionJob j SET j.state = :running, j.startedAt = :now, j.heartbeatAt = :now " +
+           "WHERE j.id = :id AND j.state = :queued")
+    int start(@Param("id") String id,
+              @Param("queued") DeletionJobState queued,
+              @Param("running") DeletionJobState running,
+              @Param("now") LocalDateTime now);
+
+    /**
+     * Take over a stale job. Only one caller can succeed, because the heartbeat it
+     * matches on is moved forward by the same statement.
+     *
+     * @param id the job ID
+     * @param states states the job must still be in
+     * @param running the new state
+     * @param staleBefore the heartbeat must be older than this
+     * @param now the new heartbeat
+     * @return 1 if the job was claimed, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE UserDeletionJob j SET j.state = :running, j.heartbeatAt = :now, " +
+           "j.startedAt = COALESCE(j.startedAt, :now) " +
+           "WHERE j.id = :id AND j.state IN :states AND j.heartbeatAt < :staleBefore")
+    int claim(@Param("id") String id,
+              @Param("states") Collection<DeletionJobState> states,
+              @Param("running") DeletionJobState running,
+              @Param("staleBefore") LocalDateTime staleBefore,
+              @Param("now") LocalDateTime now);
+
+    /**
+     * Delete finished jobs older than the retention period.
+     *
+     * @param cutoff jobs finished before this time are deleted
+     * @return number of deleted jobs
+     */
+    @Modifying
+    @Query("DELETE FROM UserDeletionJob j WHERE j.finishedAt < :cutoff")
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Move a running job's heartbeat forward, but only while the caller still
+     * owns it: a job reclaimed by another worker has a new heartbeat, so the
+     * old worker's update matches no row. The row stays locked until the
+     * caller's transaction ends, so its progress can be saved safely after this.
+     *
+     * @param id the job ID
+     * @param running the state the job must still be in
+     * @param heartbeat the heartbeat the caller last wrote or read
+     * @param now the new heartbeat
+     * @return 1 if the caller still owns the job, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE UserDeletionJob j SET j.heartbeatAt = :now " +
+           "WHERE j.id = :id AND j.state = :running AND j.heartbeatAt = :heartbeat")
+    int renew(@Param("id") String id,
+              @Param("running") DeletionJobState running,
+              @Param("heartbeat") LocalDateTime heartbeat,
+              @Param("now") LocalDateTime now);
+}
@@ -1,12 +1,18 @@
 package Team.C.Service.Spot.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import Team.C.Service.Spot.model.User;
 import Team.C.Service.Spot.model.enums.Role;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,7 +27,7 @@ import java.util.Optional;
  * @since 2025-11-28
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
 
     /**
      * Find a user by email address (used for authentication).
@@ -73,6 +79,92 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     List<User> findByCityAndRole(String city, Role role);
 
+    /**
+     * Find one page of users by role, city and active status.
+     * Served by the (role, city, active) index.
+     *
+     * @param role the role (PROVIDER)
+     * @param city the city name
+     * @param active the active status
+     * @param page page number and size
+     * @return matching users ordered by ID
+     */
+    List<User> findByRoleAndCityAndActiveOrderByIdAsc(Role role, String city, Boolean active, Pageable page);
+
+    /**
+     * Find one page of users by role, pincode and active status.
+     * Served by the (role, pincode, active) index.
+     *
+     * @param role the role (PROVIDER)
+     * @param pincode the pincode
+     * @param active the active status
+     * @param page page number and size
+     * @return matching users ordered by ID
+     */
+    List<User> findByRoleAndPincodeAndActiveOrderByIdAsc(Role role, Integer pincode, Boolean active, Pageable page);
+
+    /**
+     * Find the next page of active users of a role matching the optional filters, ordered by ID.
+     * Only the filters that are set become predicates, so each combination is a plain
+     * equality query that MySQL can serve from the (role, city, active),
+     * (role, pincode, active) or (role, service_type, active) index. City matching
+     * relies on the column's case-insensitive collation, like findByRoleAndCityAndActiveOrderByIdAsc.
+     *
+     * @param role the role (PROVIDER)
+     * @param city optional city
+     * @param pincode optional pincode
+     * @param serviceType optional service type
+     * @param verified optional verified status
+     * @param afterId ID of the last user of the previous page (0 for the first page)
+     * @param limit maximum number of users to return
+     * @return matching users ordered by ID
+     */
+    default List<User> findDirectoryPage(Role role, String city, Integer pincode, String serviceType,
+                                         Boolean verified, long afterId, int limit) {
+        List<Specification<User>> filters = new ArrayList<>();
+        filters.add((user, query, cb) -> cb.equal(user.get("role"), role));
+        filters.add((user, query, cb) -> cb.isTrue(user.get("active")));
+        if (city != null) {
+            filters.add((user, query, cb) -> cb.equal(user.get("city"), city));
+        }
+        if (pincode != null) {
+            filters.add((user, query, cb) -> cb.equal(user.get("pincode"), pincode));
+        }
+        if (serviceType != null) {
+            filters.add((user, query, cb) -> cb.equal(user.get("serviceType"), serviceType));
+        }
+        if (verified != null) {
+            filters.add((user, query, cb) -> cb.equal(user.get("verified"), verified));
+        }
+        filters.add((user, query, cb) -> cb.greaterThan(user.get("id"), afterId));
+
+        return findBy(Specification.allOf(filters), page -> page.sortBy(Sort.by("id")).limit(limit).all());
+    }
+
+    /**
+     * Find the distinct service types of the active users of a role in a city.
+     * Served by the (role, city, active) index.
+     *
+     * @param role the role (PROVIDER)
+     * @param city the city name
+     * @return sorted service types
+     */
+    @Query("SELECT DISTINCT u.serviceType FROM User u WHERE u.role = :role AND u.city = :city " +
+           "AND u.active = true AND u.serviceType IS NOT NULL ORDER BY u.serviceType")
+    List<String> findDistinctServiceTypesInCity(@Param("role") Role role, @Param("city") String city);
+
+    /**
+     * Find the distinct pincodes of the active users of a role in a city.
+     * Served by the (role, city, active) index.
+     *
+     * @param role the role (PROVIDER)
+     * @param city the city name
+     * @return sorted pincodes
+     */
+    @Query("SELECT DISTINCT u.pincode FROM User u WHERE u.role = :role AND u.city = :city " +
+           "AND u.active = true AND u.pincode IS NOT NULL ORDER BY u.pincode")
+    List<Integer> findDistinctPincodesInCity(@Param("role") Role role, @Param("city") String city);
+
     /**
      * Find verified providers by service type.
      *
@@ -117,6 +209,38 @@ public interface UserRepository extends JpaRepository<User, Long> {
            "LOWER(u.serviceType) LIKE LOWER(CONCAT('%', :keyword, '%')))")
     List<User> searchProviders(@Param("keyword") String keyword, @Param("role") Role role);
 
+    /**
+     * Full-text provider search in natural language mode, ranked by relevance.
+     * Requires the ft_user_name_service_type_description FULLTEXT index.
+     *
+     * @param query the search text
+     * @param role the role name (PROVIDER)
+     * @param limit maximum number of providers
+     * @return active matching providers, best match first
+     */
+    @Query(value = "SELECT * FROM users u WHERE u.role = :role AND u.active = true " +
+           "AND MATCH(u.name, u.service_type, u.description) AGAINST (:query IN NATURAL LANGUAGE MODE) " +
+           "ORDER BY MATCH(u.name, u.service_type, u.description) AGAINST (:query IN NATURAL LANGUAGE MODE) DESC " +
+           "LIMIT :limit", nativeQuery = true)
+    List<User> fullTextSearchProviders(@Param("query") String query, @Param("role") String role,
+                                       @Param("limit") int limit);
+
+    /**
+     * Full-text provider search in boolean mode, ranked by relevance.
+     * Requires the ft_user_name_service_type_description FULLTEXT index.
+     *
+     * @param query boolean mode query (e.g. "+electric*")
+     * @param role the role name (PROVIDER)
+     * @param limit maximum number of providers
+     * @return active matching providers, best match first
+     */
+    @Query(value = "SELECT * FROM users u WHERE u.role = :role AND u.active = true " +
+           "AND MATCH(u.name, u.service_type, u.description) AGAINST (:query IN BOOLEAN MODE) " +
+           "ORDER BY MATCH(u.name, u.service_type, u.description) AGAINST (:query IN BOOLEAN MODE) DESC " +
+           "LIMIT :limit", nativeQuery = true)
+    List<User> fullTextSearchProvidersBoolean(@Param("query") String query, @Param("role") String role,
+                                              @Param("limit") int limit);
+
     /**
      * Find top-rated providers in a city.
      *
@@ -150,5 +274,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return number of users matching criteria
      */
     long countByRoleAndVerified(Role role, Boolean verified);
-}
 
+    /**
+     * Replace a password hash, but only if it is still the one that was verified,
+     * so a password changed in the meantime is never overwritten.
+     *
+     * @param id the user ID
+     * @param currentHash the hash the login was verified against
+     * @param newHash the replacement hash
+     * @return number of rows updated (0 if the password changed in the meantime)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :currentHash")
+    int updatePasswordHash(@Param("id") Long id, @Param("currentHash") String currentHash,
+                           @Param("newHash") String newHash);
+}
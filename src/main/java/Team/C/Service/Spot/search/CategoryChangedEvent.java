@@ -0,0 +1,18 @@
+package Team.C.Service.Spot.search;
+
+import lombok.Value;
+
+/**
+ * Application event published whenever a service category is created or
+ * modified. Listings embed their category's name, so consumers refresh the
+ * listings of the category.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Value
+public class CategoryChangedEvent {
+
+    Long categoryId;
+}
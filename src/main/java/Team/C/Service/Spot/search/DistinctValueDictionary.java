@@ -0,0 +1,91 @@
+package Team.C.Service.Spot.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reference-counted set of distinct values with a cached sorted snapshot.
+ *
+ * <p>Each value remembers how many documents contribute it, so adding and
+ * removing a document is O(1) and a value disappears only when its last
+ * document goes away. Reads return an immutable sorted list that is rebuilt
+ * only after the set of distinct values actually changed.</p>
+ *
+ * @param <T> value type
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public class DistinctValueDictionary<T extends Comparable<? super T>> {
+
+    private final Map<T, Integer> counts = new HashMap<>();
+
+    /**
+     * Sorted snapshot of the keys; null after a change until the next read
+     */
+    private volatile List<T> snapshot = List.of();
+
+    /**
+     * Count one more document carrying the value. Null and empty values are ignored.
+     *
+     * @param value the value
+     */
+    public synchronized void add(T value) {
+        if (isEmpty(value)) {
+            return;
+        }
+        if (counts.merge(value, 1, Integer::sum) == 1) {
+            snapshot = null;
+        }
+    }
+
+    /**
+     * Count one document less carrying the value. Null and empty values are ignored.
+     *
+     * @param value the value
+     */
+    public synchronized void remove(T value) {
+        if (isEmpty(value) || !counts.containsKey(value)) {
+            return;
+        }
+        Integer remaining = counts.computeIfPresent(value, (key, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            snapshot = null;
+        }
+    }
+
+    /**
+     * Drop every value.
+     */
+    public synchronized void clear() {
+        counts.clear();
+        snapshot = List.of();
+    }
+
+    /**
+     * Get the distinct values in natural order.
+     *
+     * @return immutable sorted list, shared between callers until the next change
+     */
+    public List<T> values() {
+        List<T> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                List<T> sorted = new ArrayList<>(counts.keySet());
+                Collections.sort(sorted);
+                snapshot = Collections.unmodifiableList(sorted);
+            }
+            return snapshot;
+        }
+    }
+
+    private static boolean isEmpty(Object value) {
+        return value == null || value instanceof String text && text.isEmpty();
+    }
+}
@@ -0,0 +1,327 @@
+package Team.C.Service.Spot.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typo-tolerant lookup of owners (listings or providers) by the words of
+ * their text.
+ *
+ * <p>Distinct words are indexed by their character trigrams and by their
+ * length. A query word only looks at the words sharing enough trigrams with
+ * it to possibly be within the allowed edit distance, and each of those
+ * candidates is then verified with a bounded edit distance. Short query words
+ * have too few trigrams for that filter to prove anything, so they fall back
+ * to the words of nearby lengths instead. Nothing is ever scanned in full.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public class FuzzyTermIndex {
+
+    /**
+     * Shorter words are too ambiguous to correct
+     */
+    private static final int MIN_TERM_LENGTH = 3;
+
+    /**
+     * Pads words so that their first and last characters get trigrams of their own
+     */
+    private static final char PAD = '$';
+
+    /**
+     * Trigrams one edit can destroy: three for an insertion, deletion or
+     * substitution, four for an adjacent transposition
+     */
+    private static final int GRAMS_PER_EDIT = 4;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * word -> owners whose text contains it
+     */
+    private final Map<String, Set<Long>> owners = new HashMap<>();
+
+    /**
+     * trigram -> words containing it
+     */
+    private final Map<String, Set<String>> postings = new HashMap<>();
+
+    /**
+     * word length -> words of that length, for queries too short to filter by trigrams
+     */
+    private final Map<Integer, Set<String>> lengths = new HashMap<>();
+
+    /**
+     * owner -> its words, needed to unindex it
+     */
+    private final Map<Long, Set<String>> ownerTerms = new HashMap<>();
+
+    /**
+     * Replace the whole index.
+     *
+     * @param texts owner ID -> searchable text
+     */
+    public void rebuild(Map<Long, String> texts) {
+        lock.writeLock().lock();
+        try {
+            owners.clear();
+            postings.clear();
+            lengths.clear();
+            ownerTerms.clear();
+            texts.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Index or re-index one owner.
+     *
+     * @param ownerId owner ID
+     * @param text searchable text (null removes the owner)
+     */
+    public void put(Long ownerId, String text) {
+        lock.writeLock().lock();
+        try {
+            release(ownerId);
+            add(ownerId, text);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove one owner.
+     *
+     * @param ownerId owner ID
+     */
+    public void remove(Long ownerId) {
+        lock.writeLock().lock();
+        try {
+            release(ownerId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find the owners whose words are close to the query words.
+     *
+     * @param query raw query text
+     * @param maxEdits maximum edit distance allowed for long words (short words allow one)
+     * @param limit maximum number of owner IDs
+     * @return owner IDs, most query words matched first, then closest
+     */
+    public List<Long> search(String query, int maxEdits, int limit) {
+        Set<String> queryTerms = terms(query);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Score> scores = new HashMap<>();
+            for (String queryTerm : queryTerms) {
+                int allowed = allowedEdits(queryTerm, maxEdits);
+
+                // owner -> smallest distance of any of its words to this query word
+                Map<Long, Integer> best = new HashMap<>();
+                for (Map.Entry<String, Integer> match : closeTerms(queryTerm, allowed).entrySet()) {
+                    for (Long ownerId : owners.get(match.getKey())) {
+                        best.merge(ownerId, match.getValue(), Math::min);
+                    }
+                }
+                best.forEach((ownerId, distance) ->
+                        scores.computeIfAbsent(ownerId, id -> new Score()).add(distance));
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Score>comparingByValue(Score.BEST_FIRST)
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexed words within the allowed distance of a query word.
+     *
+     * @return word -> edit distance
+     */
+    private Map<String, Integer> closeTerms(String queryTerm, int allowed) {
+        List<String> grams = trigrams(queryTerm);
+        int minShared = grams.size() - GRAMS_PER_EDIT * allowed;
+
+        Set<String> candidates;
+        if (minShared > 0) {
+            Map<String, Integer> shared = new HashMap<>();
+            for (String gram : grams) {
+                Set<String> terms = postings.get(gram);
+                if (terms != null) {
+                    for (String term : terms) {
+                        shared.merge(term, 1, Integer::sum);
+                    }
+                }
+            }
+            candidates = new HashSet<>();
+            shared.forEach((term, count) -> {
+                if (count >= minShared) {
+                    candidates.add(term);
+                }
+            });
+        } else {
+            // A close word may share no trigram at all ("palm" / "plam"), so check every word of a nearby length
+            candidates = new HashSet<>();
+            for (int length = queryTerm.length() - allowed; length <= queryTerm.length() + allowed; length++) {
+                candidates.addAll(lengths.getOrDefault(length, Set.of()));
+            }
+        }
+
+        Map<String, Integer> matches = new HashMap<>();
+        for (String term : candidates) {
+            if (Math.abs(term.length() - queryTerm.length()) > allowed) {
+                continue;
+            }
+            int distance = boundedDistance(queryTerm, term, allowed);
+            if (distance <= allowed) {
+                matches.put(term, distance);
+            }
+        }
+        return matches;
+    }
+
+    private void add(Long ownerId, String text) {
+        Set<String> terms = terms(text);
+        if (terms.isEmpty()) {
+            return;
+        }
+        ownerTerms.put(ownerId, terms);
+        for (String term : terms) {
+            Set<Long> termOwners = owners.get(term);
+            if (termOwners == null) {
+                termOwners = new HashSet<>();
+                owners.put(term, termOwners);
+                for (String gram : trigrams(term)) {
+                    postings.computeIfAbsent(gram, g -> new HashSet<>()).add(term);
+                }
+                lengths.computeIfAbsent(term.length(), l -> new HashSet<>()).add(term);
+            }
+            termOwners.add(ownerId);
+        }
+    }
+
+    private void release(Long ownerId) {
+        Set<String> terms = ownerTerms.remove(ownerId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Set<Long> termOwners = owners.get(term);
+            termOwners.remove(ownerId);
+            if (termOwners.isEmpty()) {
+                owners.remove(term);
+                for (String gram : trigrams(term)) {
+                    Set<String> gramTerms = postings.get(gram);
+                    gramTerms.remove(term);
+                    if (gramTerms.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+                Set<String> lengthTerms = lengths.get(term.length());
+                lengthTerms.remove(term);
+                if (lengthTerms.isEmpty()) {
+                    lengths.remove(term.length());
+                }
+            }
+        }
+    }
+
+    private static Set<String> terms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String token : TextAnalyzer.tokenize(text)) {
+            if (token.length() >= MIN_TERM_LENGTH) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+
+    private static List<String> trigrams(String term) {
+        String padded = PAD + term + PAD;
+        List<String> grams = new ArrayList<>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private static int allowedEdits(String term, int maxEdits) {
+        return Math.min(maxEdits, term.length() <= 4 ? 1 : 2);
+    }
+
+    /**
+     * Optimal string alignment distance (insertions, deletions, substitutions
+     * and adjacent transpositions), giving up as soon as it exceeds the bound.
+     *
+     * @return the distance, or bound + 1 if it is larger than the bound
+     */
+    static int boundedDistance(String a, String b, int bound) {
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > bound) {
+                return bound + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], bound + 1);
+    }
+
+    /**
+     * Match quality of one owner
+     */
+    private static final class Score {
+        private static final Comparator<Score> BEST_FIRST = Comparator
+                .comparingInt((Score s) -> s.matchedTerms).reversed()
+                .thenComparingInt(s -> s.totalDistance);
+
+        private int matchedTerms;
+        private int totalDistance;
+
+        private void add(int distance) {
+            matchedTerms++;
+            totalDistance += distance;
+        }
+    }
+}
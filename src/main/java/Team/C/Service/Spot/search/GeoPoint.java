@@ -0,0 +1,38 @@
+package Team.C.Service.Spot.search;
+
+import lombok.Value;
+
+/**
+ * A latitude/longitude pair in degrees (WGS84).
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Value
+public class GeoPoint {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    double latitude;
+    double longitude;
+
+    /**
+     * Great-circle distance using the haversine formula.
+     *
+     * @param other the other point
+     * @return distance in kilometers
+     */
+    public double distanceKm(GeoPoint other) {
+        return distanceKm(latitude, longitude, other.latitude, other.longitude);
+    }
+
+    static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
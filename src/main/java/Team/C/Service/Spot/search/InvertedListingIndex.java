@@ -0,0 +1,255 @@
+package Team.C.Service.Spot.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Tokenized inverted index over active service listings.
+ *
+ * <p>Indexes title, description, category name and city with per-field weights
+ * and ranks matches with BM25. The term dictionary is sorted so the last typed
+ * word also matches longer terms by prefix ("plumb" finds "plumbing"), which keeps
+ * the behaviour close to the previous LIKE search while only touching the
+ * postings of the query terms instead of scanning every listing.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+@Slf4j
+public class InvertedListingIndex implements ListingIndex {
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float CATEGORY_WEIGHT = 2.0f;
+    private static final float CITY_WEIGHT = 1.5f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    /**
+     * BM25 term-frequency saturation and length normalization parameters
+     */
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    /**
+     * Prefix matches count less than exact term matches
+     */
+    private static final double PREFIX_MATCH_FACTOR = 0.6;
+    private static final int MAX_PREFIX_EXPANSIONS = 32;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * term -> (listing ID -> weighted term frequency)
+     */
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+
+    /**
+     * listing ID -> its terms, kept so a listing can be removed without a scan
+     */
+    private final Map<Long, Map<String, Float>> documentTerms = new HashMap<>();
+
+    private final Map<Long, Float> documentLengths = new HashMap<>();
+    private double totalLength;
+
+    @Override
+    public void rebuild(Collection<ListingDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documentTerms.clear();
+            documentLengths.clear();
+            totalLength = 0;
+
+            for (ListingDocument document : documents) {
+                if (document.isSearchable()) {
+                    addDocument(document);
+                }
+            }
+            log.info("Inverted index built: {} listings, {} terms", documentTerms.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(ListingDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(document.getId());
+            addDocument(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long listingId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(listingId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Search the index and return listing IDs ordered by relevance.
+     *
+     * @param query free-text query
+     * @param limit maximum number of IDs to return
+     * @return ranked listing IDs, best match first
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> typed = TextAnalyzer.tokenize(query);
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(typed));
+        if (tokens.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        // Only the word still being typed is incomplete; the earlier ones must match exactly
+        String lastTyped = typed.get(typed.size() - 1);
+
+        Map<Long, Double> scores = new HashMap<>();
+        Map<Long, Integer> matchedTokens = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documentTerms.size();
+            if (documentCount == 0) {
+                return Collections.emptyList();
+            }
+            double averageLength = totalLength / documentCount;
+
+            for (String token : tokens) {
+                Map<Long, Double> tokenScores = new HashMap<>();
+
+                scoreTerm(token, 1.0, documentCount, averageLength, tokenScores);
+
+                if (token.equals(lastTyped)) {
+                    int expansions = 0;
+                    for (String term : postings.subMap(token, false, token + Character.MAX_VALUE, false).keySet()) {
+                        if (++expansions > MAX_PREFIX_EXPANSIONS) {
+                            break;
+                        }
+                        scoreTerm(term, PREFIX_MATCH_FACTOR, documentCount, averageLength, tokenScores);
+                    }
+                }
+
+                tokenScores.forEach((id, score) -> {
+                    scores.merge(id, score, Double::sum);
+                    matchedTokens.merge(id, 1, Integer::sum);
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // Listings matching every query word rank above partial matches
+        Comparator<Map.Entry<Long, Double>> byScore = Map.Entry.comparingByValue();
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(
+                byScore.thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()));
+
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            double coordination = (double) matchedTokens.get(entry.getKey()) / tokens.size();
+            top.offer(Map.entry(entry.getKey(), entry.getValue() * coordination));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Long> ranked = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ranked.add(top.poll().getKey());
+        }
+        Collections.reverse(ranked);
+        return ranked;
+    }
+
+    /**
+     * Get the number of indexed listings.
+     *
+     * @return indexed listing count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentTerms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void scoreTerm(String term, double factor, int documentCount, double averageLength,
+                           Map<Long, Double> tokenScores) {
+        Map<Long, Float> posting = postings.get(term);
+        if (posting == null) {
+            return;
+        }
+
+        int documentFrequency = posting.size();
+        double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+        for (Map.Entry<Long, Float> entry : posting.entrySet()) {
+            double tf = entry.getValue();
+            double length = documentLengths.get(entry.getKey());
+            double score = factor * idf * (tf * (K1 + 1))
+                    / (tf + K1 * (1 - B + B * length / averageLength));
+            tokenScores.merge(entry.getKey(), score, Math::max);
+        }
+    }
+
+    private void addDocument(ListingDocument document) {
+        Map<String, Float> terms = new HashMap<>();
+        addField(terms, document.getTitle(), TITLE_WEIGHT);
+        addField(terms, document.getCategoryName(), CATEGORY_WEIGHT);
+        addField(terms, document.getCity(), CITY_WEIGHT);
+        addField(terms, document.getDescription(), DESCRIPTION_WEIGHT);
+
+        float length = 0;
+        for (Map.Entry<String, Float> term : terms.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), k -> new HashMap<>()).put(document.getId(), term.getValue());
+            length += term.getValue();
+        }
+
+        documentTerms.put(document.getId(), terms);
+        documentLengths.put(document.getId(), length);
+        totalLength += length;
+    }
+
+    private void removeDocument(Long listingId) {
+        Map<String, Float> terms = documentTerms.remove(listingId);
+        if (terms == null) {
+            return;
+        }
+
+        for (String term : terms.keySet()) {
+            Map<Long, Float> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(listingId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= documentLengths.remove(listingId);
+    }
+
+    private static void addField(Map<String, Float> terms, String text, float weight) {
+        for (String token : TextAnalyzer.tokenize(text)) {
+            terms.merge(token, weight, Float::sum);
+        }
+    }
+}
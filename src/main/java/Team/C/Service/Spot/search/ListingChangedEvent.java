@@ -0,0 +1,34 @@
+package Team.C.Service.Spot.search;
+
+import lombok.Value;
+
+/**
+ * Application event published by the service layer whenever a listing is
+ * created, modified or deleted. Delivered to the indexes after commit.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Value
+public class ListingChangedEvent {
+
+    Long listingId;
+
+    /**
+     * Snapshot of the listing after the change; null when the listing was deleted
+     */
+    ListingDocument document;
+
+    public static ListingChangedEvent upserted(ListingDocument document) {
+        return new ListingChangedEvent(document.getId(), document);
+    }
+
+    public static ListingChangedEvent removed(Long listingId) {
+        return new ListingChangedEvent(listingId, null);
+    }
+
+    public boolean isRemoval() {
+        return document == null;
+    }
+}
@@ -0,0 +1,86 @@
+package Team.C.Service.Spot.search;
+
+import Team.C.Service.Spot.model.ServiceCategory;
+import Team.C.Service.Spot.model.ServiceListing;
+import Team.C.Service.Spot.model.User;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable snapshot of the ServiceListing fields used by the in-memory indexes.
+ * Taken inside the writing transaction so index maintenance never touches
+ * lazy associations or the database.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Value
+@Builder(toBuilder = true)
+public class ListingDocument {
+
+    Long id;
+    String title;
+    String description;
+    Long categoryId;
+    String categoryName;
+    Long providerId;
+    Boolean providerVerified;
+    String city;
+    String state;
+    Integer pincode;
+    Integer serviceRadiusKm;
+    Double price;
+    Double averageRating;
+    Integer reviewCount;
+    Integer totalBookings;
+    Integer viewCount;
+    Boolean active;
+    Boolean featured;
+    LocalDateTime createdAt;
+
+    /**
+     * Create a document from a managed ServiceListing entity.
+     * Must be called while the persistence context is still open.
+     *
+     * @param listing the ServiceListing entity
+     * @return snapshot of the listing
+     */
+    public static ListingDocument from(ServiceListing listing) {
+        ServiceCategory category = listing.getCategory();
+        User provider = listing.getProvider();
+
+        return ListingDocument.builder()
+                .id(listing.getId())
+                .title(listing.getTitle())
+                .description(listing.getDescription())
+                .categoryId(category != null ? category.getId() : null)
+                .categoryName(category != null ? category.getName() : null)
+                .providerId(provider != null ? provider.getId() : null)
+                .providerVerified(provider != null ? provider.getVerified() : null)
+                .city(listing.getCity())
+                .state(listing.getState())
+                .pincode(listing.getPincode())
+                .serviceRadiusKm(listing.getServiceRadiusKm())
+                .price(listing.getPrice())
+                .averageRating(listing.getAverageRating())
+                .reviewCount(listing.getReviewCount())
+                .totalBookings(listing.getTotalBookings())
+                .viewCount(listing.getViewCount())
+                .active(listing.getActive())
+                .featured(listing.getFeatured())
+                .createdAt(listing.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * Check if the listing should be visible in search and browse indexes.
+     *
+     * @return true if the listing is active
+     */
+    public boolean isSearchable() {
+        return Boolean.TRUE.equals(active);
+    }
+}
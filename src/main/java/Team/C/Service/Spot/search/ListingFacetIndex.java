@@ -0,0 +1,379 @@
+package Team.C.Service.Spot.search;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * In-memory facet index over active listings for the browse page filters.
+ *
+ * <p>Every listing gets a dense ordinal. Equality filters (city, category,
+ * pincode) are answered with one BitSet per value; price and rating ranges are
+ * checked against the per-ordinal entry. Facet counts follow the usual
+ * multi-select rule: each dimension is counted with every filter applied
+ * except its own, so the UI can show how many results picking another value
+ * would give.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+@Slf4j
+public class ListingFacetIndex implements ListingIndex {
+
+    /**
+     * Upper bounds (exclusive) of the price bands shown on the browse page
+     */
+    private static final double[] PRICE_BAND_LIMITS = {500, 1000, 2500, 5000, Double.POSITIVE_INFINITY};
+    private static final String[] PRICE_BAND_VALUES = {"0-500", "500-1000", "1000-2500", "2500-5000", "5000+"};
+    private static final String[] PRICE_BAND_LABELS = {
+            "Under ₹500", "₹500 - ₹1,000", "₹1,000 - ₹2,500", "₹2,500 - ₹5,000", "₹5,000 & above"
+    };
+
+    /**
+     * Rating thresholds for the cumulative "N stars and up" facet
+     */
+    private static final int[] RATING_THRESHOLDS = {4, 3, 2, 1};
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final List<Entry> entries = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+
+    private final Map<String, BitSet> cityPostings = new HashMap<>();
+    private final Map<Long, BitSet> categoryPostings = new HashMap<>();
+    private final Map<Integer, BitSet> pincodePostings = new HashMap<>();
+
+    @Override
+    public void rebuild(Collection<ListingDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            ordinals.clear();
+            entries.clear();
+            freeOrdinals.clear();
+            live.clear();
+            cityPostings.clear();
+            categoryPostings.clear();
+            pincodePostings.clear();
+
+            for (ListingDocument document : documents) {
+                if (document.isSearchable()) {
+                    addDocument(document);
+                }
+            }
+            log.info("Facet index built: {} listings, {} cities, {} categories",
+                    ordinals.size(), cityPostings.size(), categoryPostings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(ListingDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(document.getId());
+            addDocument(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long listingId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(listingId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Filter the active listings and count every facet in one pass.
+     *
+     * @param filter the selected filters (null fields are ignored)
+     * @param page zero-based page number
+     * @param size page size
+     * @return page of listing IDs (best rated first), total matches and facet counts
+     */
+    public Result search(Filter filter, int page, int size) {
+        lock.readLock().lock();
+        try {
+            BitSet cityBits = equalityBits(cityPostings, filter.getCity() != null ? normalizeCity(filter.getCity()) : null);
+            BitSet categoryBits = equalityBits(categoryPostings, filter.getCategoryId());
+            BitSet pincodeBits = equalityBits(pincodePostings, filter.getPincode());
+
+            Map<String, Long> cityCounts = new TreeMap<>();
+            Map<Long, Long> categoryCounts = new HashMap<>();
+            Map<Integer, Long> pincodeCounts = new TreeMap<>();
+            long[] priceBandCounts = new long[PRICE_BAND_LIMITS.length];
+            long[] ratingCounts = new long[RATING_THRESHOLDS.length];
+            List<Entry> matches = new ArrayList<>();
+
+            for (int ordinal = live.nextSetBit(0); ordinal >= 0; ordinal = live.nextSetBit(ordinal + 1)) {
+                Entry entry = entries.get(ordinal);
+
+                boolean city = cityBits == null || cityBits.get(ordinal);
+                boolean category = categoryBits == null || categoryBits.get(ordinal);
+                boolean pincode = pincodeBits == null || pincodeBits.get(ordinal);
+                boolean price = matchesPrice(entry, filter);
+                boolean rating = filter.getMinRating() == null || entry.rating >= filter.getMinRating();
+
+                if (category && pincode && price && rating && entry.cityKey != null) {
+                    cityCounts.merge(entry.cityKey, 1L, Long::sum);
+                }
+                if (city && pincode && price && rating && entry.categoryId != null) {
+                    categoryCounts.merge(entry.categoryId, 1L, Long::sum);
+                }
+                if (city && category && price && rating && entry.pincode != null) {
+                    pincodeCounts.merge(entry.pincode, 1L, Long::sum);
+                }
+                if (city && category && pincode && rating) {
+                    priceBandCounts[priceBand(entry.price)]++;
+                }
+                if (city && category && pincode && price) {
+                    for (int i = 0; i < RATING_THRESHOLDS.length; i++) {
+                        if (entry.rating >= RATING_THRESHOLDS[i]) {
+                            ratingCounts[i]++;
+                        }
+                    }
+                }
+                if (city && category && pincode && price && rating) {
+                    matches.add(entry);
+                }
+            }
+
+            matches.sort(Comparator.comparingDouble((Entry e) -> e.rating).reversed()
+                    .thenComparing(Comparator.comparingInt((Entry e) -> e.reviewCount).reversed())
+                    .thenComparingLong(e -> e.listingId));
+
+            int from = (int) Math.min((long) Math.max(page, 0) * Math.max(size, 0), matches.size());
+            int to = (int) Math.min((long) from + Math.max(size, 0), matches.size());
+            List<Long> pageIds = matches.subList(from, to).stream().map(e -> e.listingId).toList();
+
+            return Result.builder()
+                    .listingIds(pageIds)
+                    .total(matches.size())
+                    .cities(toFacets(cityCounts, this::cityDisplayName))
+                    .categories(toCategoryFacets(categoryCounts))
+                    .pincodes(toFacets(pincodeCounts, String::valueOf))
+                    .priceBands(toPriceBandFacets(priceBandCounts))
+                    .ratings(toRatingFacets(ratingCounts))
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addDocument(ListingDocument document) {
+        int ordinal = freeOrdinals.isEmpty() ? entries.size() : freeOrdinals.pop();
+
+        Entry entry = new Entry(
+                document.getId(),
+                document.getCity() != null ? normalizeCity(document.getCity()) : null,
+                document.getCity() != null ? document.getCity().trim() : null,
+                document.getCategoryId(),
+                document.getCategoryName(),
+                document.getPincode(),
+                document.getPrice() != null ? document.getPrice() : 0.0,
+                document.getAverageRating() != null ? document.getAverageRating() : 0.0,
+                document.getReviewCount() != null ? document.getReviewCount() : 0);
+
+        if (ordinal == entries.size()) {
+            entries.add(entry);
+        } else {
+            entries.set(ordinal, entry);
+        }
+        ordinals.put(document.getId(), ordinal);
+        live.set(ordinal);
+
+        if (entry.cityKey != null) {
+            cityPostings.computeIfAbsent(entry.cityKey, k -> new BitSet()).set(ordinal);
+        }
+        if (entry.categoryId != null) {
+            categoryPostings.computeIfAbsent(entry.categoryId, k -> new BitSet()).set(ordinal);
+        }
+        if (entry.pincode != null) {
+            pincodePostings.computeIfAbsent(entry.pincode, k -> new BitSet()).set(ordinal);
+        }
+    }
+
+    private void removeDocument(Long listingId) {
+        Integer ordinal = ordinals.remove(listingId);
+        if (ordinal == null) {
+            return;
+        }
+
+        Entry entry = entries.get(ordinal);
+        clearPosting(cityPostings, entry.cityKey, ordinal);
+        clearPosting(categoryPostings, entry.categoryId, ordinal);
+        clearPosting(pincodePostings, entry.pincode, ordinal);
+
+        live.clear(ordinal);
+        entries.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+    }
+
+    private static <K> void clearPosting(Map<K, BitSet> postings, K key, int ordinal) {
+        if (key == null) {
+            return;
+        }
+        BitSet bits = postings.get(key);
+        if (bits != null) {
+            bits.clear(ordinal);
+            if (bits.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Returns null when the filter is not set, an empty set when the value is unknown.
+     */
+    private static <K> BitSet equalityBits(Map<K, BitSet> postings, K value) {
+        if (value == null) {
+            return null;
+        }
+        BitSet bits = postings.get(value);
+        return bits != null ? bits : new BitSet();
+    }
+
+    private static boolean matchesPrice(Entry entry, Filter filter) {
+        return (filter.getMinPrice() == null || entry.price >= filter.getMinPrice())
+                && (filter.getMaxPrice() == null || entry.price <= filter.getMaxPrice());
+    }
+
+    private static int priceBand(double price) {
+        for (int i = 0; i < PRICE_BAND_LIMITS.length; i++) {
+            if (price < PRICE_BAND_LIMITS[i]) {
+                return i;
+            }
+        }
+        return PRICE_BAND_LIMITS.length - 1;
+    }
+
+    private static String normalizeCity(String city) {
+        return city.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private String cityDisplayName(String cityKey) {
+        BitSet bits = cityPostings.get(cityKey);
+        return bits == null ? cityKey : entries.get(bits.nextSetBit(0)).cityName;
+    }
+
+    private static <K> List<FacetValue> toFacets(Map<K, Long> counts, Function<K, String> label) {
+        List<FacetValue> facets = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> facets.add(new FacetValue(String.valueOf(key), label.apply(key), count)));
+        return facets;
+    }
+
+    private List<FacetValue> toCategoryFacets(Map<Long, Long> counts) {
+        List<FacetValue> facets = new ArrayList<>(counts.size());
+        counts.forEach((categoryId, count) -> {
+            BitSet bits = categoryPostings.get(categoryId);
+            String name = bits == null ? null : entries.get(bits.nextSetBit(0)).categoryName;
+            facets.add(new FacetValue(String.valueOf(categoryId), name, count));
+        });
+        facets.sort(Comparator.comparing(FacetValue::getLabel, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)));
+        return facets;
+    }
+
+    private static List<FacetValue> toPriceBandFacets(long[] counts) {
+        List<FacetValue> facets = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            facets.add(new FacetValue(PRICE_BAND_VALUES[i], PRICE_BAND_LABELS[i], counts[i]));
+        }
+        return facets;
+    }
+
+    private static List<FacetValue> toRatingFacets(long[] counts) {
+        List<FacetValue> facets = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            facets.add(new FacetValue(String.valueOf(RATING_THRESHOLDS[i]), RATING_THRESHOLDS[i] + "★ & up", counts[i]));
+        }
+        return facets;
+    }
+
+    /**
+     * Browse filters; a null field means "any".
+     */
+    @Value
+    @Builder
+    public static class Filter {
+        String city;
+        Long categoryId;
+        Double minPrice;
+        Double maxPrice;
+        Double minRating;
+        Integer pincode;
+    }
+
+    /**
+     * One facet value and the number of listings it would return.
+     */
+    @Value
+    public static class FacetValue {
+        String value;
+        String label;
+        long count;
+    }
+
+    /**
+     * Page of matching listing IDs plus facet counts.
+     */
+    @Value
+    @Builder
+    public static class Result {
+        List<Long> listingIds;
+        long total;
+        List<FacetValue> cities;
+        List<FacetValue> categories;
+        List<FacetValue> pincodes;
+        List<FacetValue> priceBands;
+        List<FacetValue> ratings;
+    }
+
+    private static final class Entry {
+        private final Long listingId;
+        private final String cityKey;
+        private final String cityName;
+        private final Long categoryId;
+        private final String categoryName;
+        private final Integer pincode;
+        private final double price;
+        private final double rating;
+        private final int reviewCount;
+
+        private Entry(Long listingId, String cityKey, String cityName, Long categoryId, String categoryName,
+                      Integer pincode, double price, double rating, int reviewCount) {
+            this.listingId = listingId;
+            this.cityKey = cityKey;
+            this.cityName = cityName;
+            this.categoryId = categoryId;
+            this.categoryName = categoryName;
+            this.pincode = pincode;
+            this.price = price;
+            this.rating = rating;
+            this.reviewCount = reviewCount;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package Team.C.Service.Spot.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Typo-tolerant matching of active listings by title and category name.
+ * Used as a fallback when an exact listing search finds too little.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+public class ListingFuzzyIndex implements ListingIndex {
+
+    private final FuzzyTermIndex index = new FuzzyTermIndex();
+
+    @Override
+    public void rebuild(Collection<ListingDocument> documents) {
+        Map<Long, String> texts = new HashMap<>();
+        for (ListingDocument document : documents) {
+            if (document.isSearchable()) {
+                texts.put(document.getId(), text(document));
+            }
+        }
+        index.rebuild(texts);
+    }
+
+    @Override
+    public void upsert(ListingDocument document) {
+        index.put(document.getId(), text(document));
+    }
+
+    @Override
+    public void remove(Long listingId) {
+        index.remove(listingId);
+    }
+
+    /**
+     * Find listings whose title or category words are close to the query words.
+     *
+     * @param query raw query text
+     * @param maxEdits maximum edit distance per word
+     * @param limit maximum number of IDs
+     * @return listing IDs, best match first
+     */
+    public List<Long> search(String query, int maxEdits, int limit) {
+        return index.search(query, maxEdits, limit);
+    }
+
+    private static String text(ListingDocument document) {
+        return document.getCategoryName() != null
+                ? document.getTitle() + " " + document.getCategoryName()
+                : document.getTitle();
+    }
+}
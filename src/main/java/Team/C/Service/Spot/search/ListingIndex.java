@@ -0,0 +1,38 @@
+package Team.C.Service.Spot.search;
+
+import java.util.Collection;
+
+/**
+ * Contract for in-memory structures derived from active service listings.
+ * Implementations are registered as Spring beans and kept in sync by
+ * {@link ListingIndexCoordinator}; they never read the database themselves.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public interface ListingIndex {
+
+    /**
+     * Replace the whole index content.
+     * Called once at startup with every active listing.
+     *
+     * @param documents all active listings
+     */
+    void rebuild(Collection<ListingDocument> documents);
+
+    /**
+     * Add a listing or replace its previous version.
+     *
+     * @param document the active listing snapshot
+     */
+    void upsert(ListingDocument document);
+
+    /**
+     * Remove a listing (deleted or deactivated).
+     * Removing an unknown ID is a no-op.
+     *
+     * @param listingId the listing ID
+     */
+    void remove(Long listingId);
+}
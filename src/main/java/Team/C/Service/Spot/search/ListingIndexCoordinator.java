@@ -0,0 +1,99 @@
+package Team.C.Service.Spot.search;
+
+import Team.C.Service.Spot.model.ServiceListing;
+import Team.C.Service.Spot.repository.ServiceListingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Keeps every {@link ListingIndex} bean in sync with the service_listings table.
+ *
+ * <p>All indexes are loaded from a single query at startup, then maintained
+ * incrementally from {@link ListingChangedEvent}s once the writing transaction
+ * has committed, so a rolled-back write never reaches an index. Changes made
+ * on other nodes arrive as the same events through the outbox dispatcher.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ListingIndexCoordinator {
+
+    private final ServiceListingRepository listingRepository;
+    private final List<ListingIndex> indexes;
+
+    /**
+     * Build all indexes from the active listings once the application is up.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildAll() {
+        long start = System.currentTimeMillis();
+
+        List<ListingDocument> documents = listingRepository.findAllActiveWithDetails().stream()
+                .map(ListingDocument::from)
+                .toList();
+
+        for (ListingIndex index : indexes) {
+            index.rebuild(documents);
+        }
+
+        log.info("Built {} listing indexes over {} active listings in {} ms",
+                indexes.size(), documents.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Apply a committed listing change to every index.
+     * Inactive listings are removed so they disappear from search and browse.
+     *
+     * @param event the change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onListingChanged(ListingChangedEvent event) {
+        apply(event.getListingId(), event.isRemoval() ? null : event.getDocument());
+    }
+
+    /**
+     * Refresh the active listings of a changed category, which embed its name.
+     *
+     * @param event the change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        for (ServiceListing listing : listingRepository.findActiveWithDetailsByCategoryId(event.getCategoryId())) {
+            apply(listing.getId(), ListingDocument.from(listing));
+        }
+    }
+
+    /**
+     * @param document new state, or null when the listing was deleted
+     */
+    private void apply(Long listingId, ListingDocument document) {
+        boolean remove = document == null || !document.isSearchable();
+
+        for (ListingIndex index : indexes) {
+            try {
+                if (remove) {
+                    index.remove(listingId);
+                } else {
+                    index.upsert(document);
+                }
+            } catch (RuntimeException e) {
+                log.error("Failed to apply change for listing {} to {}: {}",
+                        listingId, index.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        }
+    }
+}
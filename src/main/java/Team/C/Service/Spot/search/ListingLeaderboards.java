@@ -0,0 +1,229 @@
+package Team.C.Service.Spot.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-city and per-city-and-category leaderboards of active listings, one
+ * ordered by rating and one by booking count.
+ *
+ * <p>Each board is a sorted set, so a rating or booking change moves a single
+ * entry in O(log n) and the top K are read straight from the head of the set
+ * without sorting the city's listings on every request.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+@Slf4j
+public class ListingLeaderboards implements ListingIndex {
+
+    /**
+     * Best rated first; more reviews win ties
+     */
+    private static final Comparator<Entry> BY_RATING = Comparator
+            .comparingDouble((Entry e) -> e.rating).reversed()
+            .thenComparing(Comparator.comparingInt((Entry e) -> e.reviewCount).reversed())
+            .thenComparingLong(e -> e.listingId);
+
+    /**
+     * Most booked first; better rating wins ties
+     */
+    private static final Comparator<Entry> BY_BOOKINGS = Comparator
+            .comparingInt((Entry e) -> e.bookings).reversed()
+            .thenComparing(Comparator.comparingDouble((Entry e) -> e.rating).reversed())
+            .thenComparingLong(e -> e.listingId);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, NavigableSet<Entry>> ratingBoards = new HashMap<>();
+    private final Map<String, NavigableSet<Entry>> bookingBoards = new HashMap<>();
+
+    /**
+     * listing ID -> current entry, needed to find it again in its boards
+     */
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    @Override
+    public void rebuild(Collection<ListingDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            ratingBoards.clear();
+            bookingBoards.clear();
+            entries.clear();
+
+            for (ListingDocument document : documents) {
+                if (document.isSearchable() && document.getCity() != null) {
+                    addEntry(Entry.of(document));
+                }
+            }
+            log.info("Leaderboards built: {} listings, {} boards", entries.size(), ratingBoards.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(ListingDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(document.getId());
+            if (document.getCity() != null) {
+                addEntry(Entry.of(document));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long listingId) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(listingId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get the best rated listings of a city.
+     *
+     * @param city city name (case-insensitive)
+     * @param categoryId optional category to narrow the board
+     * @param minRating minimum average rating
+     * @param limit maximum number of IDs
+     * @return listing IDs, best rated first
+     */
+    public List<Long> topRated(String city, Long categoryId, double minRating, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>();
+            for (Entry entry : board(ratingBoards, city, categoryId)) {
+                if (ids.size() >= limit || entry.rating < minRating) {
+                    break;
+                }
+                ids.add(entry.listingId);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the most booked listings of a city.
+     *
+     * @param city city name (case-insensitive)
+     * @param categoryId optional category to narrow the board
+     * @param limit maximum number of IDs
+     * @return listing IDs, most booked first
+     */
+    public List<Long> popular(String city, Long categoryId, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>();
+            for (Entry entry : board(bookingBoards, city, categoryId)) {
+                if (ids.size() >= limit) {
+                    break;
+                }
+                ids.add(entry.listingId);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private NavigableSet<Entry> board(Map<String, NavigableSet<Entry>> boards, String city, Long categoryId) {
+        NavigableSet<Entry> board = boards.get(boardKey(normalizeCity(city), categoryId));
+        return board != null ? board : new TreeSet<>();
+    }
+
+    private void addEntry(Entry entry) {
+        entries.put(entry.listingId, entry);
+        for (String key : entry.boardKeys()) {
+            ratingBoards.computeIfAbsent(key, k -> new TreeSet<>(BY_RATING)).add(entry);
+            bookingBoards.computeIfAbsent(key, k -> new TreeSet<>(BY_BOOKINGS)).add(entry);
+        }
+    }
+
+    private void removeEntry(Long listingId) {
+        Entry entry = entries.remove(listingId);
+        if (entry == null) {
+            return;
+        }
+        for (String key : entry.boardKeys()) {
+            removeFromBoard(ratingBoards, key, entry);
+            removeFromBoard(bookingBoards, key, entry);
+        }
+    }
+
+    private static void removeFromBoard(Map<String, NavigableSet<Entry>> boards, String key, Entry entry) {
+        NavigableSet<Entry> board = boards.get(key);
+        if (board != null) {
+            board.remove(entry);
+            if (board.isEmpty()) {
+                boards.remove(key);
+            }
+        }
+    }
+
+    private static String normalizeCity(String city) {
+        return city.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String boardKey(String cityKey, Long categoryId) {
+        return categoryId == null ? cityKey : cityKey + '|' + categoryId;
+    }
+
+    /**
+     * Ranking values of one listing. Immutable so it can be located in a
+     * sorted set by the same values it was inserted with.
+     */
+    private static final class Entry {
+        private final Long listingId;
+        private final String cityKey;
+        private final Long categoryId;
+        private final double rating;
+        private final int reviewCount;
+        private final int bookings;
+
+        private Entry(Long listingId, String cityKey, Long categoryId, double rating, int reviewCount, int bookings) {
+            this.listingId = listingId;
+            this.cityKey = cityKey;
+            this.categoryId = categoryId;
+            this.rating = rating;
+            this.reviewCount = reviewCount;
+            this.bookings = bookings;
+        }
+
+        private static Entry of(ListingDocument document) {
+            return new Entry(
+                    document.getId(),
+                    normalizeCity(document.getCity()),
+                    document.getCategoryId(),
+                    document.getAverageRating() != null ? document.getAverageRating() : 0.0,
+                    document.getReviewCount() != null ? document.getReviewCount() : 0,
+                    document.getTotalBookings() != null ? document.getTotalBookings() : 0);
+        }
+
+        private List<String> boardKeys() {
+            return categoryId == null
+                    ? List.of(cityKey)
+                    : List.of(cityKey, boardKey(cityKey, categoryId));
+        }
+    }
+}
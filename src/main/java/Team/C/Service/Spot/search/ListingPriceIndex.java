@@ -0,0 +1,317 @@
+package Team.C.Service.Spot.search;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Prices of the active listings, sorted per city, per category and per
+ * city-and-category, for price range filtering and price slider histograms.
+ *
+ * <p>Each group keeps its prices in a sorted primitive double array with a
+ * parallel array of listing IDs. A range count is two binary searches and a
+ * histogram of B bins is B + 1 binary searches, so a slider drag is answered
+ * without touching the database.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+@Slf4j
+public class ListingPriceIndex implements ListingIndex {
+
+    private static final String ALL = "*";
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, PriceColumn> columns = new HashMap<>();
+
+    /**
+     * listing ID -> indexed price, needed to find it again in its columns
+     */
+    private final Map<Long, Placement> placements = new HashMap<>();
+
+    @Override
+    public void rebuild(Collection<ListingDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            columns.clear();
+            placements.clear();
+            for (ListingDocument document : documents) {
+                if (document.isSearchable()) {
+                    add(document);
+                }
+            }
+            log.info("Price index built: {} listings, {} groups", placements.size(), columns.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(ListingDocument document) {
+        lock.writeLock().lock();
+        try {
+            release(document.getId());
+            add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long listingId) {
+        lock.writeLock().lock();
+        try {
+            release(listingId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get the IDs of the listings priced within a range, cheapest first.
+     *
+     * @param city optional city (case-insensitive)
+     * @param categoryId optional category
+     * @param minPrice inclusive lower bound (null for no bound)
+     * @param maxPrice inclusive upper bound (null for no bound)
+     * @param offset number of matches to skip (long so a huge page number cannot wrap around)
+     * @param limit maximum number of IDs
+     * @return listing IDs, cheapest first; empty once the offset is past the last match
+     */
+    public List<Long> range(String city, Long categoryId, Double minPrice, Double maxPrice, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            PriceColumn column = columns.get(groupKey(city, categoryId));
+            if (column == null || offset < 0 || limit <= 0) {
+                return List.of();
+            }
+            int lower = column.lowerBound(minPrice != null ? minPrice : Double.NEGATIVE_INFINITY);
+            int upper = column.upperBound(maxPrice != null ? maxPrice : Double.POSITIVE_INFINITY);
+            if (offset >= upper - lower) {
+                return List.of();
+            }
+            int from = lower + (int) offset;
+            int to = (int) Math.min(upper, (long) from + limit);
+
+            List<Long> ids = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                ids.add(column.ids[i]);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Build the price histogram of a group and count the listings in the selected range.
+     * Bins always span the group's full price range, so the chart stays put while the
+     * slider moves.
+     *
+     * @param city optional city (case-insensitive)
+     * @param categoryId optional category
+     * @param minPrice selected lower bound (null for no bound)
+     * @param maxPrice selected upper bound (null for no bound)
+     * @param binCount number of equal-width bins
+     * @return histogram of the group
+     */
+    public Histogram histogram(String city, Long categoryId, Double minPrice, Double maxPrice, int binCount) {
+        lock.readLock().lock();
+        try {
+            PriceColumn column = columns.get(groupKey(city, categoryId));
+            if (column == null || column.size == 0) {
+                return new Histogram(null, null, 0, 0, List.of());
+            }
+
+            double lowest = column.prices[0];
+            double highest = column.prices[column.size - 1];
+            int bins = highest > lowest ? binCount : 1;
+            double width = (highest - lowest) / bins;
+
+            List<Bin> histogram = new ArrayList<>(bins);
+            int start = 0;
+            for (int b = 0; b < bins; b++) {
+                double from = lowest + b * width;
+                double to = b == bins - 1 ? highest : lowest + (b + 1) * width;
+                // The last bin includes the highest price
+                int end = b == bins - 1 ? column.size : column.lowerBound(to);
+                histogram.add(new Bin(from, to, end - start));
+                start = end;
+            }
+
+            int matching = column.upperBound(maxPrice != null ? maxPrice : Double.POSITIVE_INFINITY)
+                    - column.lowerBound(minPrice != null ? minPrice : Double.NEGATIVE_INFINITY);
+
+            return new Histogram(lowest, highest, column.size, Math.max(matching, 0), histogram);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(ListingDocument document) {
+        if (document.getPrice() == null) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(4);
+        keys.add(ALL);
+        if (document.getCategoryId() != null) {
+            keys.add(groupKey(null, document.getCategoryId()));
+        }
+        if (document.getCity() != null) {
+            keys.add(groupKey(document.getCity(), null));
+            if (document.getCategoryId() != null) {
+                keys.add(groupKey(document.getCity(), document.getCategoryId()));
+            }
+        }
+
+        Placement placement = new Placement(document.getPrice(), keys);
+        placements.put(document.getId(), placement);
+        for (String key : keys) {
+            columns.computeIfAbsent(key, k -> new PriceColumn()).insert(placement.price, document.getId());
+        }
+    }
+
+    private void release(Long listingId) {
+        Placement placement = placements.remove(listingId);
+        if (placement == null) {
+            return;
+        }
+        for (String key : placement.keys) {
+            PriceColumn column = columns.get(key);
+            if (column != null) {
+                column.remove(placement.price, listingId);
+                if (column.size == 0) {
+                    columns.remove(key);
+                }
+            }
+        }
+    }
+
+    private static String groupKey(String city, Long categoryId) {
+        String cityKey = city != null && !city.isBlank() ? city.trim().toLowerCase(Locale.ROOT) : ALL;
+        return categoryId == null ? cityKey : cityKey + '|' + categoryId;
+    }
+
+    /**
+     * Price histogram of one group
+     */
+    @Value
+    public static class Histogram {
+        /**
+         * Lowest and highest price of the group (null when it is empty)
+         */
+        Double minPrice;
+        Double maxPrice;
+        /**
+         * Listings in the group
+         */
+        long total;
+        /**
+         * Listings within the selected range
+         */
+        long matching;
+        List<Bin> bins;
+    }
+
+    /**
+     * One histogram bar: listings priced in [from, to), the last bar also includes to
+     */
+    @Value
+    public static class Bin {
+        double from;
+        double to;
+        long count;
+    }
+
+    private static final class Placement {
+        private final double price;
+        private final List<String> keys;
+
+        private Placement(double price, List<String> keys) {
+            this.price = price;
+            this.keys = keys;
+        }
+    }
+
+    /**
+     * Prices sorted ascending (ties by listing ID) with the listing ID at the same position
+     */
+    private static final class PriceColumn {
+        private double[] prices = new double[8];
+        private long[] ids = new long[8];
+        private int size;
+
+        private void insert(double price, long id) {
+            int position = lowerBound(price);
+            while (position < size && prices[position] == price && ids[position] < id) {
+                position++;
+            }
+            if (size == prices.length) {
+                prices = Arrays.copyOf(prices, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(prices, position, prices, position + 1, size - position);
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            prices[position] = price;
+            ids[position] = id;
+            size++;
+        }
+
+        private void remove(double price, long id) {
+            for (int i = lowerBound(price); i < size && prices[i] == price; i++) {
+                if (ids[i] == id) {
+                    System.arraycopy(prices, i + 1, prices, i, size - i - 1);
+                    System.arraycopy(ids, i + 1, ids, i, size - i - 1);
+                    size--;
+                    return;
+                }
+            }
+        }
+
+        /**
+         * @return index of the first price >= value
+         */
+        private int lowerBound(double value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (prices[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * @return index of the first price > value
+         */
+        private int upperBound(double value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (prices[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,486 @@
+package Team.C.Service.Spot.search;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Autocomplete over listing titles, category names and cities, backed by a
+ * compressed (radix) trie.
+ *
+ * <p>Every node keeps the highest weight found in its subtree, so the top N
+ * completions of a prefix are read with a best-first walk that only visits
+ * the branches able to beat what has already been found. A term is weighted
+ * by the bookings and views of the listings behind it; titles are also
+ * reachable from the start of each of their words.</p>
+ *
+ * <p>Weights are taken from the listing snapshots, so view counts flushed by
+ * the view counter are picked up the next time the listing changes or the
+ * indexes are rebuilt.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+@Slf4j
+public class ListingSuggester implements ListingIndex {
+
+    /**
+     * Kind of completion
+     */
+    public enum Type {
+        SERVICE, CATEGORY, CITY
+    }
+
+    /**
+     * One booking counts as much as this many views
+     */
+    private static final long BOOKING_WEIGHT = 10;
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    /**
+     * Heaviest first; at equal weight terms are taken before subtrees
+     */
+    private static final Comparator<Candidate> BY_WEIGHT = Comparator
+            .comparingLong((Candidate c) -> c.weight).reversed()
+            .thenComparing(c -> c.term == null);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Node root = new Node("");
+
+    /**
+     * Weight each listing contributed, so it can be withdrawn on update or removal
+     */
+    private final Map<Long, ListingDocument> contributions = new HashMap<>();
+
+    private final Map<Long, Term> titleTerms = new HashMap<>();
+    private final Map<Long, Term> categoryTerms = new HashMap<>();
+    private final Map<String, Term> cityTerms = new HashMap<>();
+
+    @Override
+    public void rebuild(Collection<ListingDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            root.children.clear();
+            root.terms.clear();
+            root.maxWeight = 0;
+            contributions.clear();
+            titleTerms.clear();
+            categoryTerms.clear();
+            cityTerms.clear();
+
+            for (ListingDocument document : documents) {
+                if (document.isSearchable()) {
+                    add(document);
+                }
+            }
+            log.info("Suggestion trie built: {} titles, {} categories, {} cities",
+                    titleTerms.size(), categoryTerms.size(), cityTerms.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(ListingDocument document) {
+        lock.writeLock().lock();
+        try {
+            release(document.getId());
+            add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long listingId) {
+        lock.writeLock().lock();
+        try {
+            release(listingId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get the heaviest completions of a prefix.
+     *
+     * @param prefix typed text (case and punctuation are ignored)
+     * @param limit maximum number of suggestions
+     * @return suggestions, heaviest first
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = locate(key);
+            if (node == null) {
+                return List.of();
+            }
+
+            List<Suggestion> suggestions = new ArrayList<>(limit);
+            Set<Term> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            Set<String> shown = new HashSet<>();
+            PriorityQueue<Candidate> queue = new PriorityQueue<>(BY_WEIGHT);
+            queue.add(new Candidate(node.maxWeight, node, null));
+
+            while (!queue.isEmpty() && suggestions.size() < limit) {
+                Candidate candidate = queue.poll();
+                if (candidate.term != null) {
+                    Term term = candidate.term;
+                    // A title is reachable from several words; listings may share a title
+                    if (seen.add(term) && shown.add(term.type + ":" + term.keys.get(0))) {
+                        suggestions.add(new Suggestion(term.text, term.type, term.id));
+                    }
+                    continue;
+                }
+                for (Term term : candidate.node.terms) {
+                    queue.add(new Candidate(term.weight, null, term));
+                }
+                for (Node child : candidate.node.children.values()) {
+                    queue.add(new Candidate(child.maxWeight, child, null));
+                }
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(ListingDocument document) {
+        long weight = weight(document);
+        contributions.put(document.getId(), document);
+
+        if (document.getTitle() != null) {
+            Term title = new Term(Type.SERVICE, document.getId(), document.getTitle().trim());
+            titleTerms.put(document.getId(), title);
+            contribute(title, weight);
+        }
+        if (document.getCategoryId() != null && document.getCategoryName() != null) {
+            contribute(categoryTerm(document.getCategoryId(), document.getCategoryName().trim()), weight);
+        }
+        if (document.getCity() != null) {
+            Term city = cityTerms.computeIfAbsent(normalize(document.getCity()),
+                    k -> new Term(Type.CITY, null, document.getCity().trim()));
+            contribute(city, weight);
+        }
+    }
+
+    /**
+     * Get the term of a category, renaming it when the listing carries a new
+     * category name. The other listings of the category keep their weight on
+     * the renamed term, so nothing is left under the old name.
+     */
+    private Term categoryTerm(Long categoryId, String name) {
+        Term existing = categoryTerms.get(categoryId);
+        if (existing != null && existing.text.equals(name)) {
+            return existing;
+        }
+        Term renamed = new Term(Type.CATEGORY, categoryId, name);
+        if (existing != null) {
+            unindex(existing);
+            renamed.weight = existing.weight;
+            renamed.refs = existing.refs;
+            index(renamed);
+        }
+        categoryTerms.put(categoryId, renamed);
+        return renamed;
+    }
+
+    private void release(Long listingId) {
+        ListingDocument previous = contributions.remove(listingId);
+        if (previous == null) {
+            return;
+        }
+        long weight = weight(previous);
+
+        Term title = titleTerms.remove(listingId);
+        if (title != null) {
+            withdraw(title, weight);
+        }
+        if (previous.getCategoryId() != null && previous.getCategoryName() != null) {
+            Term category = categoryTerms.get(previous.getCategoryId());
+            if (category != null && withdraw(category, weight)) {
+                categoryTerms.remove(previous.getCategoryId());
+            }
+        }
+        if (previous.getCity() != null) {
+            String cityKey = normalize(previous.getCity());
+            Term city = cityTerms.get(cityKey);
+            if (city != null && withdraw(city, weight)) {
+                cityTerms.remove(cityKey);
+            }
+        }
+    }
+
+    /**
+     * Add one listing's weight to a term and re-place the term in the trie.
+     */
+    private void contribute(Term term, long weight) {
+        unindex(term);
+        term.weight += weight;
+        term.refs++;
+        index(term);
+    }
+
+    /**
+     * Take one listing's weight off a term.
+     *
+     * @return true if no listing is left behind the term
+     */
+    private boolean withdraw(Term term, long weight) {
+        unindex(term);
+        term.weight -= weight;
+        term.refs--;
+        if (term.refs > 0) {
+            index(term);
+            return false;
+        }
+        return true;
+    }
+
+    private void index(Term term) {
+        for (String key : term.keys) {
+            insert(key, term);
+        }
+    }
+
+    private void unindex(Term term) {
+        for (String key : term.keys) {
+            delete(key, term);
+        }
+    }
+
+    private void insert(String key, Term term) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+
+        while (i < key.length()) {
+            char next = key.charAt(i);
+            Node child = node.children.get(next);
+            if (child == null) {
+                child = new Node(key.substring(i));
+                node.children.put(next, child);
+                i = key.length();
+            } else {
+                int common = commonPrefixLength(child.label, key, i);
+                if (common < child.label.length()) {
+                    child = split(node, child, common);
+                }
+                i += common;
+            }
+            node = child;
+            path.add(node);
+        }
+
+        node.terms.add(term);
+        for (Node onPath : path) {
+            onPath.maxWeight = Math.max(onPath.maxWeight, term.weight);
+        }
+    }
+
+    private void delete(String key, Term term) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+
+        while (i < key.length()) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null || !key.startsWith(child.label, i)) {
+                return;
+            }
+            i += child.label.length();
+            node = child;
+            path.add(node);
+        }
+
+        if (!node.terms.remove(term)) {
+            return;
+        }
+
+        // Walk back up: drop empty leaves, merge single-child links, refresh weights
+        for (int depth = path.size() - 1; depth > 0; depth--) {
+            Node current = path.get(depth);
+            Node parent = path.get(depth - 1);
+
+            if (current.terms.isEmpty() && current.children.isEmpty()) {
+                parent.children.remove(current.label.charAt(0));
+            } else if (current.terms.isEmpty() && current.children.size() == 1) {
+                Node only = current.children.values().iterator().next();
+                only.label = current.label + only.label;
+                parent.children.put(only.label.charAt(0), only);
+            } else {
+                current.maxWeight = subtreeMax(current);
+            }
+        }
+        root.maxWeight = subtreeMax(root);
+    }
+
+    /**
+     * Find the node whose subtree holds every key starting with the prefix.
+     * The prefix may end in the middle of an edge label.
+     */
+    private Node locate(String prefix) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(i));
+            if (child == null) {
+                return null;
+            }
+            int common = commonPrefixLength(child.label, prefix, i);
+            if (common < child.label.length() && i + common < prefix.length()) {
+                return null;
+            }
+            i += common;
+            node = child;
+        }
+        return node;
+    }
+
+    private static Node split(Node parent, Node child, int at) {
+        Node middle = new Node(child.label.substring(0, at));
+        child.label = child.label.substring(at);
+        middle.children.put(child.label.charAt(0), child);
+        middle.maxWeight = child.maxWeight;
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    private static long subtreeMax(Node node) {
+        long max = 0;
+        for (Term term : node.terms) {
+            max = Math.max(max, term.weight);
+        }
+        for (Node child : node.children.values()) {
+            max = Math.max(max, child.maxWeight);
+        }
+        return max;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = 0;
+        while (length < label.length()
+                && offset + length < key.length()
+                && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static long weight(ListingDocument document) {
+        long bookings = document.getTotalBookings() != null ? document.getTotalBookings() : 0;
+        long views = document.getViewCount() != null ? document.getViewCount() : 0;
+        return 1 + BOOKING_WEIGHT * bookings + views;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return SEPARATOR.matcher(text.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Keys of a text: the whole normalized text and its suffix from every word start.
+     */
+    private static List<String> keysOf(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(normalized);
+        for (int i = 1; i < normalized.length(); i++) {
+            if (normalized.charAt(i - 1) == ' ') {
+                keys.add(normalized.substring(i));
+            }
+        }
+        return List.copyOf(keys);
+    }
+
+    /**
+     * Autocomplete suggestion
+     */
+    @Value
+    public static class Suggestion {
+        String text;
+        Type type;
+        /**
+         * Listing ID for services, category ID for categories, null for cities
+         */
+        Long id;
+    }
+
+    /**
+     * A completion and the combined weight of the listings behind it.
+     * Compared by identity.
+     */
+    private static final class Term {
+        private final Type type;
+        private final Long id;
+        private final String text;
+        private final List<String> keys;
+        private long weight;
+        private int refs;
+
+        private Term(Type type, Long id, String text) {
+            this.type = type;
+            this.id = id;
+            this.text = text;
+            this.keys = keysOf(text);
+        }
+    }
+
+    private static final class Node {
+        /**
+         * Characters on the edge leading into this node
+         */
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<Term> terms = new ArrayList<>(1);
+        private long maxWeight;
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final class Candidate {
+        private final long weight;
+        private final Node node;
+        private final Term term;
+
+        private Candidate(long weight, Node node, Term term) {
+            this.weight = weight;
+            this.node = node;
+            this.term = term;
+        }
+    }
+}
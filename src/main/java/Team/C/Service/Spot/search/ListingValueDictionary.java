@@ -0,0 +1,82 @@
+package Team.C.Service.Spot.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Distinct cities, service types (category names) and pincodes of the active
+ * listings, served to the location and type pickers without touching the database.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+public class ListingValueDictionary implements ListingIndex {
+
+    private final DistinctValueDictionary<String> cities = new DistinctValueDictionary<>();
+    private final DistinctValueDictionary<String> serviceTypes = new DistinctValueDictionary<>();
+    private final DistinctValueDictionary<Integer> pincodes = new DistinctValueDictionary<>();
+
+    /**
+     * Values each listing contributed, so they can be released on update or removal
+     */
+    private final Map<Long, ListingDocument> contributions = new HashMap<>();
+
+    @Override
+    public synchronized void rebuild(Collection<ListingDocument> documents) {
+        contributions.clear();
+        cities.clear();
+        serviceTypes.clear();
+        pincodes.clear();
+
+        for (ListingDocument document : documents) {
+            if (document.isSearchable()) {
+                add(document);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void upsert(ListingDocument document) {
+        release(document.getId());
+        add(document);
+    }
+
+    @Override
+    public synchronized void remove(Long listingId) {
+        release(listingId);
+    }
+
+    public List<String> cities() {
+        return cities.values();
+    }
+
+    public List<String> serviceTypes() {
+        return serviceTypes.values();
+    }
+
+    public List<Integer> pincodes() {
+        return pincodes.values();
+    }
+
+    private void add(ListingDocument document) {
+        contributions.put(document.getId(), document);
+        cities.add(document.getCity());
+        serviceTypes.add(document.getCategoryName());
+        pincodes.add(document.getPincode());
+    }
+
+    private void release(Long listingId) {
+        ListingDocument previous = contributions.remove(listingId);
+        if (previous != null) {
+            cities.remove(previous.getCity());
+            serviceTypes.remove(previous.getCategoryName());
+            pincodes.remove(previous.getPincode());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package Team.C.Service.Spot.search;
+
+import lombok.Value;
+
+/**
+ * Application event published when a listing detail page is served.
+ * Consumed asynchronously by the view counter so the read path never writes.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Value
+public class ListingViewedEvent {
+
+    Long listingId;
+}
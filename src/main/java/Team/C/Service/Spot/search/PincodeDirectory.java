@@ -0,0 +1,89 @@
+package Team.C.Service.Spot.search;
+
+import Team.C.Service.Spot.config.GeoConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resolves Indian pincodes to approximate coordinates from the bundled
+ * centroid dataset. Pincodes that are not listed fall back to the average
+ * centroid of their sorting district (first three digits).
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PincodeDirectory {
+
+    private final GeoConfig geoConfig;
+
+    private final Map<Integer, GeoPoint> centroids = new HashMap<>();
+    private final Map<Integer, GeoPoint> districtCentroids = new HashMap<>();
+
+    @PostConstruct
+    void load() {
+        Map<Integer, double[]> districtSums = new HashMap<>();
+
+        ClassPathResource resource = new ClassPathResource(geoConfig.getCentroidsResource());
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                String[] parts = line.split(",");
+                int pincode = Integer.parseInt(parts[0].trim());
+                double latitude = Double.parseDouble(parts[1].trim());
+                double longitude = Double.parseDouble(parts[2].trim());
+                centroids.put(pincode, new GeoPoint(latitude, longitude));
+
+                double[] sum = districtSums.computeIfAbsent(pincode / 1000, k -> new double[3]);
+                sum[0] += latitude;
+                sum[1] += longitude;
+                sum[2]++;
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read pincode centroids from " + geoConfig.getCentroidsResource(), e);
+        }
+
+        districtSums.forEach((district, sum) ->
+                districtCentroids.put(district, new GeoPoint(sum[0] / sum[2], sum[1] / sum[2])));
+
+        log.info("Loaded {} pincode centroids ({} districts) from {}",
+                centroids.size(), districtCentroids.size(), geoConfig.getCentroidsResource());
+    }
+
+    /**
+     * Find the approximate location of a pincode.
+     *
+     * @param pincode six-digit pincode
+     * @return the pincode centroid, the district centroid, or empty if unknown
+     */
+    public Optional<GeoPoint> locate(Integer pincode) {
+        if (pincode == null) {
+            return Optional.empty();
+        }
+        GeoPoint exact = centroids.get(pincode);
+        if (exact != null) {
+            return Optional.of(exact);
+        }
+        return Optional.ofNullable(districtCentroids.get(pincode / 1000));
+    }
+}
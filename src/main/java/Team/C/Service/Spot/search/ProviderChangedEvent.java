@@ -0,0 +1,34 @@
+package Team.C.Service.Spot.search;
+
+import lombok.Value;
+
+/**
+ * Application event published whenever a provider account is created,
+ * modified or deleted. Delivered to the provider indexes after commit.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Value
+public class ProviderChangedEvent {
+
+    Long providerId;
+
+    /**
+     * Snapshot of the provider after the change; null when the provider was deleted
+     */
+    ProviderDocument document;
+
+    public static ProviderChangedEvent upserted(ProviderDocument document) {
+        return new ProviderChangedEvent(document.getId(), document);
+    }
+
+    public static ProviderChangedEvent removed(Long providerId) {
+        return new ProviderChangedEvent(providerId, null);
+    }
+
+    public boolean isRemoval() {
+        return document == null;
+    }
+}
@@ -0,0 +1,55 @@
+package Team.C.Service.Spot.search;
+
+import Team.C.Service.Spot.model.User;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Immutable snapshot of the provider fields used by the in-memory provider indexes.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Value
+@Builder
+public class ProviderDocument {
+
+    Long id;
+    String name;
+    String serviceType;
+    String description;
+    String city;
+    String state;
+    Integer pincode;
+    Double approxPrice;
+    Integer yearsExperience;
+    Double averageRating;
+    Integer reviewCount;
+    Boolean verified;
+    Boolean active;
+
+    /**
+     * Create a document from a provider User entity.
+     *
+     * @param provider the provider
+     * @return snapshot of the provider
+     */
+    public static ProviderDocument from(User provider) {
+        return ProviderDocument.builder()
+                .id(provider.getId())
+                .name(provider.getName())
+                .serviceType(provider.getServiceType())
+                .description(provider.getDescription())
+                .city(provider.getCity())
+                .state(provider.getState())
+                .pincode(provider.getPincode())
+                .approxPrice(provider.getApproxPrice())
+                .yearsExperience(provider.getYearsExperience())
+                .averageRating(provider.getAverageRating())
+                .reviewCount(provider.getReviewCount())
+                .verified(provider.getVerified())
+                .active(provider.getActive())
+                .build();
+    }
+}
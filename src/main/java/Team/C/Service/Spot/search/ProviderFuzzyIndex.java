@@ -0,0 +1,53 @@
+package Team.C.Service.Spot.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Typo-tolerant matching of providers by service type.
+ * Used as a fallback when an exact provider search finds too little.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+public class ProviderFuzzyIndex implements ProviderIndex {
+
+    private final FuzzyTermIndex index = new FuzzyTermIndex();
+
+    @Override
+    public void rebuild(Collection<ProviderDocument> documents) {
+        Map<Long, String> texts = new HashMap<>();
+        for (ProviderDocument document : documents) {
+            texts.put(document.getId(), document.getServiceType());
+        }
+        index.rebuild(texts);
+    }
+
+    @Override
+    public void upsert(ProviderDocument document) {
+        index.put(document.getId(), document.getServiceType());
+    }
+
+    @Override
+    public void remove(Long providerId) {
+        index.remove(providerId);
+    }
+
+    /**
+     * Find providers whose service type words are close to the query words.
+     *
+     * @param query raw query text
+     * @param maxEdits maximum edit distance per word
+     * @param limit maximum number of IDs
+     * @return provider IDs, best match first
+     */
+    public List<Long> search(String query, int maxEdits, int limit) {
+        return index.search(query, maxEdits, limit);
+    }
+}
@@ -0,0 +1,37 @@
+package Team.C.Service.Spot.search;
+
+import java.util.Collection;
+
+/**
+ * Contract for in-memory structures derived from provider accounts.
+ * Implementations are registered as Spring beans and kept in sync by
+ * {@link ProviderIndexCoordinator}.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public interface ProviderIndex {
+
+    /**
+     * Replace the whole index content.
+     * Called once at startup with every provider.
+     *
+     * @param documents all providers
+     */
+    void rebuild(Collection<ProviderDocument> documents);
+
+    /**
+     * Add a provider or replace its previous version.
+     *
+     * @param document the provider snapshot
+     */
+    void upsert(ProviderDocument document);
+
+    /**
+     * Remove a deleted provider. Removing an unknown ID is a no-op.
+     *
+     * @param providerId the provider ID
+     */
+    void remove(Long providerId);
+}
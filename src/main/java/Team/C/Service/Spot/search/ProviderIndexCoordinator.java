@@ -0,0 +1,72 @@
+package Team.C.Service.Spot.search;
+
+import Team.C.Service.Spot.model.enums.Role;
+import Team.C.Service.Spot.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Keeps every {@link ProviderIndex} bean in sync with the provider rows of the
+ * users table: loaded once at startup, then updated from committed
+ * {@link ProviderChangedEvent}s.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProviderIndexCoordinator {
+
+    private final UserRepository userRepository;
+    private final List<ProviderIndex> indexes;
+
+    /**
+     * Build all provider indexes once the application is up.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildAll() {
+        long start = System.currentTimeMillis();
+
+        List<ProviderDocument> documents = userRepository.findByRole(Role.PROVIDER).stream()
+                .map(ProviderDocument::from)
+                .toList();
+
+        for (ProviderIndex index : indexes) {
+            index.rebuild(documents);
+        }
+
+        log.info("Built {} provider indexes over {} providers in {} ms",
+                indexes.size(), documents.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Apply a committed provider change to every index.
+     *
+     * @param event the change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProviderChanged(ProviderChangedEvent event) {
+        for (ProviderIndex index : indexes) {
+            try {
+                if (event.isRemoval()) {
+                    index.remove(event.getProviderId());
+                } else {
+                    index.upsert(event.getDocument());
+                }
+            } catch (RuntimeException e) {
+                log.error("Failed to apply change for provider {} to {}: {}",
+                        event.getProviderId(), index.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package Team.C.Service.Spot.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Distinct cities, service types and pincodes of the registered providers,
+ * served to the provider pickers without touching the database.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+public class ProviderValueDictionary implements ProviderIndex {
+
+    private final DistinctValueDictionary<String> cities = new DistinctValueDictionary<>();
+    private final DistinctValueDictionary<String> serviceTypes = new DistinctValueDictionary<>();
+    private final DistinctValueDictionary<Integer> pincodes = new DistinctValueDictionary<>();
+
+    /**
+     * Values each provider contributed, so they can be released on update or removal
+     */
+    private final Map<Long, ProviderDocument> contributions = new HashMap<>();
+
+    @Override
+    public synchronized void rebuild(Collection<ProviderDocument> documents) {
+        contributions.clear();
+        cities.clear();
+        serviceTypes.clear();
+        pincodes.clear();
+
+        documents.forEach(this::add);
+    }
+
+    @Override
+    public synchronized void upsert(ProviderDocument document) {
+        release(document.getId());
+        add(document);
+    }
+
+    @Override
+    public synchronized void remove(Long providerId) {
+        release(providerId);
+    }
+
+    public List<String> cities() {
+        return cities.values();
+    }
+
+    public List<String> serviceTypes() {
+        return serviceTypes.values();
+    }
+
+    public List<Integer> pincodes() {
+        return pincodes.values();
+    }
+
+    private void add(ProviderDocument document) {
+        contributions.put(document.getId(), document);
+        cities.add(document.getCity());
+        serviceTypes.add(document.getServiceType());
+        pincodes.add(document.getPincode());
+    }
+
+    private void release(Long providerId) {
+        ProviderDocument previous = contributions.remove(providerId);
+        if (previous != null) {
+            cities.remove(previous.getCity());
+            serviceTypes.remove(previous.getServiceType());
+            pincodes.remove(previous.getPincode());
+        }
+    }
+}
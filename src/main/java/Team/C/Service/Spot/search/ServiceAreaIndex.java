@@ -0,0 +1,232 @@
+package Team.C.Service.Spot.search;
+
+import Team.C.Service.Spot.config.GeoConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Spatial grid over listing service areas ("which services reach this point").
+ *
+ * <p>Each listing is a circle centred on its pincode centroid with its
+ * serviceRadiusKm as radius. The circle is registered in every grid cell its
+ * bounding box overlaps, so a lookup only reads the single cell containing the
+ * customer and runs the exact haversine check on that cell's candidates.
+ * Radii are capped at geo.max-service-radius-km, so a bad stored value cannot
+ * make one listing occupy millions of cells.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ServiceAreaIndex implements ListingIndex {
+
+    private static final double KM_PER_DEGREE_LATITUDE = 111.32;
+
+    private final PincodeDirectory pincodeDirectory;
+    private final GeoConfig geoConfig;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * cell key -> service areas overlapping the cell
+     */
+    private final Map<Long, List<ServiceArea>> cells = new HashMap<>();
+
+    /**
+     * listing ID -> its service area, kept for removal
+     */
+    private final Map<Long, ServiceArea> areas = new HashMap<>();
+
+    @Override
+    public void rebuild(Collection<ListingDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            areas.clear();
+
+            int unlocated = 0;
+            for (ListingDocument document : documents) {
+                if (document.isSearchable() && !addDocument(document)) {
+                    unlocated++;
+                }
+            }
+            log.info("Service area index built: {} listings in {} cells ({} without known location)",
+                    areas.size(), cells.size(), unlocated);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(ListingDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(document.getId());
+            addDocument(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long listingId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(listingId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find listings whose service area covers the given point.
+     *
+     * @param point the customer location
+     * @param limit maximum number of results
+     * @return matches ordered by distance, nearest first
+     */
+    public List<Match> findReaching(GeoPoint point, int limit) {
+        List<Match> matches = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            List<ServiceArea> candidates = cells.get(cellKey(cellRow(point.getLatitude()), cellColumn(point.getLongitude())));
+            if (candidates == null) {
+                return matches;
+            }
+
+            for (ServiceArea area : candidates) {
+                double distance = GeoPoint.distanceKm(
+                        area.latitude, area.longitude, point.getLatitude(), point.getLongitude());
+                if (distance <= area.radiusKm) {
+                    matches.add(new Match(area.listingId, distance));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(Comparator.comparingDouble(Match::getDistanceKm).thenComparing(Match::getListingId));
+        return matches.size() > limit ? matches.subList(0, limit) : matches;
+    }
+
+    /**
+     * Get the centre used for a listing's service area.
+     *
+     * @param listingId the listing ID
+     * @return the listing centre, or empty if not indexed
+     */
+    public Optional<GeoPoint> locationOf(Long listingId) {
+        lock.readLock().lock();
+        try {
+            ServiceArea area = areas.get(listingId);
+            return area == null ? Optional.empty() : Optional.of(new GeoPoint(area.latitude, area.longitude));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean addDocument(ListingDocument document) {
+        Optional<GeoPoint> centre = pincodeDirectory.locate(document.getPincode());
+        if (centre.isEmpty()) {
+            return false;
+        }
+
+        double latitude = centre.get().getLatitude();
+        double longitude = centre.get().getLongitude();
+        double radiusKm = document.getServiceRadiusKm() != null && document.getServiceRadiusKm() > 0
+                ? Math.min(document.getServiceRadiusKm(), geoConfig.getMaxServiceRadiusKm())
+                : geoConfig.getDefaultServiceRadiusKm();
+
+        double latitudeSpan = radiusKm / KM_PER_DEGREE_LATITUDE;
+        double longitudeSpan = radiusKm / (KM_PER_DEGREE_LATITUDE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+        int minRow = cellRow(latitude - latitudeSpan);
+        int maxRow = cellRow(latitude + latitudeSpan);
+        int minColumn = cellColumn(longitude - longitudeSpan);
+        int maxColumn = cellColumn(longitude + longitudeSpan);
+
+        long[] cellKeys = new long[(maxRow - minRow + 1) * (maxColumn - minColumn + 1)];
+        ServiceArea area = new ServiceArea(document.getId(), latitude, longitude, radiusKm, cellKeys);
+
+        int i = 0;
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                long key = cellKey(row, column);
+                cellKeys[i++] = key;
+                cells.computeIfAbsent(key, k -> new ArrayList<>()).add(area);
+            }
+        }
+
+        areas.put(document.getId(), area);
+        return true;
+    }
+
+    private void removeDocument(Long listingId) {
+        ServiceArea area = areas.remove(listingId);
+        if (area == null) {
+            return;
+        }
+
+        for (long key : area.cellKeys) {
+            List<ServiceArea> cell = cells.get(key);
+            if (cell != null) {
+                cell.remove(area);
+                if (cell.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        }
+    }
+
+    private int cellRow(double latitude) {
+        return (int) Math.floor((latitude + 90) / geoConfig.getCellSizeDegrees());
+    }
+
+    private int cellColumn(double longitude) {
+        return (int) Math.floor((longitude + 180) / geoConfig.getCellSizeDegrees());
+    }
+
+    private static long cellKey(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+
+    /**
+     * A listing whose service area covers the searched point.
+     */
+    @Value
+    public static class Match {
+        Long listingId;
+        double distanceKm;
+    }
+
+    private static final class ServiceArea {
+        private final Long listingId;
+        private final double latitude;
+        private final double longitude;
+        private final double radiusKm;
+        private final long[] cellKeys;
+
+        private ServiceArea(Long listingId, double latitude, double longitude, double radiusKm, long[] cellKeys) {
+            this.listingId = listingId;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.radiusKm = radiusKm;
+            this.cellKeys = cellKeys;
+        }
+    }
+}
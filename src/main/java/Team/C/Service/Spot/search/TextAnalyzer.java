@@ -0,0 +1,85 @@
+package Team.C.Service.Spot.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Text analysis helpers shared by the in-memory search structures.
+ * Splits free text into lower-cased tokens and drops common stop words so that
+ * indexing and querying always agree on what a "term" is.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public final class TextAnalyzer {
+
+    /**
+     * Anything that is not a letter or a digit separates tokens
+     */
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    /**
+     * Words too common to carry any ranking signal
+     */
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from",
+            "in", "into", "is", "it", "me", "my", "near", "of", "on", "or",
+            "our", "the", "to", "we", "with", "you", "your"
+    );
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Split text into normalized tokens, dropping stop words.
+     *
+     * @param text the raw text (may be null)
+     * @return list of tokens in their original order (may contain duplicates)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Check if a token is a stop word.
+     *
+     * @param token lower-cased token
+     * @return true if the token is ignored by the analyzer
+     */
+    public static boolean isStopWord(String token) {
+        return STOP_WORDS.contains(token);
+    }
+
+    /**
+     * Build a MySQL BOOLEAN MODE query requiring every word, each matched by prefix.
+     * Operators typed by the user are dropped by tokenization.
+     *
+     * @param text the raw search text
+     * @return boolean query such as "+plumb* +mumbai*", or an empty string
+     */
+    public static String toBooleanModeQuery(String text) {
+        StringBuilder query = new StringBuilder();
+        for (String token : new LinkedHashSet<>(tokenize(text))) {
+            if (query.length() > 0) {
+                query.append(' ');
+            }
+            query.append('+').append(token).append('*');
+        }
+        return query.toString();
+    }
+}
@@ -0,0 +1,41 @@
+package Team.C.Service.Spot.search.ranking;
+
+import Team.C.Service.Spot.config.RankingConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Average rating smoothed toward a prior by review count, so a single
+ * five-star review does not outrank hundreds of 4.8 reviews.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+@RequiredArgsConstructor
+public class BayesianRatingScorer implements ListingScorer {
+
+    private static final double MAX_RATING = 5.0;
+
+    private final RankingConfig config;
+
+    @Override
+    public double weight() {
+        return config.getRatingWeight();
+    }
+
+    @Override
+    public void accumulate(ListingFeatures features, double weight, double[] scores) {
+        double prior = config.getRatingPriorMean() * config.getRatingPriorReviews();
+        double priorReviews = config.getRatingPriorReviews();
+        double[] rating = features.rating;
+        int[] reviews = features.reviewCount;
+        for (int i = 0; i < features.size; i++) {
+            double evidence = priorReviews + reviews[i];
+            if (evidence > 0) {
+                scores[i] += weight * ((prior + rating[i] * reviews[i]) / evidence / MAX_RATING);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package Team.C.Service.Spot.search.ranking;
+
+import Team.C.Service.Spot.config.RankingConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Closeness to the searched location, halving at the distance scale.
+ * Candidates without a distance (non-location searches) get nothing.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+@RequiredArgsConstructor
+public class DistanceScorer implements ListingScorer {
+
+    private final RankingConfig config;
+
+    @Override
+    public double weight() {
+        return config.getDistanceWeight();
+    }
+
+    @Override
+    public void accumulate(ListingFeatures features, double weight, double[] scores) {
+        double scale = config.getDistanceScaleKm();
+        double[] distance = features.distanceKm;
+        for (int i = 0; i < features.size; i++) {
+            if (!Double.isNaN(distance[i])) {
+                scores[i] += weight * (scale / (scale + distance[i]));
+            }
+        }
+    }
+}
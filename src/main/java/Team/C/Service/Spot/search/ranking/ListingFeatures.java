@@ -0,0 +1,87 @@
+package Team.C.Service.Spot.search.ranking;
+
+import Team.C.Service.Spot.dto.response.ServiceListingResponse;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Ranking features of a candidate set, one primitive column per feature.
+ * Gathered once from the listings so scorers run tight loops over arrays
+ * instead of calling getters per listing and per signal.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public final class ListingFeatures {
+
+    private static final double SECONDS_PER_DAY = 86_400.0;
+
+    final int size;
+
+    /**
+     * 1 for the first retrieved candidate down to 1/size for the last; all 1 when the
+     * retrieval order carries no meaning
+     */
+    final double[] retrievalRank;
+    final double[] rating;
+    final int[] reviewCount;
+    final int[] bookings;
+    int maxBookings;
+    /**
+     * Days since creation (infinite when unknown)
+     */
+    final double[] ageDays;
+    final boolean[] verified;
+    /**
+     * Distance to the searched location in km (NaN when not a location search)
+     */
+    final double[] distanceKm;
+
+    private ListingFeatures(int size) {
+        this.size = size;
+        this.retrievalRank = new double[size];
+        this.rating = new double[size];
+        this.reviewCount = new int[size];
+        this.bookings = new int[size];
+        this.ageDays = new double[size];
+        this.verified = new boolean[size];
+        this.distanceKm = new double[size];
+    }
+
+    /**
+     * Gather the features of a candidate list.
+     *
+     * @param listings candidates in retrieval order
+     * @param retrievalOrdered true if the retrieval order is meaningful (e.g. text relevance)
+     * @param now reference time for recency
+     * @return feature columns indexed like the list
+     */
+    public static ListingFeatures of(List<ServiceListingResponse> listings, boolean retrievalOrdered, LocalDateTime now) {
+        int size = listings.size();
+        ListingFeatures features = new ListingFeatures(size);
+        long nowSeconds = now.toEpochSecond(ZoneOffset.UTC);
+
+        for (int i = 0; i < size; i++) {
+            ServiceListingResponse listing = listings.get(i);
+
+            features.retrievalRank[i] = retrievalOrdered ? (double) (size - i) / size : 1.0;
+            features.rating[i] = listing.getAverageRating() != null ? listing.getAverageRating() : 0.0;
+            features.reviewCount[i] = listing.getReviewCount() != null ? listing.getReviewCount() : 0;
+            features.bookings[i] = listing.getTotalBookings() != null ? listing.getTotalBookings() : 0;
+            features.maxBookings = Math.max(features.maxBookings, features.bookings[i]);
+            features.ageDays[i] = listing.getCreatedAt() != null
+                    ? Math.max(nowSeconds - listing.getCreatedAt().toEpochSecond(ZoneOffset.UTC), 0) / SECONDS_PER_DAY
+                    : Double.POSITIVE_INFINITY;
+            features.verified[i] = listing.getProvider() != null && Boolean.TRUE.equals(listing.getProvider().getVerified());
+            features.distanceKm[i] = listing.getDistanceKm() != null ? listing.getDistanceKm() : Double.NaN;
+        }
+        return features;
+    }
+
+    public int size() {
+        return size;
+    }
+}
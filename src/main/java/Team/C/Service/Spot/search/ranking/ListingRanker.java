@@ -0,0 +1,96 @@
+package Team.C.Service.Spot.search.ranking;
+
+import Team.C.Service.Spot.config.RankingConfig;
+import Team.C.Service.Spot.dto.response.ServiceListingResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ranking stage applied to browse and search results after retrieval.
+ *
+ * <p>The candidates' features are gathered into primitive columns once, every
+ * registered {@link ListingScorer} adds its weighted signal in a single pass
+ * over those columns, and the candidates are ordered by total score with a
+ * primitive sort. Ties keep the retrieval order.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ListingRanker {
+
+    private final List<ListingScorer> scorers;
+    private final RankingConfig config;
+
+    /**
+     * Order listings by their combined score, best first.
+     *
+     * @param listings candidates in retrieval order
+     * @param retrievalOrdered true if the retrieval order is meaningful (e.g. text relevance)
+     * @return a new list, best first (the input is returned as is when ranking is disabled)
+     */
+    public List<ServiceListingResponse> rank(List<ServiceListingResponse> listings, boolean retrievalOrdered) {
+        if (!config.isEnabled() || listings.size() < 2) {
+            return listings;
+        }
+
+        long start = System.nanoTime();
+        ListingFeatures features = ListingFeatures.of(listings, retrievalOrdered, LocalDateTime.now());
+        int[] order = order(score(features));
+
+        List<ServiceListingResponse> ranked = new ArrayList<>(order.length);
+        for (int index : order) {
+            ranked.add(listings.get(index));
+        }
+        log.debug("Ranked {} listings in {} us", ranked.size(), (System.nanoTime() - start) / 1_000);
+        return ranked;
+    }
+
+    /**
+     * Run every enabled scorer over the feature columns.
+     *
+     * @param features candidate features
+     * @return combined score per candidate (non-negative)
+     */
+    double[] score(ListingFeatures features) {
+        double[] scores = new double[features.size];
+        for (ListingScorer scorer : scorers) {
+            double weight = scorer.weight();
+            if (weight > 0) {
+                scorer.accumulate(features, weight, scores);
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Candidate indexes by descending score, ties in retrieval order.
+     * Each candidate is packed into one long (score bits high, inverted index low)
+     * so the order comes from a single primitive sort.
+     */
+    private static int[] order(double[] scores) {
+        int size = scores.length;
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            // Non-negative floats compare like their bit patterns
+            long scoreBits = Float.floatToIntBits((float) scores[i]);
+            keys[i] = (scoreBits << 32) | (Integer.MAX_VALUE - i);
+        }
+        Arrays.sort(keys);
+
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = Integer.MAX_VALUE - (int) keys[size - 1 - i];
+        }
+        return order;
+    }
+}
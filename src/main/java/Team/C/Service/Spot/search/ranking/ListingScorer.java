@@ -0,0 +1,30 @@
+package Team.C.Service.Spot.search.ranking;
+
+/**
+ * One ranking signal. Implementations are Spring beans and are picked up by
+ * {@link ListingRanker} automatically.
+ *
+ * <p>A scorer works on a whole candidate set at once: it reads the feature
+ * columns it needs and adds {@code weight * signal} to every candidate's
+ * score, with the signal normalized to [0, 1].</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public interface ListingScorer {
+
+    /**
+     * @return configured weight of this signal (0 disables it)
+     */
+    double weight();
+
+    /**
+     * Add this signal to the scores of every candidate.
+     *
+     * @param features feature columns of the candidates
+     * @param weight weight to apply
+     * @param scores running scores, indexed like the features
+     */
+    void accumulate(ListingFeatures features, double weight, double[] scores);
+}
@@ -0,0 +1,36 @@
+package Team.C.Service.Spot.search.ranking;
+
+import Team.C.Service.Spot.config.RankingConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Booking count on a log scale, relative to the most booked candidate.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+@RequiredArgsConstructor
+public class PopularityScorer implements ListingScorer {
+
+    private final RankingConfig config;
+
+    @Override
+    public double weight() {
+        return config.getPopularityWeight();
+    }
+
+    @Override
+    public void accumulate(ListingFeatures features, double weight, double[] scores) {
+        if (features.maxBookings == 0) {
+            return;
+        }
+        double scale = Math.log1p(features.maxBookings);
+        int[] bookings = features.bookings;
+        for (int i = 0; i < features.size; i++) {
+            scores[i] += weight * (Math.log1p(bookings[i]) / scale);
+        }
+    }
+}
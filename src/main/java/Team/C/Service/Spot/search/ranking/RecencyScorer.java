@@ -0,0 +1,33 @@
+package Team.C.Service.Spot.search.ranking;
+
+import Team.C.Service.Spot.config.RankingConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exponential decay with listing age, halving every recency half-life.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+@RequiredArgsConstructor
+public class RecencyScorer implements ListingScorer {
+
+    private final RankingConfig config;
+
+    @Override
+    public double weight() {
+        return config.getRecencyWeight();
+    }
+
+    @Override
+    public void accumulate(ListingFeatures features, double weight, double[] scores) {
+        double decay = Math.log(2) / config.getRecencyHalfLifeDays();
+        double[] age = features.ageDays;
+        for (int i = 0; i < features.size; i++) {
+            scores[i] += weight * Math.exp(-decay * age[i]);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package Team.C.Service.Spot.search.ranking;
+
+import Team.C.Service.Spot.config.RankingConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the retrieval order (text relevance of a keyword search) as one signal
+ * among the others.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+@RequiredArgsConstructor
+public class RelevanceScorer implements ListingScorer {
+
+    private final RankingConfig config;
+
+    @Override
+    public double weight() {
+        return config.getRelevanceWeight();
+    }
+
+    @Override
+    public void accumulate(ListingFeatures features, double weight, double[] scores) {
+        double[] rank = features.retrievalRank;
+        for (int i = 0; i < features.size; i++) {
+            scores[i] += weight * rank[i];
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package Team.C.Service.Spot.search.ranking;
+
+import Team.C.Service.Spot.config.RankingConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Full signal for listings of verified providers.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+@RequiredArgsConstructor
+public class VerifiedProviderScorer implements ListingScorer {
+
+    private final RankingConfig config;
+
+    @Override
+    public double weight() {
+        return config.getVerifiedWeight();
+    }
+
+    @Override
+    public void accumulate(ListingFeatures features, double weight, double[] scores) {
+        boolean[] verified = features.verified;
+        for (int i = 0; i < features.size; i++) {
+            if (verified[i]) {
+                scores[i] += weight;
+            }
+        }
+    }
+}
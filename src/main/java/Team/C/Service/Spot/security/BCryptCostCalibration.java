@@ -0,0 +1,107 @@
+package Team.C.Service.Spot.security;
+
+import Team.C.Service.Spot.config.PasswordHashingConfig;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Picks the BCrypt cost for this node at startup.
+ *
+ * <p>Each BCrypt cost step doubles the work, so one timing at the minimum
+ * cost is enough to estimate all the others. The chosen cost is the highest
+ * one whose estimated hash time stays within
+ * {@code password-hashing.target-hash-ms}, kept between the configured
+ * minimum and maximum. A fixed {@code password-hashing.strength} skips the
+ * calibration.</p>
+ *
+ * <p>BCrypt hashes carry their cost ({@code $2a$10$...}), so hashes made with
+ * an older cost still verify. {@link #needsRehash(String)} tells whether a
+ * stored hash differs from the current cost.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+@Slf4j
+public class BCryptCostCalibration {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[aby]?\\$(\\d{2})\\$");
+    private static final int MIN_BCRYPT_COST = 4;
+    private static final int MAX_BCRYPT_COST = 31;
+    private static final int SAMPLES = 3;
+
+    /**
+     * BCrypt cost used for new hashes on this node
+     */
+    @Getter
+    private final int strength;
+
+    public BCryptCostCalibration(PasswordHashingConfig config) {
+        if (config.getStrength() > 0) {
+            this.strength = clamp(config.getStrength(), MIN_BCRYPT_COST, MAX_BCRYPT_COST);
+            log.info("BCrypt cost fixed at {}", strength);
+        } else {
+            this.strength = calibrate(config);
+        }
+    }
+
+    /**
+     * Read the cost out of a stored BCrypt hash.
+     *
+     * @param encodedPassword the stored hash
+     * @return its cost, or -1 if it is not a BCrypt hash
+     */
+    public static int costOf(String encodedPassword) {
+        if (encodedPassword == null) {
+            return -1;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+
+    /**
+     * Check whether a stored hash was made with a different cost than the current one.
+     *
+     * @param encodedPassword the stored hash
+     * @return true if it should be rehashed on the next successful login
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return costOf(encodedPassword) != strength;
+    }
+
+    private static int calibrate(PasswordHashingConfig config) {
+        int min = clamp(config.getMinStrength(), MIN_BCRYPT_COST, MAX_BCRYPT_COST);
+        int max = clamp(config.getMaxStrength(), min, MAX_BCRYPT_COST);
+        long targetNanos = config.getTargetHashMs() * 1_000_000L;
+
+        // The first hash also warms up the JIT, so keep the fastest sample
+        String salt = BCrypt.gensalt(min);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i <= SAMPLES; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw("calibration-password", salt);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        int cost = min;
+        long estimate = best;
+        while (cost < max && estimate * 2 <= targetNanos) {
+            cost++;
+            estimate *= 2;
+        }
+
+        log.info("BCrypt cost calibrated to {} (cost {} took {} ms, estimated {} ms per hash, target {} ms)",
+                cost, min, best / 1_000_000, estimate / 1_000_000, config.getTargetHashMs());
+        return cost;
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.min(Math.max(value, min), max);
+    }
+}
@@ -0,0 +1,233 @@
+package Team.C.Service.Spot.security;
+
+import Team.C.Service.Spot.config.PasswordHashingConfig;
+import Team.C.Service.Spot.exception.ServiceOverloadedException;
+import jakarta.annotation.PreDestroy;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Runs BCrypt hashing and verification on a dedicated, bounded executor.
+ *
+ * <p>BCrypt is deliberately CPU-heavy. Running it on the request threads lets
+ * a burst of logins or registrations take every request thread and core.
+ * Here at most {@code threads} hashes run at once and at most
+ * {@code queueCapacity} wait. Anything beyond that is rejected at once with
+ * {@link ServiceOverloadedException} (503), so the number of request threads
+ * a login storm can hold is bounded and the rest keep serving other endpoints.</p>
+ *
+ * <p>Stored hashes whose cost differs from this node's calibrated cost are
+ * rehashed in the background after a successful login, on the same executor
+ * but only when it has room, so rehashing never competes with logins.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Component
+@Slf4j
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingConfig config;
+    private final BCryptCostCalibration costCalibration;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder rehashed = new LongAdder();
+    private final LongAdder rehashesSkipped = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, PasswordHashingConfig config,
+                          BCryptCostCalibration costCalibration) {
+        this.passwordEncoder = passwordEncoder;
+        this.config = config;
+        this.costCalibration = costCalibration;
+        int threads = config.getThreads() > 0 ? config.getThreads() : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(config.getQueueCapacity(), 1)),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("Password hashing executor started with {} threads, queue capacity {}",
+                threads, config.getQueueCapacity());
+    }
+
+    /**
+     * Hash a raw password.
+     *
+     * @param rawPassword the password
+     * @return the encoded hash
+     * @throws ServiceOverloadedException if the executor is saturated or the hash takes too long
+     */
+    public String encode(CharSequence rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Check a raw password against a stored hash.
+     *
+     * @param rawPassword the password
+     * @param encodedPassword the stored hash
+     * @return true if they match
+     * @throws ServiceOverloadedException if the executor is saturated or the check takes too long
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Check whether a stored hash was made with a different cost than this node uses.
+     *
+     * @param encodedPassword the stored hash
+     * @return true if it should be rehashed
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return costCalibration.needsRehash(encodedPassword);
+    }
+
+    /**
+     * Hash a password again with the current cost, in the background.
+     * Skipped (and retried on a later login) when the executor is busy: only
+     * idle threads or a queue at most half full accept rehash work.
+     *
+     * @param rawPassword the password that was just verified
+     * @param onRehashed receives the new hash, on the hashing thread
+     * @return true if the rehash was scheduled
+     */
+    public boolean rehashInBackground(CharSequence rawPassword, Consumer<String> onRehashed) {
+        if (executor.getQueue().size() * 2 > config.getQueueCapacity()) {
+            rehashesSkipped.increment();
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    onRehashed.accept(passwordEncoder.encode(rawPassword));
+                    rehashed.increment();
+                } catch (RuntimeException e) {
+                    log.warn("Background password rehash failed: {}", e.getMessage());
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            rehashesSkipped.increment();
+            return false;
+        }
+    }
+
+    /**
+     * Get a snapshot of the executor counters.
+     *
+     * @return queue depth, activity and latency figures
+     */
+    public Stats stats() {
+        long done = completed.sum();
+        return new Stats(
+                costCalibration.getStrength(),
+                executor.getMaximumPoolSize(),
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                config.getQueueCapacity(),
+                done,
+                rejected.sum(),
+                timedOut.sum(),
+                rehashed.sum(),
+                rehashesSkipped.sum(),
+                done == 0 ? 0.0 : hashNanos.sum() / 1_000_000.0 / done,
+                maxHashNanos.get() / 1_000_000.0,
+                done == 0 ? 0.0 : waitNanos.sum() / 1_000_000.0 / done,
+                maxWaitNanos.get() / 1_000_000.0);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Callable<T> work) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long started = System.nanoTime();
+                try {
+                    return work.call();
+                } finally {
+                    long finished = System.nanoTime();
+                    record(started - submitted, finished - started);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Password hashing saturated ({} queued), rejecting request", executor.getQueue().size());
+            throw new ServiceOverloadedException("Too many sign-in requests right now, please retry shortly");
+        }
+
+        try {
+            return future.get(config.getMaxWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            throw new ServiceOverloadedException("Sign-in is taking too long right now, please retry shortly");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException("Password check was interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    private void record(long waited, long hashed) {
+        completed.increment();
+        hashNanos.add(hashed);
+        waitNanos.add(waited);
+        maxHashNanos.accumulate(hashed);
+        maxWaitNanos.accumulate(waited);
+    }
+
+    /**
+     * Password hashing executor counters since startup; times in milliseconds.
+     */
+    @Value
+    public static class Stats {
+        int strength;
+        int threads;
+        int activeThreads;
+        int queueDepth;
+        int queueCapacity;
+        long completed;
+        long rejected;
+        long timedOut;
+        long rehashed;
+        long rehashesSkipped;
+        double averageHashMs;
+        double maxHashMs;
+        double averageQueueWaitMs;
+        double maxQueueWaitMs;
+    }
+}
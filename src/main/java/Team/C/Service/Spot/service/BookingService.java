@@ -1,6 +1,7 @@
 package Team.C.Service.Spot.service;
 
 import Team.C.Service.Spot.dto.request.CreateBookingRequest;
+import Team.C.Service.Spot.dto.request.ResponseView;
 import Team.C.Service.Spot.dto.request.UpdateBookingStatusRequest;
 import Team.C.Service.Spot.dto.response.BookingResponse;
 import Team.C.Service.Spot.model.enums.BookingStatus;
@@ -28,9 +29,10 @@ public interface BookingService {
      * Get booking by ID
      *
      * @param id booking ID
+     * @param view requested response shape (fields/expand)
      * @return booking response
      */
-    BookingResponse getBookingById(Long id);
+    BookingResponse getBookingById(Long id, ResponseView view);
 
     /**
      * Get all bookings (admin view)
@@ -44,41 +46,46 @@ public interface BookingService {
      *
      * @param userId user ID
      * @param role user role (CUSTOMER or PROVIDER)
+     * @param view requested response shape (fields/expand)
      * @return list of bookings
      */
-    List<BookingResponse> getBookingsByUser(Long userId, String role);
+    List<BookingResponse> getBookingsByUser(Long userId, String role, ResponseView view);
 
     /**
      * Get bookings by customer ID
      *
      * @param customerId customer ID
+     * @param view requested response shape (fields/expand)
      * @return list of bookings
      */
-    List<BookingResponse> getBookingsByCustomer(Long customerId);
+    List<BookingResponse> getBookingsByCustomer(Long customerId, ResponseView view);
 
     /**
      * Get bookings by provider ID
      *
      * @param providerId provider ID
+     * @param view requested response shape (fields/expand)
      * @return list of bookings
      */
-    List<BookingResponse> getBookingsByProvider(Long providerId);
+    List<BookingResponse> getBookingsByProvider(Long providerId, ResponseView view);
 
     /**
      * Get bookings by service listing ID
      *
      * @param serviceListingId service listing ID
+     * @param view requested response shape (fields/expand)
      * @return list of bookings
      */
-    List<BookingResponse> getBookingsByServiceListing(Long serviceListingId);
+    List<BookingResponse> getBookingsByServiceListing(Long serviceListingId, ResponseView view);
 
     /**
      * Get bookings by status
      *
      * @param status booking status
+     * @param view requested response shape (fields/expand)
      * @return list of bookings
      */
-    List<BookingResponse> getBookingsByStatus(BookingStatus status);
+    List<BookingResponse> getBookingsByStatus(BookingStatus status, ResponseView view);
 
     /**
      * Update booking status
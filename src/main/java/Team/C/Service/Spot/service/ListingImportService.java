@@ -0,0 +1,30 @@
+package Team.C.Service.Spot.service;
+
+import Team.C.Service.Spot.dto.response.ListingImportResponse;
+import Team.C.Service.Spot.model.enums.ListingImportFormat;
+
+import java.io.InputStream;
+
+/**
+ * Service interface for bulk service listing imports.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public interface ListingImportService {
+
+    /**
+     * Import service listings for a provider from a streamed body.
+     * Rows are parsed one at a time and inserted in batches; an invalid row
+     * is reported and skipped without affecting the others.
+     *
+     * @param body NDJSON or CSV rows of CreateServiceListingRequest
+     * @param format body format
+     * @param providerId ID of the provider owning the listings
+     * @return per-row import report
+     * @throws IllegalArgumentException if the provider is not found, is not a provider,
+     *                                  or the body cannot be read
+     */
+    ListingImportResponse importListings(InputStream body, ListingImportFormat format, Long providerId);
+}
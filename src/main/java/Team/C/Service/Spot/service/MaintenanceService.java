@@ -1,5 +1,8 @@
 package Team.C.Service.Spot.service;
 
+import Team.C.Service.Spot.cache.LruCache;
+import Team.C.Service.Spot.security.PasswordHasher;
+
 import java.time.LocalDate;
 import java.util.Map;
 
@@ -35,5 +38,19 @@ public interface MaintenanceService {
      * @return Map with various statistics
      */
     Map<String, Object> getMaintenanceStats();
+
+    /**
+     * Get hit/miss/eviction counters of the in-memory caches
+     *
+     * @return Map of cache name to its statistics
+     */
+    Map<String, LruCache.Stats> getCacheStats();
+
+    /**
+     * Get queue depth and latency counters of the password hashing executor
+     *
+     * @return Password hashing statistics
+     */
+    PasswordHasher.Stats getPasswordHashingStats();
 }
 
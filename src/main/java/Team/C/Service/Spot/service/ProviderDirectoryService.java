@@ -0,0 +1,78 @@
+package Team.C.Service.Spot.service;
+
+import Team.C.Service.Spot.dto.response.CursorPageResponse;
+import Team.C.Service.Spot.dto.response.UserResponse;
+
+import java.util.List;
+
+/**
+ * Service interface for browsing the provider directory.
+ * Every lookup is answered by an indexed, filtered query or by the in-memory
+ * provider dictionary, so its cost follows the size of the result rather
+ * than the number of registered providers.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public interface ProviderDirectoryService {
+
+    /**
+     * Browse active providers with keyset pagination, ordered by ID.
+     * Every filter is optional.
+     *
+     * @param city city name
+     * @param pincode pincode
+     * @param serviceType exact service type
+     * @param verified only verified (true) or unverified (false) providers
+     * @param after cursor from the previous page
+     * @param limit page size (capped at 100)
+     * @return one page of providers with the next cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    CursorPageResponse<UserResponse> browseProviders(String city, Integer pincode, String serviceType,
+                                                     Boolean verified, String after, int limit);
+
+    /**
+     * Get one page of active providers in a city.
+     *
+     * @param city city name
+     * @param page zero-based page number
+     * @param size page size (capped at 100)
+     * @return active providers in the city
+     */
+    List<UserResponse> getProvidersByCity(String city, int page, int size);
+
+    /**
+     * Get one page of active providers in a pincode.
+     *
+     * @param pincode pincode
+     * @param page zero-based page number
+     * @param size page size (capped at 100)
+     * @return active providers in the pincode
+     */
+    List<UserResponse> getProvidersByPincode(Integer pincode, int page, int size);
+
+    /**
+     * Get the distinct cities of registered providers.
+     *
+     * @return sorted list of cities
+     */
+    List<String> getProviderCities();
+
+    /**
+     * Get the distinct service types offered by providers.
+     *
+     * @param city optional city; when given, only the active providers of that city count
+     * @return sorted list of service types
+     */
+    List<String> getProviderServiceTypes(String city);
+
+    /**
+     * Get the distinct pincodes of providers.
+     *
+     * @param city optional city; when given, only the active providers of that city count
+     * @return sorted list of pincodes
+     */
+    List<Integer> getProviderPincodes(String city);
+}
@@ -1,7 +1,13 @@
 package Team.C.Service.Spot.service;
 
 import Team.C.Service.Spot.dto.request.CreateServiceListingRequest;
+import Team.C.Service.Spot.dto.response.CursorPageResponse;
+import Team.C.Service.Spot.dto.response.FacetedListingResponse;
 import Team.C.Service.Spot.dto.response.ServiceListingResponse;
+import Team.C.Service.Spot.model.enums.ListingSort;
+import Team.C.Service.Spot.search.ListingFacetIndex;
+import Team.C.Service.Spot.search.ListingPriceIndex;
+import Team.C.Service.Spot.search.ListingSuggester;
 
 import java.util.List;
 
@@ -27,7 +33,7 @@ public interface ServiceListingService {
 
     /**
      * Get service listing by ID.
-     * Increments view count automatically.
+     * Served from the listing detail cache when possible; the view is counted asynchronously.
      *
      * @param id listing ID
      * @return ServiceListingResponse DTO
@@ -67,9 +73,32 @@ public interface ServiceListingService {
      */
     List<ServiceListingResponse> getListingsByCity(String city);
 
+    /**
+     * Get one page of active service listings in a pincode.
+     *
+     * @param pincode pincode
+     * @param page zero-based page number
+     * @param size page size (capped at 100)
+     * @return active listings in the pincode
+     */
+    List<ServiceListingResponse> getListingsByPincode(Integer pincode, int page, int size);
+
+    /**
+     * Find listings whose service area covers a customer location.
+     * The location is given either as coordinates or as a pincode.
+     *
+     * @param pincode customer pincode (used when coordinates are absent)
+     * @param latitude customer latitude
+     * @param longitude customer longitude
+     * @param limit maximum number of results (capped at 100)
+     * @return listings that reach the location, best ranked first (closer ranks higher)
+     * @throws IllegalArgumentException if no location is given or the pincode is unknown
+     */
+    List<ServiceListingResponse> getListingsReaching(Integer pincode, Double latitude, Double longitude, int limit);
+
     /**
      * Search service listings by keyword.
-     * Searches in title and description.
+     * Searches title, description, category name and city; results are ranked by relevance.
      *
      * @param keyword search keyword
      * @return list of matching service listings
@@ -77,12 +106,96 @@ public interface ServiceListingService {
     List<ServiceListingResponse> searchListings(String keyword);
 
     /**
-     * Get all active service listings.
+     * Suggest completions for a partly typed query across listing titles,
+     * category names and cities, most booked and viewed first.
+     *
+     * @param query typed text
+     * @param limit maximum number of suggestions (capped at 20)
+     * @return suggestions (empty for a blank query)
+     */
+    List<ListingSuggester.Suggestion> suggest(String query, int limit);
+
+    /**
+     * Get the newest active service listings, at most 500 of them.
+     * Legacy list for clients that filter on their side; use browseListings to page.
      *
-     * @return list of all active listings (for browse services page)
+     * @return up to 500 active listings (for browse services page)
      */
     List<ServiceListingResponse> getAllActiveListings();
 
+    /**
+     * Browse active service listings one page at a time using keyset pagination.
+     *
+     * @param sort sort order
+     * @param after opaque cursor from the previous page (null for the first page)
+     * @param limit page size (capped at 100)
+     * @return page of listings with the cursor for the next page
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    CursorPageResponse<ServiceListingResponse> browseListings(ListingSort sort, String after, int limit);
+
+    /**
+     * Filter active listings by any mix of city, category, price, rating and pincode
+     * and count the matches for every facet value.
+     *
+     * @param filter selected filters (null fields are ignored)
+     * @param page zero-based page number
+     * @param size page size (capped at 100)
+     * @return one page of listings, best rated first, with facet counts
+     * @throws IllegalArgumentException if the price range is inverted
+     */
+    FacetedListingResponse getFacetedListings(ListingFacetIndex.Filter filter, int page, int size);
+
+    /**
+     * Get one page of active listings priced within a range, cheapest first.
+     *
+     * @param city optional city filter
+     * @param categoryId optional category filter
+     * @param minPrice inclusive lower bound (null for none)
+     * @param maxPrice inclusive upper bound (null for none)
+     * @param page zero-based page number
+     * @param size page size (capped at 100)
+     * @return listings in the price range
+     * @throws IllegalArgumentException if the price range is inverted
+     */
+    List<ServiceListingResponse> getListingsByPriceRange(String city, Long categoryId, Double minPrice, Double maxPrice,
+                                                         int page, int size);
+
+    /**
+     * Get the price histogram of the active listings of a city and/or category,
+     * with the number of listings in the selected range (for a price slider).
+     *
+     * @param city optional city filter
+     * @param categoryId optional category filter
+     * @param minPrice selected lower bound (null for none)
+     * @param maxPrice selected upper bound (null for none)
+     * @param bins number of histogram bins (capped at 100)
+     * @return histogram and match count
+     * @throws IllegalArgumentException if the price range is inverted
+     */
+    ListingPriceIndex.Histogram getPriceHistogram(String city, Long categoryId, Double minPrice, Double maxPrice, int bins);
+
+    /**
+     * Get the distinct cities that have active listings.
+     *
+     * @return sorted list of cities
+     */
+    List<String> getAvailableCities();
+
+    /**
+     * Get the distinct service types (category names) of active listings.
+     *
+     * @return sorted list of service types
+     */
+    List<String> getAvailableServiceTypes();
+
+    /**
+     * Get the distinct pincodes that have active listings.
+     *
+     * @return sorted list of pincodes
+     */
+    List<Integer> getAvailablePincodes();
+
     /**
      * Get featured service listings.
      *
@@ -94,18 +207,22 @@ public interface ServiceListingService {
      * Get top-rated service listings in a city.
      *
      * @param city city name
+     * @param categoryId optional category filter (null for all categories)
      * @param minRating minimum rating threshold
-     * @return list of top-rated listings
+     * @param limit maximum number of listings (capped at 100)
+     * @return list of top-rated listings, best first
      */
-    List<ServiceListingResponse> getTopRatedListings(String city, Double minRating);
+    List<ServiceListingResponse> getTopRatedListings(String city, Long categoryId, Double minRating, int limit);
 
     /**
      * Get popular service listings in a city (by booking count).
      *
      * @param city city name
-     * @return list of popular listings
+     * @param categoryId optional category filter (null for all categories)
+     * @param limit maximum number of listings (capped at 100)
+     * @return list of popular listings, most booked first
      */
-    List<ServiceListingResponse> getPopularListings(String city);
+    List<ServiceListingResponse> getPopularListings(String city, Long categoryId, int limit);
 
     /**
      * Update service listing.
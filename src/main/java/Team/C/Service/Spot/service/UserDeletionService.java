@@ -0,0 +1,36 @@
+package Team.C.Service.Spot.service;
+
+import Team.C.Service.Spot.dto.response.UserDeletionStatus;
+
+/**
+ * Service interface for permanently deleting user accounts.
+ * The account is deactivated at once; its bookings, reviews, availability
+ * and listings are then removed in the background by chunked, set-based
+ * deletes, and the job's progress can be polled.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public interface UserDeletionService {
+
+    /**
+     * Deactivate a user and start deleting the account and its data.
+     * Starting a deletion for a user whose deletion is already running
+     * returns the running job.
+     *
+     * @param userId user ID
+     * @return status of the deletion job
+     * @throws IllegalArgumentException if user not found
+     */
+    UserDeletionStatus deleteUser(Long userId);
+
+    /**
+     * Get the progress of a deletion job.
+     *
+     * @param jobId job ID returned by deleteUser
+     * @return status of the deletion job
+     * @throws IllegalArgumentException if the job is unknown or expired
+     */
+    UserDeletionStatus getStatus(String jobId);
+}
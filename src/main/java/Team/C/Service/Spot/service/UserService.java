@@ -93,14 +93,6 @@ public interface UserService {
      */
     UserResponse updateUser(Long id, UpdateUserRequest request);
 
-    /**
-     * Delete user account.
-     *
-     * @param id user ID
-     * @throws IllegalArgumentException if user not found
-     */
-    void deleteUser(Long id);
-
     /**
      * Search providers by keyword (name or service type).
      *
@@ -109,14 +101,6 @@ public interface UserService {
      */
     List<UserResponse> searchProviders(String keyword);
 
-    /**
-     * Get providers by city.
-     *
-     * @param city city name
-     * @return list of providers in the city
-     */
-    List<UserResponse> getProvidersByCity(String city);
-
     /**
      * Get providers by service type.
      *
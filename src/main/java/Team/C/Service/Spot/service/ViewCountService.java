@@ -0,0 +1,34 @@
+package Team.C.Service.Spot.service;
+
+/**
+ * Service interface for listing view tracking.
+ * Views are counted in memory and written to service_listings.view_count
+ * in periodic batches instead of one row update per page view.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public interface ViewCountService {
+
+    /**
+     * Count one view of a listing.
+     *
+     * @param listingId listing ID
+     */
+    void recordView(Long listingId);
+
+    /**
+     * Write all buffered views to the database.
+     *
+     * @return number of listings updated
+     */
+    int flush();
+
+    /**
+     * Get the number of views not yet written to the database.
+     *
+     * @return pending view count
+     */
+    long getPendingViews();
+}
@@ -1,5 +1,6 @@
 package Team.C.Service.Spot.service.impl;
 
+import Team.C.Service.Spot.cache.UserChangedEvent;
 import Team.C.Service.Spot.dto.response.AdminStatisticsResponse;
 import Team.C.Service.Spot.dto.response.UserResponse;
 import Team.C.Service.Spot.mapper.UserMapper;
@@ -11,9 +12,12 @@ import Team.C.Service.Spot.model.enums.Role;
 import Team.C.Service.Spot.repository.BookingRepository;
 import Team.C.Service.Spot.repository.ServiceListingRepository;
 import Team.C.Service.Spot.repository.UserRepository;
+import Team.C.Service.Spot.search.ProviderChangedEvent;
+import Team.C.Service.Spot.search.ProviderDocument;
 import Team.C.Service.Spot.service.AdminService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,6 +43,7 @@ public class AdminServiceImpl implements AdminService {
     private final BookingRepository bookingRepository;
     private final ServiceListingRepository serviceListingRepository;
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public AdminStatisticsResponse getSystemStatistics() {
@@ -179,6 +184,7 @@ public class AdminServiceImpl implements AdminService {
         User savedUser = userRepository.save(user);
 
         log.info("User {} (role: {}) successfully verified", userId, user.getRole());
+        publishUserChange(savedUser);
         return userMapper.toResponse(savedUser);
     }
 
@@ -193,6 +199,7 @@ public class AdminServiceImpl implements AdminService {
         User savedUser = userRepository.save(user);
 
         log.info("User {} successfully suspended", userId);
+        publishUserChange(savedUser);
         return userMapper.toResponse(savedUser);
     }
 
@@ -207,6 +214,7 @@ public class AdminServiceImpl implements AdminService {
         User savedUser = userRepository.save(user);
 
         log.info("User {} successfully reactivated", userId);
+        publishUserChange(savedUser);
         return userMapper.toResponse(savedUser);
     }
 
@@ -225,5 +233,15 @@ public class AdminServiceImpl implements AdminService {
                 .map(userMapper::toResponse)
                 .collect(Collectors.toList());
     }
-}
 
+    /**
+     * Evict the user's cached profile and notify the in-memory provider indexes
+     * that a provider account changed.
+     */
+    private void publishUserChange(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
+        if (user.isProvider()) {
+            eventPublisher.publishEvent(ProviderChangedEvent.upserted(ProviderDocument.from(user)));
+        }
+    }
+}
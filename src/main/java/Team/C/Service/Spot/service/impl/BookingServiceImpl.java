@@ -1,6 +1,7 @@
 package Team.C.Service.Spot.service.impl;
 
 import Team.C.Service.Spot.dto.request.CreateBookingRequest;
+import Team.C.Service.Spot.dto.request.ResponseView;
 import Team.C.Service.Spot.dto.request.UpdateBookingStatusRequest;
 import Team.C.Service.Spot.dto.response.BookingResponse;
 import Team.C.Service.Spot.mapper.BookingMapper;
@@ -11,9 +12,12 @@ import Team.C.Service.Spot.model.enums.BookingStatus;
 import Team.C.Service.Spot.repository.BookingRepository;
 import Team.C.Service.Spot.repository.ServiceListingRepository;
 import Team.C.Service.Spot.repository.UserRepository;
+import Team.C.Service.Spot.search.ListingChangedEvent;
+import Team.C.Service.Spot.search.ListingDocument;
 import Team.C.Service.Spot.service.BookingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,6 +44,7 @@ public class BookingServiceImpl implements BookingService {
     private final UserRepository userRepository;
     private final ServiceListingRepository serviceListingRepository;
     private final BookingMapper bookingMapper;
+    private final ApplicationEventPublisher eventPublisher;
     private final Team.C.Service.Spot.repository.SpecificAvailabilityRepository availabilityRepository;
 
     @Override
@@ -62,6 +67,10 @@ public class BookingServiceImpl implements BookingService {
         ServiceListing serviceListing = serviceListingRepository.findById(request.getServiceListingId())
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Service listing not found with ID: " + request.getServiceListingId()));
+        if (!Boolean.TRUE.equals(serviceListing.getActive())) {
+            throw new IllegalStateException(
+                    "Service listing is not available for booking: " + request.getServiceListingId());
+        }
 
         // Get provider from service listing
         User provider = serviceListing.getProvider();
@@ -95,16 +104,26 @@ public class BookingServiceImpl implements BookingService {
         log.info("Successfully created booking with ID: {} and reference: {}",
                 savedBooking.getId(), savedBooking.getBookingReference());
 
+        // Count the booking on the listing so the popularity leaderboards move. The relative
+        // UPDATE keeps concurrent bookings of one listing from losing increments; the row lock
+        // it takes lasts until commit, so the count read back is this transaction's own.
+        serviceListingRepository.incrementTotalBookings(serviceListing.getId());
+        Integer totalBookings = serviceListingRepository.findTotalBookingsById(serviceListing.getId());
+        eventPublisher.publishEvent(ListingChangedEvent.upserted(ListingDocument.from(serviceListing)
+                .toBuilder()
+                .totalBookings(totalBookings)
+                .build()));
+
         return bookingMapper.toResponse(savedBooking);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public BookingResponse getBookingById(Long id) {
+    public BookingResponse getBookingById(Long id, ResponseView view) {
         log.info("Fetching booking by ID: {}", id);
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Booking not found with ID: " + id));
-        return bookingMapper.toResponse(booking);
+        return bookingMapper.toResponse(booking, view);
     }
 
     @Override
@@ -119,7 +138,7 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<BookingResponse> getBookingsByUser(Long userId, String role) {
+    public List<BookingResponse> getBookingsByUser(Long userId, String role, ResponseView view) {
         log.info("Fetching bookings for user ID: {} with role: {}", userId, role);
 
         User user = userRepository.findById(userId)
@@ -133,39 +152,39 @@ public class BookingServiceImpl implements BookingService {
         }
 
         return bookings.stream()
-                .map(bookingMapper::toResponse)
+                .map(booking -> bookingMapper.toResponse(booking, view))
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<BookingResponse> getBookingsByCustomer(Long customerId) {
+    public List<BookingResponse> getBookingsByCustomer(Long customerId, ResponseView view) {
         log.info("Fetching bookings for customer ID: {}", customerId);
         User customer = userRepository.findById(customerId)
                 .orElseThrow(() -> new IllegalArgumentException("Customer not found with ID: " + customerId));
 
         List<Booking> bookings = bookingRepository.findByCustomer(customer);
         return bookings.stream()
-                .map(bookingMapper::toResponse)
+                .map(booking -> bookingMapper.toResponse(booking, view))
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<BookingResponse> getBookingsByProvider(Long providerId) {
+    public List<BookingResponse> getBookingsByProvider(Long providerId, ResponseView view) {
         log.info("Fetching bookings for provider ID: {}", providerId);
         User provider = userRepository.findById(providerId)
                 .orElseThrow(() -> new IllegalArgumentException("Provider not found with ID: " + providerId));
 
         List<Booking> bookings = bookingRepository.findByProvider(provider);
         return bookings.stream()
-                .map(bookingMapper::toResponse)
+                .map(booking -> bookingMapper.toResponse(booking, view))
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<BookingResponse> getBookingsByServiceListing(Long serviceListingId) {
+    public List<BookingResponse> getBookingsByServiceListing(Long serviceListingId, ResponseView view) {
         log.info("Fetching bookings for service listing ID: {}", serviceListingId);
         ServiceListing serviceListing = serviceListingRepository.findById(serviceListingId)
                 .orElseThrow(() -> new IllegalArgumentException(
@@ -173,17 +192,17 @@ public class BookingServiceImpl implements BookingService {
 
         List<Booking> bookings = bookingRepository.findByServiceListing(serviceListing);
         return bookings.stream()
-                .map(bookingMapper::toResponse)
+                .map(booking -> bookingMapper.toResponse(booking, view))
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<BookingResponse> getBookingsByStatus(BookingStatus status) {
+    public List<BookingResponse> getBookingsByStatus(BookingStatus status, ResponseView view) {
         log.info("Fetching bookings with status: {}", status);
         List<Booking> bookings = bookingRepository.findByStatus(status);
         return bookings.stream()
-                .map(bookingMapper::toResponse)
+                .map(booking -> bookingMapper.toResponse(booking, view))
                 .collect(Collectors.toList());
     }
 
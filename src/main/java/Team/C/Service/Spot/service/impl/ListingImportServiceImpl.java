@@ -0,0 +1,413 @@
+package Team.C.Service.Spot.service.impl;
+
+import Team.C.Service.Spot.config.GeoConfig;
+import Team.C.Service.Spot.config.ListingImportConfig;
+import Team.C.Service.Spot.dto.request.CreateServiceListingRequest;
+import Team.C.Service.Spot.dto.response.ListingImportResponse;
+import Team.C.Service.Spot.dto.response.ListingImportResponse.RowResult;
+import Team.C.Service.Spot.model.IdSequences;
+import Team.C.Service.Spot.model.ServiceCategory;
+import Team.C.Service.Spot.model.User;
+import Team.C.Service.Spot.model.enums.ListingImportFormat;
+import Team.C.Service.Spot.repository.IdSequenceRepository;
+import Team.C.Service.Spot.repository.ServiceCategoryRepository;
+import Team.C.Service.Spot.search.CategoryChangedEvent;
+import Team.C.Service.Spot.search.ListingChangedEvent;
+import Team.C.Service.Spot.search.ListingDocument;
+import Team.C.Service.Spot.service.ListingImportService;
+import Team.C.Service.Spot.service.UserService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming implementation of ListingImportService.
+ *
+ * <p>The body is read line by line, so only the current batch of parsed rows
+ * is held in memory. Categories are resolved from a name/ID map loaded once
+ * per import, and each batch is written with one JDBC batch insert in its
+ * own transaction; a failing batch only fails its own rows.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ListingImportServiceImpl implements ListingImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO service_listings (id, title, description, price, currency, "
+            + "price_unit, duration_minutes, service_location, availability, service_radius_km, city, state, pincode, "
+            + "image_url, additional_images, active, featured, total_bookings, average_rating, review_count, "
+            + "view_count, created_at, updated_at, provider_id, category_id) "
+            + "VALUES (?, ?, ?, ?, 'INR', ?, ?, ?, 'Available', ?, ?, ?, ?, ?, ?, true, false, 0, 0.0, 0, 0, ?, ?, ?, ?)";
+
+    private final UserService userService;
+    private final ServiceCategoryRepository categoryRepository;
+    private final IdSequenceRepository idSequenceRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ListingImportConfig config;
+    private final GeoConfig geoConfig;
+
+    @Override
+    public ListingImportResponse importListings(InputStream body, ListingImportFormat format, Long providerId) {
+        User provider = userService.getUserEntityById(providerId);
+        if (!provider.isProvider()) {
+            log.error("User is not a provider: {}", providerId);
+            throw new IllegalArgumentException("Only providers can create service listings");
+        }
+        log.info("Importing {} listings for provider ID: {}", format, providerId);
+
+        ImportRun run = new ImportRun(provider, loadCategories());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            List<String> columns = format == ListingImportFormat.CSV ? readCsvHeader(reader) : null;
+
+            String line;
+            int row = 0;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (++row > config.getMaxRows()) {
+                    run.truncated = true;
+                    break;
+                }
+                parseRow(run, row, line, columns);
+                if (run.pending.size() >= config.getBatchSize()) {
+                    flush(run);
+                }
+            }
+            flush(run);
+        } catch (IOException e) {
+            log.error("Failed to read listing import body", e);
+            throw new IllegalArgumentException("Could not read import body: " + e.getMessage());
+        }
+
+        run.results.sort(Comparator.comparingInt(RowResult::getRow));
+        int created = (int) run.results.stream().filter(RowResult::isSuccess).count();
+        log.info("Imported {} of {} listings for provider ID: {}", created, run.results.size(), providerId);
+
+        return ListingImportResponse.builder()
+                .totalRows(run.results.size())
+                .created(created)
+                .failed(run.results.size() - created)
+                .truncated(run.truncated)
+                .rows(run.results)
+                .build();
+    }
+
+    /**
+     * Parse, validate and resolve the category of one row, queueing it for
+     * the next batch or recording why it was rejected.
+     */
+    private void parseRow(ImportRun run, int row, String line, List<String> columns) {
+        try {
+            CreateServiceListingRequest request = columns != null
+                    ? objectMapper.convertValue(csvRow(columns, line), CreateServiceListingRequest.class)
+                    : objectMapper.readValue(line, CreateServiceListingRequest.class);
+            validate(request);
+            ServiceCategory category = resolveCategory(run, request);
+            run.pending.add(new PendingRow(row, request, category));
+        } catch (JacksonException e) {
+            run.results.add(RowResult.failed(row, e.getOriginalMessage()));
+        } catch (IllegalArgumentException e) {
+            run.results.add(RowResult.failed(row, e.getMessage()));
+        }
+    }
+
+    /**
+     * Bean validation plus the service radius bound that listing create and update apply.
+     */
+    private void validate(CreateServiceListingRequest request) {
+        Set<ConstraintViolation<CreateServiceListingRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        Integer radiusKm = request.getServiceRadiusKm();
+        if (radiusKm != null && (radiusKm < 1 || radiusKm > geoConfig.getMaxServiceRadiusKm())) {
+            throw new IllegalArgumentException(
+                    "Service radius must be between 1 and " + geoConfig.getMaxServiceRadiusKm() + " km");
+        }
+    }
+
+    /**
+     * Resolve a row's category from the per-import map, creating a missing
+     * category by name the way a single listing creation does.
+     */
+    private ServiceCategory resolveCategory(ImportRun run, CreateServiceListingRequest request) {
+        if (request.getCategoryId() != null) {
+            ServiceCategory category = run.categoriesById.get(request.getCategoryId());
+            if (category == null) {
+                throw new IllegalArgumentException("Category not found with ID: " + request.getCategoryId());
+            }
+            return category;
+        }
+        if (request.getCategoryName() == null || request.getCategoryName().trim().isEmpty()) {
+            throw new IllegalArgumentException("Either categoryId or categoryName must be provided");
+        }
+
+        String categoryName = request.getCategoryName().trim();
+        return run.categoriesByName.computeIfAbsent(categoryName.toLowerCase(Locale.ROOT), key -> {
+            log.info("Creating new category: {}", categoryName);
+            ServiceCategory category = new TransactionTemplate(transactionManager).execute(status -> {
+                ServiceCategory created = categoryRepository.save(ServiceCategory.builder()
+                        .name(categoryName)
+                        .description(categoryName + " services")
+                        .icon("🔧")
+                        .active(true)
+                        .build());
+                eventPublisher.publishEvent(new CategoryChangedEvent(created.getId()));
+                return created;
+            });
+            run.categoriesById.put(category.getId(), category);
+            return category;
+        });
+    }
+
+    private Map<Long, ServiceCategory> loadCategories() {
+        return categoryRepository.findAll().stream()
+                .collect(Collectors.toMap(ServiceCategory::getId, category -> category));
+    }
+
+    /**
+     * Insert the queued rows in one JDBC batch and transaction, then publish
+     * them to the listing indexes once committed.
+     */
+    private void flush(ImportRun run) {
+        if (run.pending.isEmpty()) {
+            return;
+        }
+
+        List<PendingRow> batch = run.pending;
+        run.pending = new ArrayList<>(config.getBatchSize());
+        LocalDateTime now = LocalDateTime.now();
+
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            List<Long> ids = transaction.execute(status -> {
+                List<Long> generated = insertBatch(batch, run.provider.getId(), now);
+                for (int i = 0; i < batch.size(); i++) {
+                    eventPublisher.publishEvent(ListingChangedEvent.upserted(
+                            document(generated.get(i), batch.get(i), run.provider, now)));
+                }
+                return generated;
+            });
+            for (int i = 0; i < batch.size(); i++) {
+                run.results.add(RowResult.created(batch.get(i).row, ids.get(i)));
+            }
+        } catch (DataAccessException e) {
+            log.error("Listing import batch of {} rows failed", batch.size(), e);
+            String error = "Batch insert failed: " + e.getMostSpecificCause().getMessage();
+            for (PendingRow pending : batch) {
+                run.results.add(RowResult.failed(pending.row, error));
+            }
+        }
+    }
+
+    private List<Long> insertBatch(List<PendingRow> batch, Long providerId, LocalDateTime now) {
+        // IDs come from the same sequence row Hibernate allocates listing IDs from
+        long firstId = idSequenceRepository.reserve(IdSequences.SERVICE_LISTINGS, batch.size());
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+                Timestamp timestamp = Timestamp.valueOf(now);
+                List<Long> ids = new ArrayList<>(batch.size());
+                for (PendingRow pending : batch) {
+                    long id = firstId + ids.size();
+                    CreateServiceListingRequest request = pending.request;
+                    statement.setLong(1, id);
+                    statement.setString(2, request.getTitle());
+                    statement.setString(3, request.getDescription());
+                    statement.setDouble(4, request.getPrice());
+                    statement.setString(5, request.getPriceUnit());
+                    setNullable(statement, 6, request.getDurationMinutes(), Types.INTEGER);
+                    statement.setString(7, request.getServiceLocation());
+                    setNullable(statement, 8, request.getServiceRadiusKm(), Types.INTEGER);
+                    statement.setString(9, request.getCity());
+                    statement.setString(10, request.getState());
+                    statement.setInt(11, request.getPincode());
+                    statement.setString(12, request.getImageUrl());
+                    statement.setString(13, request.getAdditionalImages());
+                    statement.setTimestamp(14, timestamp);
+                    statement.setTimestamp(15, timestamp);
+                    statement.setLong(16, providerId);
+                    statement.setLong(17, pending.category.getId());
+                    statement.addBatch();
+                    ids.add(id);
+                }
+                statement.executeBatch();
+                return ids;
+            }
+        });
+    }
+
+    private static void setNullable(PreparedStatement statement, int index, Integer value, int sqlType)
+            throws SQLException {
+        if (value != null) {
+            statement.setInt(index, value);
+        } else {
+            statement.setNull(index, sqlType);
+        }
+    }
+
+    private static ListingDocument document(Long id, PendingRow pending, User provider, LocalDateTime now) {
+        CreateServiceListingRequest request = pending.request;
+        return ListingDocument.builder()
+                .id(id)
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .categoryId(pending.category.getId())
+                .categoryName(pending.category.getName())
+                .providerId(provider.getId())
+                .providerVerified(provider.getVerified())
+                .city(request.getCity())
+                .state(request.getState())
+                .pincode(request.getPincode())
+                .serviceRadiusKm(request.getServiceRadiusKm())
+                .price(request.getPrice())
+                .averageRating(0.0)
+                .reviewCount(0)
+                .totalBookings(0)
+                .viewCount(0)
+                .active(true)
+                .featured(false)
+                .createdAt(now)
+                .build();
+    }
+
+    private static List<String> readCsvHeader(BufferedReader reader) throws IOException {
+        String header = reader.readLine();
+        if (header == null || header.isBlank()) {
+            throw new IllegalArgumentException("CSV import requires a header row");
+        }
+        // Tolerate a byte order mark written by spreadsheet exports
+        if (header.charAt(0) == '\uFEFF') {
+            header = header.substring(1);
+        }
+        return parseCsvLine(header).stream().map(String::trim).toList();
+    }
+
+    /**
+     * Map one CSV line onto the header columns; empty cells are left out so they bind as null.
+     */
+    private static Map<String, String> csvRow(List<String> columns, String line) {
+        List<String> values = parseCsvLine(line);
+        if (values.size() > columns.size()) {
+            throw new IllegalArgumentException("Row has " + values.size() + " values but the header has "
+                    + columns.size() + " columns");
+        }
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            if (!values.get(i).isEmpty()) {
+                row.put(columns.get(i), values.get(i));
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Split one CSV line, honouring double-quoted values with "" escapes.
+     * Quoted values cannot span lines.
+     */
+    private static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted value");
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    /**
+     * State of one import: the batch being filled and the report so far
+     */
+    private static final class ImportRun {
+        private final User provider;
+        private final Map<Long, ServiceCategory> categoriesById;
+        private final Map<String, ServiceCategory> categoriesByName = new HashMap<>();
+        private final List<RowResult> results = new ArrayList<>();
+        private List<PendingRow> pending = new ArrayList<>();
+        private boolean truncated;
+
+        private ImportRun(User provider, Map<Long, ServiceCategory> categoriesById) {
+            this.provider = provider;
+            this.categoriesById = new HashMap<>(categoriesById);
+            categoriesById.values().forEach(category ->
+                    categoriesByName.put(category.getName().toLowerCase(Locale.ROOT), category));
+        }
+    }
+
+    private static final class PendingRow {
+        private final int row;
+        private final CreateServiceListingRequest request;
+        private final ServiceCategory category;
+
+        private PendingRow(int row, CreateServiceListingRequest request, ServiceCategory category) {
+            this.row = row;
+            this.request = request;
+            this.category = category;
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package Team.C.Service.Spot.service.impl;
 
+import Team.C.Service.Spot.cache.ListingDetailCache;
+import Team.C.Service.Spot.cache.LruCache;
+import Team.C.Service.Spot.cache.SearchResultCache;
+import Team.C.Service.Spot.cache.UserProfileCache;
 import Team.C.Service.Spot.repository.SpecificAvailabilityRepository;
 import Team.C.Service.Spot.repository.BookingRepository;
 import Team.C.Service.Spot.repository.ServiceListingRepository;
 import Team.C.Service.Spot.repository.UserRepository;
+import Team.C.Service.Spot.security.PasswordHasher;
 import Team.C.Service.Spot.service.MaintenanceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -31,6 +37,10 @@ public class MaintenanceServiceImpl implements MaintenanceService {
     private final BookingRepository bookingRepository;
     private final ServiceListingRepository serviceListingRepository;
     private final UserRepository userRepository;
+    private final ListingDetailCache listingDetailCache;
+    private final SearchResultCache searchResultCache;
+    private final UserProfileCache userProfileCache;
+    private final PasswordHasher passwordHasher;
 
     @Override
     @Transactional
@@ -106,5 +116,19 @@ public class MaintenanceServiceImpl implements MaintenanceService {
 
         return stats;
     }
-}
 
+    @Override
+    public Map<String, LruCache.Stats> getCacheStats() {
+        Map<String, LruCache.Stats> stats = new LinkedHashMap<>();
+        stats.put("listingDetail", listingDetailCache.stats());
+        stats.put("listingSearch", searchResultCache.listingStats());
+        stats.put("providerSearch", searchResultCache.providerStats());
+        stats.put("userProfile", userProfileCache.stats());
+        return stats;
+    }
+
+    @Override
+    public PasswordHasher.Stats getPasswordHashingStats() {
+        return passwordHasher.stats();
+    }
+}
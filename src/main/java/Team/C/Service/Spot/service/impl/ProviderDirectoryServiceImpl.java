@@ -0,0 +1,154 @@
+package Team.C.Service.Spot.service.impl;
+
+import Team.C.Service.Spot.dto.response.CursorPageResponse;
+import Team.C.Service.Spot.dto.response.UserResponse;
+import Team.C.Service.Spot.mapper.UserMapper;
+import Team.C.Service.Spot.model.User;
+import Team.C.Service.Spot.model.enums.Role;
+import Team.C.Service.Spot.repository.UserRepository;
+import Team.C.Service.Spot.search.ProviderValueDictionary;
+import Team.C.Service.Spot.service.ProviderDirectoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of ProviderDirectoryService.
+ * Provider pages come from indexed queries on the users table; the unscoped
+ * distinct values come from the in-memory provider dictionary and the
+ * city-scoped ones from DISTINCT projections.
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ProviderDirectoryServiceImpl implements ProviderDirectoryService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final ProviderValueDictionary providerValues;
+
+    /**
+     * Fetches one row more than requested to know whether another page exists.
+     */
+    @Override
+    public CursorPageResponse<UserResponse> browseProviders(String city, Integer pincode, String serviceType,
+                                                            Boolean verified, String after, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        long afterId = decodeCursor(after);
+        log.info("Browsing providers (city={}, pincode={}, serviceType={}, verified={}) after {} (limit {})",
+                city, pincode, serviceType, verified, afterId, pageSize);
+
+        List<User> providers = userRepository.findDirectoryPage(Role.PROVIDER, blankToNull(city), pincode,
+                blankToNull(serviceType), verified, afterId, pageSize + 1);
+
+        boolean hasMore = providers.size() > pageSize;
+        if (hasMore) {
+            providers = providers.subList(0, pageSize);
+        }
+
+        return CursorPageResponse.<UserResponse>builder()
+                .items(providers.stream()
+                        .map(userMapper::toResponse)
+                        .collect(Collectors.toList()))
+                .nextCursor(hasMore ? String.valueOf(providers.get(providers.size() - 1).getId()) : null)
+                .hasMore(hasMore)
+                .limit(pageSize)
+                .sort("ID")
+                .build();
+    }
+
+    /**
+     * Get one page of active providers in a city via the (role, city, active) index.
+     * City matching relies on the column's case-insensitive collation.
+     */
+    @Override
+    public List<UserResponse> getProvidersByCity(String city, int page, int size) {
+        log.info("Fetching providers in city: {} (page {}, size {})", city, page, size);
+
+        List<User> providers = userRepository.findByRoleAndCityAndActiveOrderByIdAsc(
+                Role.PROVIDER, city, true, pageRequest(page, size));
+
+        return providers.stream()
+                .map(userMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get one page of active providers in a pincode via the (role, pincode, active) index.
+     */
+    @Override
+    public List<UserResponse> getProvidersByPincode(Integer pincode, int page, int size) {
+        log.info("Fetching providers in pincode: {} (page {}, size {})", pincode, page, size);
+
+        List<User> providers = userRepository.findByRoleAndPincodeAndActiveOrderByIdAsc(
+                Role.PROVIDER, pincode, true, pageRequest(page, size));
+
+        return providers.stream()
+                .map(userMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Served from the in-memory provider dictionary, maintained from provider writes.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<String> getProviderCities() {
+        return providerValues.cities();
+    }
+
+    @Override
+    public List<String> getProviderServiceTypes(String city) {
+        if (city == null || city.isBlank()) {
+            return providerValues.serviceTypes();
+        }
+        return userRepository.findDistinctServiceTypesInCity(Role.PROVIDER, city.trim());
+    }
+
+    @Override
+    public List<Integer> getProviderPincodes(String city) {
+        if (city == null || city.isBlank()) {
+            return providerValues.pincodes();
+        }
+        return userRepository.findDistinctPincodesInCity(Role.PROVIDER, city.trim());
+    }
+
+    /**
+     * @return the provider ID encoded in the cursor, 0 when there is none
+     */
+    private static long decodeCursor(String after) {
+        if (after == null || after.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(after.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + after);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /**
+     * Build a page request with a non-negative page number and a size capped at MAX_PAGE_SIZE.
+     */
+    private static Pageable pageRequest(int page, int size) {
+        return PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+    }
+}
@@ -10,9 +10,12 @@ import Team.C.Service.Spot.model.User;
 import Team.C.Service.Spot.repository.BookingRepository;
 import Team.C.Service.Spot.repository.ReviewRepository;
 import Team.C.Service.Spot.repository.UserRepository;
+import Team.C.Service.Spot.search.ProviderChangedEvent;
+import Team.C.Service.Spot.search.ProviderDocument;
 import Team.C.Service.Spot.service.ReviewService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +41,7 @@ public class ReviewServiceImpl implements ReviewService {
     private final UserRepository userRepository;
     private final BookingRepository bookingRepository;
     private final ReviewMapper reviewMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ReviewResponse createReview(CreateReviewRequest request) {
@@ -330,6 +334,7 @@ public class ReviewServiceImpl implements ReviewService {
         provider.setReviewCount(reviewCount.intValue());
 
         userRepository.save(provider);
+        eventPublisher.publishEvent(ProviderChangedEvent.upserted(ProviderDocument.from(provider)));
 
         log.info("Provider {} rating updated: {} stars ({} reviews)",
                 providerId, averageRating, reviewCount);
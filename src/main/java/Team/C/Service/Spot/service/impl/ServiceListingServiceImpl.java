@@ -1,21 +1,58 @@
 package Team.C.Service.Spot.service.impl;
 
+import Team.C.Service.Spot.cache.ListingDetailCache;
+import Team.C.Service.Spot.cache.SearchResultCache;
+import Team.C.Service.Spot.config.GeoConfig;
+import Team.C.Service.Spot.config.SearchConfig;
 import Team.C.Service.Spot.dto.request.CreateServiceListingRequest;
+import Team.C.Service.Spot.dto.request.ListingCursor;
+import Team.C.Service.Spot.dto.response.CursorPageResponse;
+import Team.C.Service.Spot.dto.response.FacetedListingResponse;
 import Team.C.Service.Spot.dto.response.ServiceListingResponse;
 import Team.C.Service.Spot.mapper.ServiceListingMapper;
 import Team.C.Service.Spot.model.ServiceCategory;
 import Team.C.Service.Spot.model.ServiceListing;
 import Team.C.Service.Spot.model.User;
+import Team.C.Service.Spot.model.enums.ListingSort;
 import Team.C.Service.Spot.repository.ServiceCategoryRepository;
 import Team.C.Service.Spot.repository.ServiceListingRepository;
+import Team.C.Service.Spot.search.CategoryChangedEvent;
+import Team.C.Service.Spot.search.GeoPoint;
+import Team.C.Service.Spot.search.InvertedListingIndex;
+import Team.C.Service.Spot.search.ListingChangedEvent;
+import Team.C.Service.Spot.search.ListingDocument;
+import Team.C.Service.Spot.search.ListingFacetIndex;
+import Team.C.Service.Spot.search.ListingFuzzyIndex;
+import Team.C.Service.Spot.search.ListingLeaderboards;
+import Team.C.Service.Spot.search.ListingPriceIndex;
+import Team.C.Service.Spot.search.ListingSuggester;
+import Team.C.Service.Spot.search.ListingValueDictionary;
+import Team.C.Service.Spot.search.ListingViewedEvent;
+import Team.C.Service.Spot.search.PincodeDirectory;
+import Team.C.Service.Spot.search.ServiceAreaIndex;
+import Team.C.Service.Spot.search.TextAnalyzer;
+import Team.C.Service.Spot.search.ranking.ListingRanker;
 import Team.C.Service.Spot.service.ServiceListingService;
 import Team.C.Service.Spot.service.UserService;
+import Team.C.Service.Spot.service.ViewCountService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -32,10 +69,39 @@ import java.util.stream.Collectors;
 @Transactional
 public class ServiceListingServiceImpl implements ServiceListingService {
 
+    /**
+     * Upper bound for a single browse page
+     */
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Most listings the legacy unpaged list returns
+     */
+    private static final int ALL_LISTINGS_CAP = 500;
+    private static final int MAX_SUGGESTIONS = 20;
+    private static final int MAX_HISTOGRAM_BINS = 100;
+
     private final ServiceListingRepository listingRepository;
     private final ServiceCategoryRepository categoryRepository;
     private final ServiceListingMapper listingMapper;
     private final UserService userService;
+    private final ViewCountService viewCountService;
+    private final InvertedListingIndex searchIndex;
+    private final ServiceAreaIndex serviceAreaIndex;
+    private final ListingFacetIndex facetIndex;
+    private final ListingValueDictionary listingValues;
+    private final ListingLeaderboards leaderboards;
+    private final ListingSuggester suggester;
+    private final ListingFuzzyIndex fuzzyIndex;
+    private final ListingPriceIndex priceIndex;
+    private final ListingRanker ranker;
+    private final PincodeDirectory pincodeDirectory;
+    private final SearchConfig searchConfig;
+    private final GeoConfig geoConfig;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ListingDetailCache detailCache;
+    private final SearchResultCache searchCache;
+    private final PlatformTransactionManager transactionManager;
 
     /**
      * Create a new service listing.
@@ -43,6 +109,7 @@ public class ServiceListingServiceImpl implements ServiceListingService {
     @Override
     public ServiceListingResponse createListing(CreateServiceListingRequest request, Long providerId) {
         log.info("Creating new service listing for provider ID: {}", providerId);
+        validateServiceRadius(request.getServiceRadiusKm());
 
         // Get provider (validates existence and throws exception if not found)
         User provider = userService.getUserEntityById(providerId);
@@ -74,7 +141,9 @@ public class ServiceListingServiceImpl implements ServiceListingService {
                                 .icon("🔧")
                                 .active(true)
                                 .build();
-                        return categoryRepository.save(newCategory);
+                        ServiceCategory created = categoryRepository.save(newCategory);
+                        eventPublisher.publishEvent(new CategoryChangedEvent(created.getId()));
+                        return created;
                     });
         } else {
             log.error("Neither categoryId nor categoryName provided");
@@ -87,6 +156,7 @@ public class ServiceListingServiceImpl implements ServiceListingService {
         // Save to database
         ServiceListing savedListing = listingRepository.save(listing);
         log.info("Successfully created service listing with ID: {}", savedListing.getId());
+        publishChange(savedListing);
 
         // Convert to Response DTO
         return listingMapper.toResponse(savedListing);
@@ -94,24 +164,22 @@ public class ServiceListingServiceImpl implements ServiceListingService {
 
     /**
      * Get service listing by ID.
-     * Automatically increments view count.
+     * Served from the listing detail cache when possible; a miss loads the listing
+     * with its category and provider in one read-only transaction. The view is
+     * counted asynchronously, so this path never writes.
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ServiceListingResponse getListingById(Long id) {
-        log.info("Fetching service listing with ID: {}", id);
-
-        ServiceListing listing = listingRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.error("Service listing not found with ID: {}", id);
-                    return new IllegalArgumentException("Service listing not found with ID: " + id);
-                });
-
-        // Increment view count
-        listing.incrementViewCount();
-        listingRepository.save(listing);
+        ServiceListingResponse response = detailCache.get(id);
+        if (response == null) {
+            log.info("Fetching service listing with ID: {}", id);
+            response = loadListingDetail(id);
+            detailCache.put(response);
+        }
 
-        return listingMapper.toResponse(listing);
+        eventPublisher.publishEvent(new ListingViewedEvent(id));
+        return response;
     }
 
     /**
@@ -147,7 +215,7 @@ public class ServiceListingServiceImpl implements ServiceListingService {
     }
 
     /**
-     * Get service listings by category.
+     * Get service listings by category, ranked by ListingRanker.
      */
     @Override
     @Transactional(readOnly = true)
@@ -159,13 +227,13 @@ public class ServiceListingServiceImpl implements ServiceListingService {
 
         List<ServiceListing> listings = listingRepository.findByCategoryAndActive(category, true);
 
-        return listings.stream()
+        return ranker.rank(listings.stream()
                 .map(listingMapper::toResponse)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()), false);
     }
 
     /**
-     * Get service listings by city.
+     * Get service listings by city, ranked by ListingRanker.
      */
     @Override
     @Transactional(readOnly = true)
@@ -174,42 +242,263 @@ public class ServiceListingServiceImpl implements ServiceListingService {
 
         List<ServiceListing> listings = listingRepository.findByCityAndActive(city, true);
 
+        return ranker.rank(listings.stream()
+                .map(listingMapper::toResponse)
+                .collect(Collectors.toList()), false);
+    }
+
+    /**
+     * Get one page of active listings in a pincode via the (pincode, active) index.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ServiceListingResponse> getListingsByPincode(Integer pincode, int page, int size) {
+        log.info("Fetching listings in pincode: {} (page {}, size {})", pincode, page, size);
+
+        List<ServiceListing> listings = listingRepository.findActiveByPincode(pincode, pageRequest(page, size));
+
         return listings.stream()
                 .map(listingMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
     /**
-     * Search service listings by keyword.
+     * Find listings whose service area covers a location.
+     * Served from the in-memory spatial grid; only the listings registered in the
+     * location's grid cell are distance-checked. Distance is one of the ranking signals.
      */
     @Override
     @Transactional(readOnly = true)
+    public List<ServiceListingResponse> getListingsReaching(Integer pincode, Double latitude, Double longitude, int limit) {
+        GeoPoint point;
+        if (latitude != null && longitude != null) {
+            validateCoordinates(latitude, longitude);
+            point = new GeoPoint(latitude, longitude);
+        } else if (pincode != null) {
+            point = pincodeDirectory.locate(pincode)
+                    .orElseThrow(() -> new IllegalArgumentException("No location data for pincode: " + pincode));
+        } else {
+            throw new IllegalArgumentException("Either pincode or latitude and longitude must be provided");
+        }
+
+        log.info("Fetching listings reaching {}, {}", point.getLatitude(), point.getLongitude());
+
+        List<ServiceAreaIndex.Match> matches = serviceAreaIndex.findReaching(point, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
+        Map<Long, Double> distances = matches.stream()
+                .collect(Collectors.toMap(ServiceAreaIndex.Match::getListingId, ServiceAreaIndex.Match::getDistanceKm));
+
+        List<ServiceListing> listings = findAllInOrder(matches.stream()
+                .map(ServiceAreaIndex.Match::getListingId)
+                .collect(Collectors.toList()));
+
+        return ranker.rank(listings.stream()
+                .map(listing -> {
+                    ServiceListingResponse response = listingMapper.toResponse(listing);
+                    response.setDistanceKm(Math.round(distances.get(listing.getId()) * 10.0) / 10.0);
+                    return response;
+                })
+                .collect(Collectors.toList()), false);
+    }
+
+    /**
+     * Search service listings by keyword.
+     * The backend is chosen by search.mode: in-memory inverted index (default),
+     * MySQL FULLTEXT relevance search, or the legacy LIKE scan.
+     * Text relevance is combined with the other ranking signals by ListingRanker.
+     * Results are cached per normalized keyword; a cache hit needs no transaction.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ServiceListingResponse> searchListings(String keyword) {
-        log.info("Searching listings with keyword: {}", keyword);
+        String key = SearchResultCache.key(keyword, searchConfig.getMode() != SearchConfig.Mode.LIKE);
+        List<ServiceListingResponse> cached = searchCache.getListings(key);
+        if (cached != null) {
+            return cached;
+        }
 
-        List<ServiceListing> listings = listingRepository.searchByKeyword(keyword);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        List<ServiceListingResponse> results = readOnly.execute(status -> runListingSearch(keyword));
+        return searchCache.putListings(key, keyword, results);
+    }
 
-        return listings.stream()
+    private List<ServiceListingResponse> runListingSearch(String keyword) {
+        log.info("Searching listings with keyword: {} (mode: {})", keyword, searchConfig.getMode());
+
+        List<ServiceListing> listings = switch (searchConfig.getMode()) {
+            case INDEX -> findAllInOrder(searchIndex.search(keyword, searchConfig.getMaxResults()));
+            case FULLTEXT -> fullTextSearch(keyword);
+            case LIKE -> listingRepository.searchByKeyword(keyword);
+        };
+
+        if (listings.size() < searchConfig.getFuzzyMinResults()) {
+            listings = appendFuzzyMatches(keyword, listings);
+        }
+
+        return ranker.rank(listings.stream()
                 .map(listingMapper::toResponse)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()), true);
     }
 
     /**
-     * Get all active service listings.
-     * Used for browse services page to show all available services.
+     * Get the newest active service listings, capped at ALL_LISTINGS_CAP, ranked by ListingRanker.
+     * Read newest first through the (active, created_at, id) index.
      */
     @Override
     @Transactional(readOnly = true)
     public List<ServiceListingResponse> getAllActiveListings() {
-        log.info("Fetching all active listings");
+        log.info("Fetching up to {} active listings", ALL_LISTINGS_CAP);
 
-        List<ServiceListing> listings = listingRepository.findByActive(true);
+        List<ServiceListing> listings = listingRepository.findByActive(true, PageRequest.of(0, ALL_LISTINGS_CAP,
+                Sort.by(Sort.Direction.DESC, "createdAt", "id")));
 
-        return listings.stream()
+        return ranker.rank(listings.stream()
+                .map(listingMapper::toResponse)
+                .collect(Collectors.toList()), false);
+    }
+
+    /**
+     * Browse active listings with keyset pagination.
+     * Fetches one row more than requested to know whether another page exists.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ServiceListingResponse> browseListings(ListingSort sort, String after, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        log.info("Browsing listings sorted by {} after cursor {} (limit {})", sort, after, pageSize);
+
+        ListingCursor cursor = after != null && !after.isBlank() ? ListingCursor.decode(after, sort) : null;
+        Pageable page = PageRequest.of(0, pageSize + 1);
+
+        List<ServiceListing> listings = switch (sort) {
+            case NEWEST -> cursor == null
+                    ? listingRepository.findActiveNewest(page)
+                    : listingRepository.findActiveNewestAfter(cursor.dateTimeValue(), cursor.getId(), page);
+            case PRICE_ASC -> cursor == null
+                    ? listingRepository.findActiveByPriceAsc(page)
+                    : listingRepository.findActiveByPriceAscAfter(cursor.doubleValue(), cursor.getId(), page);
+            case PRICE_DESC -> cursor == null
+                    ? listingRepository.findActiveByPriceDesc(page)
+                    : listingRepository.findActiveByPriceDescAfter(cursor.doubleValue(), cursor.getId(), page);
+            case RATING -> cursor == null
+                    ? listingRepository.findActiveByRating(page)
+                    : cursor.hasNullValue()
+                    ? listingRepository.findActiveByRatingAfterNull(cursor.getId(), page)
+                    : listingRepository.findActiveByRatingAfter(cursor.doubleValue(), cursor.getId(), page);
+            case POPULARITY -> cursor == null
+                    ? listingRepository.findActiveByPopularity(page)
+                    : cursor.hasNullValue()
+                    ? listingRepository.findActiveByPopularityAfterNull(cursor.getId(), page)
+                    : listingRepository.findActiveByPopularityAfter(cursor.intValue(), cursor.getId(), page);
+        };
+
+        boolean hasMore = listings.size() > pageSize;
+        if (hasMore) {
+            listings = listings.subList(0, pageSize);
+        }
+        String nextCursor = hasMore
+                ? ListingCursor.after(sort, listings.get(listings.size() - 1)).encode()
+                : null;
+
+        return CursorPageResponse.<ServiceListingResponse>builder()
+                .items(listings.stream()
+                        .map(listingMapper::toResponse)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .limit(pageSize)
+                .sort(sort.name())
+                .build();
+    }
+
+    /**
+     * Faceted browse served from the in-memory facet index.
+     * Only the listings on the requested page are loaded from the database.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public FacetedListingResponse getFacetedListings(ListingFacetIndex.Filter filter, int page, int size) {
+        validatePriceRange(filter.getMinPrice(), filter.getMaxPrice());
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        log.info("Fetching faceted listings for {} (page {}, size {})", filter, pageNumber, pageSize);
+
+        ListingFacetIndex.Result result = facetIndex.search(filter, pageNumber, pageSize);
+
+        return FacetedListingResponse.builder()
+                .items(findAllInOrder(result.getListingIds()).stream()
+                        .map(listingMapper::toResponse)
+                        .collect(Collectors.toList()))
+                .total(result.getTotal())
+                .page(pageNumber)
+                .size(pageSize)
+                .cities(result.getCities())
+                .categories(result.getCategories())
+                .pincodes(result.getPincodes())
+                .priceBands(result.getPriceBands())
+                .ratings(result.getRatings())
+                .build();
+    }
+
+    /**
+     * Listing IDs come from the in-memory price index; one query loads the page.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ServiceListingResponse> getListingsByPriceRange(String city, Long categoryId, Double minPrice,
+                                                                Double maxPrice, int page, int size) {
+        validatePriceRange(minPrice, maxPrice);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        log.info("Fetching listings priced {} - {} in city {} category {}", minPrice, maxPrice, city, categoryId);
+
+        List<Long> ids = priceIndex.range(city, categoryId, minPrice, maxPrice, (long) Math.max(page, 0) * pageSize, pageSize);
+
+        return findAllInOrder(ids).stream()
                 .map(listingMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Served from the in-memory price index; no transaction or connection is needed.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ListingPriceIndex.Histogram getPriceHistogram(String city, Long categoryId, Double minPrice,
+                                                         Double maxPrice, int bins) {
+        validatePriceRange(minPrice, maxPrice);
+        return priceIndex.histogram(city, categoryId, minPrice, maxPrice, Math.min(Math.max(bins, 1), MAX_HISTOGRAM_BINS));
+    }
+
+    /**
+     * Served from the in-memory suggestion trie; no transaction or connection is needed.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ListingSuggester.Suggestion> suggest(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return suggester.suggest(query, Math.min(Math.max(limit, 1), MAX_SUGGESTIONS));
+    }
+
+    /**
+     * Served from the in-memory listing dictionary, maintained from listing writes.
+     */
+    @Override
+    public List<String> getAvailableCities() {
+        return listingValues.cities();
+    }
+
+    @Override
+    public List<String> getAvailableServiceTypes() {
+        return listingValues.serviceTypes();
+    }
+
+    @Override
+    public List<Integer> getAvailablePincodes() {
+        return listingValues.pincodes();
+    }
+
     /**
      * Get featured service listings only.
      */
@@ -227,30 +516,33 @@ public class ServiceListingServiceImpl implements ServiceListingService {
 
     /**
      * Get top-rated service listings in a city.
+     * Read from the in-memory rating leaderboard; only the returned listings are loaded.
      */
     @Override
     @Transactional(readOnly = true)
-    public List<ServiceListingResponse> getTopRatedListings(String city, Double minRating) {
-        log.info("Fetching top-rated listings in city: {} with min rating: {}", city, minRating);
+    public List<ServiceListingResponse> getTopRatedListings(String city, Long categoryId, Double minRating, int limit) {
+        log.info("Fetching top-rated listings in city: {} (category {}) with min rating: {}", city, categoryId, minRating);
 
-        List<ServiceListing> listings = listingRepository.findTopRatedInCity(city, minRating);
+        List<Long> ids = leaderboards.topRated(city, categoryId, minRating != null ? minRating : 0.0,
+                Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
 
-        return listings.stream()
+        return findAllInOrder(ids).stream()
                 .map(listingMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
     /**
      * Get popular service listings in a city.
+     * Read from the in-memory booking leaderboard; only the returned listings are loaded.
      */
     @Override
     @Transactional(readOnly = true)
-    public List<ServiceListingResponse> getPopularListings(String city) {
-        log.info("Fetching popular listings in city: {}", city);
+    public List<ServiceListingResponse> getPopularListings(String city, Long categoryId, int limit) {
+        log.info("Fetching popular listings in city: {} (category {})", city, categoryId);
 
-        List<ServiceListing> listings = listingRepository.findPopularInCity(city);
+        List<Long> ids = leaderboards.popular(city, categoryId, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
 
-        return listings.stream()
+        return findAllInOrder(ids).stream()
                 .map(listingMapper::toResponse)
                 .collect(Collectors.toList());
     }
@@ -261,6 +553,7 @@ public class ServiceListingServiceImpl implements ServiceListingService {
     @Override
     public ServiceListingResponse updateListing(Long id, CreateServiceListingRequest request, Long providerId) {
         log.info("Updating service listing ID: {} by provider ID: {}", id, providerId);
+        validateServiceRadius(request.getServiceRadiusKm());
 
         // Find existing listing
         ServiceListing listing = listingRepository.findById(id)
@@ -299,6 +592,7 @@ public class ServiceListingServiceImpl implements ServiceListingService {
         // Save updated listing
         ServiceListing updatedListing = listingRepository.save(listing);
         log.info("Successfully updated service listing with ID: {}", id);
+        publishChange(updatedListing);
 
         return listingMapper.toResponse(updatedListing);
     }
@@ -325,6 +619,7 @@ public class ServiceListingServiceImpl implements ServiceListingService {
 
         // Hard delete - permanently remove from database
         listingRepository.deleteById(id);
+        eventPublisher.publishEvent(ListingChangedEvent.removed(id));
 
         // Note: Soft delete option (commented out for reference):
         // listing.setActive(false);
@@ -351,20 +646,18 @@ public class ServiceListingServiceImpl implements ServiceListingService {
         // Toggle status
         listing.setActive(!listing.getActive());
         ServiceListing updatedListing = listingRepository.save(listing);
+        publishChange(updatedListing);
 
         log.info("Successfully toggled status for listing ID: {} to {}", id, updatedListing.getActive());
         return listingMapper.toResponse(updatedListing);
     }
 
     /**
-     * Increment view count for a listing.
+     * Increment view count for a listing through the write-behind view buffer.
      */
     @Override
     public void incrementViewCount(Long id) {
-        listingRepository.findById(id).ifPresent(listing -> {
-            listing.incrementViewCount();
-            listingRepository.save(listing);
-        });
+        viewCountService.recordView(id);
     }
 
     /**
@@ -379,8 +672,115 @@ public class ServiceListingServiceImpl implements ServiceListingService {
 
         listing.updateRating(newRating);
         listingRepository.save(listing);
+        publishChange(listing);
 
         log.info("Successfully updated rating for listing ID: {}", id);
     }
-}
 
+    /**
+     * Run a MATCH ... AGAINST search in the configured full-text mode.
+     */
+    private List<ServiceListing> fullTextSearch(String keyword) {
+        List<Long> ids;
+        if (searchConfig.getFullTextMode() == SearchConfig.FullTextMode.BOOLEAN) {
+            String query = TextAnalyzer.toBooleanModeQuery(keyword);
+            ids = query.isEmpty()
+                    ? List.of()
+                    : listingRepository.fullTextSearchBoolean(query, searchConfig.getMaxResults());
+        } else {
+            ids = keyword == null || keyword.isBlank()
+                    ? List.of()
+                    : listingRepository.fullTextSearch(keyword, searchConfig.getMaxResults());
+        }
+        return findAllInOrder(ids);
+    }
+
+    /**
+     * Append typo-tolerant matches that the exact search missed, up to search.max-results.
+     */
+    private List<ServiceListing> appendFuzzyMatches(String keyword, List<ServiceListing> exact) {
+        Set<Long> seen = exact.stream().map(ServiceListing::getId).collect(Collectors.toSet());
+        List<Long> extraIds = fuzzyIndex.search(keyword, searchConfig.getFuzzyMaxEdits(), searchConfig.getMaxResults())
+                .stream()
+                .filter(id -> !seen.contains(id))
+                .limit(Math.max(searchConfig.getMaxResults() - exact.size(), 0))
+                .toList();
+        if (extraIds.isEmpty()) {
+            return exact;
+        }
+
+        log.info("Adding {} fuzzy matches for keyword: {}", extraIds.size(), keyword);
+        List<ServiceListing> combined = new ArrayList<>(exact);
+        combined.addAll(findAllInOrder(extraIds));
+        return combined;
+    }
+
+    /**
+     * Load listings by ID and return them in the order of the given IDs.
+     * IDs that no longer exist or are inactive are skipped.
+     */
+    private List<ServiceListing> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ServiceListing> byId = listingRepository.findAllWithDetailsByIdIn(ids).stream()
+                .collect(Collectors.toMap(ServiceListing::getId, Function.identity()));
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .filter(ServiceListing::getActive)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Load and map one listing inside a read-only transaction.
+     */
+    private ServiceListingResponse loadListingDetail(Long id) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        return readOnly.execute(status -> listingRepository.findWithDetailsById(id)
+                .map(listingMapper::toResponse)
+                .orElseThrow(() -> {
+                    log.error("Service listing not found with ID: {}", id);
+                    return new IllegalArgumentException("Service listing not found with ID: " + id);
+                }));
+    }
+
+    private void validateServiceRadius(Integer serviceRadiusKm) {
+        if (serviceRadiusKm != null && (serviceRadiusKm < 1 || serviceRadiusKm > geoConfig.getMaxServiceRadiusKm())) {
+            throw new IllegalArgumentException(
+                    "Service radius must be between 1 and " + geoConfig.getMaxServiceRadiusKm() + " km");
+        }
+    }
+
+    private static void validateCoordinates(double latitude, double longitude) {
+        // Negated comparisons also reject NaN
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("Latitude must be within [-90, 90] and longitude within [-180, 180]");
+        }
+    }
+
+    private static void validatePriceRange(Double minPrice, Double maxPrice) {
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new IllegalArgumentException("minPrice must not be greater than maxPrice");
+        }
+    }
+
+    /**
+     * Build a page request with a non-negative page number and a size capped at MAX_PAGE_SIZE.
+     */
+    private static Pageable pageRequest(int page, int size) {
+        return PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Notify the in-memory indexes that a listing changed.
+     * Delivered after the surrounding transaction commits.
+     */
+    private void publishChange(ServiceListing listing) {
+        eventPublisher.publishEvent(ListingChangedEvent.upserted(ListingDocument.from(listing)));
+    }
+}
@@ -0,0 +1,368 @@
+package Team.C.Service.Spot.service.impl;
+
+import Team.C.Service.Spot.cache.UserChangedEvent;
+import Team.C.Service.Spot.config.UserDeletionConfig;
+import Team.C.Service.Spot.dto.response.UserDeletionStatus;
+import Team.C.Service.Spot.model.User;
+import Team.C.Service.Spot.model.UserDeletionJob;
+import Team.C.Service.Spot.model.enums.DeletionJobState;
+import Team.C.Service.Spot.repository.BookingRepository;
+import Team.C.Service.Spot.repository.ReviewRepository;
+import Team.C.Service.Spot.repository.ServiceListingRepository;
+import Team.C.Service.Spot.repository.SpecificAvailabilityRepository;
+import Team.C.Service.Spot.repository.UserDeletionJobRepository;
+import Team.C.Service.Spot.repository.UserRepository;
+import Team.C.Service.Spot.search.ListingChangedEvent;
+import Team.C.Service.Spot.search.ProviderChangedEvent;
+import Team.C.Service.Spot.service.UserDeletionService;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Implementation of UserDeletionService.
+ *
+ * <p>Related rows are removed with set-based DELETE statements limited to
+ * {@code user-deletion.chunk-size} rows, each chunk in its own short
+ * transaction, in foreign key order: reviews, bookings, the listings with
+ * their bookings and availability, the remaining availability, then the user.
+ * Each statement filters on one indexed column (or on primary keys read
+ * through one), so it only scans and locks the rows it deletes. A provider
+ * with many listings is removed with a handful of statements per table
+ * instead of one DELETE per entity, and no transaction holds its row locks
+ * for longer than one chunk.</p>
+ *
+ * <p>Jobs are stored in user_deletion_jobs and refresh a heartbeat with every
+ * chunk. A job left unfinished by a restart, a crash or a rejected task stops
+ * heartbeating and is claimed and resumed by the periodic scan on any node.
+ * Every step is idempotent, so resuming continues where the rows left off;
+ * a failed job is restarted by deleting the user again. Progress is only
+ * saved while the heartbeat is still the one the worker wrote, so a worker
+ * whose job was reclaimed stops at its next chunk instead of overwriting
+ * the new worker's counts.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserDeletionServiceImpl implements UserDeletionService {
+
+    private static final Set<DeletionJobState> UNFINISHED = EnumSet.of(DeletionJobState.QUEUED, DeletionJobState.RUNNING);
+
+    private static final String REVIEWS = "reviews";
+    private static final String BOOKINGS = "bookings";
+    private static final String AVAILABILITY = "availability";
+    private static final String LISTINGS = "listings";
+    private static final String USER = "user";
+
+    private final UserRepository userRepository;
+    private final ReviewRepository reviewRepository;
+    private final BookingRepository bookingRepository;
+    private final SpecificAvailabilityRepository availabilityRepository;
+    private final ServiceListingRepository listingRepository;
+    private final UserDeletionJobRepository jobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final UserDeletionConfig config;
+
+    /**
+     * Deactivates the account, and a provider's listings, and records the job
+     * in the caller's transaction, so the user can no longer sign in or appear
+     * in the provider directory and the listings leave search and booking
+     * before the first chunk is deleted; the job starts once that commits.
+     */
+    @Override
+    @Transactional
+    public UserDeletionStatus deleteUser(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> {
+                    log.error("User not found with ID: {}", userId);
+                    return new IllegalArgumentException("User not found with ID: " + userId);
+                });
+
+        UserDeletionJob running = jobRepository.findFirstByUserIdAndStateIn(userId, UNFINISHED).orElse(null);
+        if (running != null) {
+            log.info("Deletion of user {} already running as job {}", userId, running.getId());
+            return toStatus(running);
+        }
+
+        LocalDateTime now = heartbeat();
+        UserDeletionJob job = jobRepository.save(UserDeletionJob.builder()
+                .id(UUID.randomUUID().toString())
+                .userId(userId)
+                .state(DeletionJobState.QUEUED)
+                .createdAt(now)
+                .heartbeatAt(now)
+                .build());
+
+        log.info("Deleting user: {} ({}), Role: {} as job {}", user.getName(), user.getEmail(), user.getRole(), job.getId());
+
+        user.setActive(false);
+        userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
+        if (user.isProvider()) {
+            List<Long> listingIds = listingRepository.findActiveIdsByProviderId(userId);
+            listingRepository.deactivateByProviderId(userId);
+            listingIds.forEach(id -> eventPublisher.publishEvent(ListingChangedEvent.removed(id)));
+            eventPublisher.publishEvent(ProviderChangedEvent.removed(userId));
+        }
+        eventPublisher.publishEvent(new DeletionRequested(job.getId(), false));
+
+        return toStatus(job);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserDeletionStatus getStatus(String jobId) {
+        return jobRepository.findById(jobId)
+                .map(this::toStatus)
+                .orElseThrow(() -> new IllegalArgumentException("Deletion job not found: " + jobId));
+    }
+
+    /**
+     * Run a deletion job off the request thread once its row has committed.
+     * A new job only starts if it is still queued, so it never runs twice when
+     * the resume scan got to it first.
+     *
+     * @param event the job to run
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeletionRequested(DeletionRequested event) {
+        if (!event.isClaimed()) {
+            Integer started = writeTransaction().execute(status -> jobRepository.start(
+                    event.getJobId(), DeletionJobState.QUEUED, DeletionJobState.RUNNING, heartbeat()));
+            if (started == null || started == 0) {
+                return;
+            }
+        }
+        jobRepository.findById(event.getJobId()).ifPresent(this::run);
+    }
+
+    /**
+     * Resume jobs whose worker went away, and drop finished jobs past their retention.
+     */
+    @Scheduled(fixedDelayString = "${user-deletion.resume-interval-ms:60000}")
+    public void resumeAbandonedJobs() {
+        LocalDateTime now = heartbeat();
+        writeTransaction().executeWithoutResult(status ->
+                jobRepository.deleteFinishedBefore(now.minusMinutes(config.getStatusRetentionMinutes())));
+
+        LocalDateTime staleBefore = now.minusSeconds(config.getStaleAfterSeconds());
+        for (String jobId : jobRepository.findStaleIds(UNFINISHED, staleBefore)) {
+            Integer claimed = writeTransaction().execute(status ->
+                    jobRepository.claim(jobId, UNFINISHED, DeletionJobState.RUNNING, staleBefore, now));
+            if (claimed != null && claimed > 0) {
+                log.warn("Resuming abandoned user deletion job {}", jobId);
+                eventPublisher.publishEvent(new DeletionRequested(jobId, true));
+            }
+        }
+    }
+
+    private void run(UserDeletionJob job) {
+        Long userId = job.getUserId();
+        int chunkSize = Math.max(config.getChunkSize(), 1);
+        log.info("=== STARTING USER DELETION: ID {} (job {}) ===", userId, job.getId());
+
+        try {
+            deleteInChunks(job, REVIEWS, limit -> reviewRepository.deleteChunkByCustomerId(userId, limit), chunkSize);
+            deleteInChunks(job, REVIEWS, limit -> reviewRepository.deleteChunkByProviderId(userId, limit), chunkSize);
+            deleteInChunks(job, BOOKINGS, limit -> deleteBookings(job,
+                    bookingRepository.findIdsByCustomerId(userId, PageRequest.of(0, limit))), chunkSize);
+            deleteInChunks(job, BOOKINGS, limit -> deleteBookings(job,
+                    bookingRepository.findIdsByProviderId(userId, PageRequest.of(0, limit))), chunkSize);
+            deleteListings(job, userId, chunkSize);
+            deleteInChunks(job, AVAILABILITY,
+                    limit -> availabilityRepository.deleteChunkByProviderId(userId, limit), chunkSize);
+            deleteInChunks(job, USER, limit -> deleteUserRow(userId), chunkSize);
+
+            finish(job, null);
+            log.info("✅ Successfully permanently deleted user {} (job {}): {}", userId, job.getId(), deletedCounts(job));
+        } catch (JobLostException e) {
+            log.warn("User deletion job {} was reclaimed by another worker, stopping at {}", job.getId(), job.getStage());
+        } catch (RuntimeException e) {
+            log.error("User deletion job {} failed at {}: {}", job.getId(), job.getStage(), e.getMessage(), e);
+            try {
+                finish(job, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+            } catch (JobLostException lost) {
+                log.warn("User deletion job {} was reclaimed by another worker before its failure was saved", job.getId());
+            }
+        }
+    }
+
+    /**
+     * Repeat a chunked delete, one transaction per chunk, until a chunk comes back short.
+     * Every statement filters on a single indexed column, so a chunk only scans
+     * (and locks) the rows it deletes. The job's counts and heartbeat are saved
+     * in the chunk's transaction.
+     */
+    private void deleteInChunks(UserDeletionJob job, String stage, IntUnaryOperator chunk, int chunkSize) {
+        job.setStage(stage);
+        int deleted;
+        do {
+            deleted = writeTransaction().execute(status -> {
+                int rows = chunk.applyAsInt(chunkSize);
+                addDeleted(job, stage, rows);
+                saveProgress(job);
+                return rows;
+            });
+        } while (deleted >= chunkSize);
+    }
+
+    /**
+     * Delete one chunk of bookings by primary key, after the reviews attached to them.
+     *
+     * @return number of bookings deleted
+     */
+    private int deleteBookings(UserDeletionJob job, List<Long> bookingIds) {
+        if (bookingIds.isEmpty()) {
+            return 0;
+        }
+        addDeleted(job, REVIEWS, reviewRepository.deleteByBookingIdIn(bookingIds));
+        bookingRepository.deleteAllByIdInBatch(bookingIds);
+        return bookingIds.size();
+    }
+
+    /**
+     * Delete the provider's listings a chunk of IDs at a time: first the bookings
+     * and availability on those listings, then the listings themselves, which
+     * are also taken out of the search indexes.
+     */
+    private void deleteListings(UserDeletionJob job, Long providerId, int chunkSize) {
+        List<Long> listingIds;
+        while (!(listingIds = listingRepository.findIdsByProviderId(providerId, PageRequest.of(0, chunkSize))).isEmpty()) {
+            List<Long> ids = listingIds;
+            deleteInChunks(job, BOOKINGS, limit -> deleteBookings(job,
+                    bookingRepository.findIdsByServiceListingIdIn(ids, PageRequest.of(0, limit))), chunkSize);
+            deleteInChunks(job, AVAILABILITY,
+                    limit -> availabilityRepository.deleteChunkByServiceListingIdIn(ids, limit), chunkSize);
+
+            job.setStage(LISTINGS);
+            writeTransaction().executeWithoutResult(status -> {
+                listingRepository.deleteAllByIdInBatch(ids);
+                ids.forEach(id -> eventPublisher.publishEvent(ListingChangedEvent.removed(id)));
+                addDeleted(job, LISTINGS, ids.size());
+                saveProgress(job);
+            });
+        }
+    }
+
+    private int deleteUserRow(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            return 0;
+        }
+        userRepository.deleteAllByIdInBatch(List.of(userId));
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
+        return 1;
+    }
+
+    /**
+     * Save the job's counts and move its heartbeat forward, in the caller's transaction.
+     *
+     * @throws JobLostException if another worker reclaimed the job; the transaction rolls back
+     */
+    private void saveProgress(UserDeletionJob job) {
+        LocalDateTime now = heartbeat();
+        if (jobRepository.renew(job.getId(), DeletionJobState.RUNNING, job.getHeartbeatAt(), now) == 0) {
+            throw new JobLostException(job.getId());
+        }
+        job.setHeartbeatAt(now);
+        jobRepository.save(job);
+    }
+
+    private void finish(UserDeletionJob job, String error) {
+        job.setState(error == null ? DeletionJobState.COMPLETED : DeletionJobState.FAILED);
+        job.setError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+        job.setFinishedAt(LocalDateTime.now());
+        writeTransaction().executeWithoutResult(status -> saveProgress(job));
+    }
+
+    /**
+     * Heartbeats are compared for equality, so keep them at a precision the column stores exactly.
+     */
+    private static LocalDateTime heartbeat() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    private TransactionTemplate writeTransaction() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    private static void addDeleted(UserDeletionJob job, String stage, long rows) {
+        switch (stage) {
+            case REVIEWS -> job.setReviewsDeleted(job.getReviewsDeleted() + rows);
+            case BOOKINGS -> job.setBookingsDeleted(job.getBookingsDeleted() + rows);
+            case AVAILABILITY -> job.setAvailabilityDeleted(job.getAvailabilityDeleted() + rows);
+            case LISTINGS -> job.setListingsDeleted(job.getListingsDeleted() + rows);
+            default -> {
+                // the user row itself is not counted
+            }
+        }
+    }
+
+    private static Map<String, Long> deletedCounts(UserDeletionJob job) {
+        Map<String, Long> deleted = new LinkedHashMap<>();
+        deleted.put(REVIEWS, job.getReviewsDeleted());
+        deleted.put(BOOKINGS, job.getBookingsDeleted());
+        deleted.put(AVAILABILITY, job.getAvailabilityDeleted());
+        deleted.put(LISTINGS, job.getListingsDeleted());
+        return deleted;
+    }
+
+    private UserDeletionStatus toStatus(UserDeletionJob job) {
+        return UserDeletionStatus.builder()
+                .jobId(job.getId())
+                .userId(job.getUserId())
+                .state(job.getState())
+                .stage(job.getStage())
+                .deleted(deletedCounts(job))
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .error(job.getError())
+                .build();
+    }
+
+    /**
+     * Thrown when a worker finds that its job was reclaimed by another worker.
+     */
+    private static class JobLostException extends IllegalStateException {
+        JobLostException(String jobId) {
+            super("Deletion job " + jobId + " was reclaimed by another worker");
+        }
+    }
+
+    /**
+     * Published when a deletion job should run; delivered after commit.
+     */
+    @Value
+    public static class DeletionRequested {
+        String jobId;
+
+        /**
+         * True when the publisher already claimed the job (a resumed job)
+         */
+        boolean claimed;
+    }
+}
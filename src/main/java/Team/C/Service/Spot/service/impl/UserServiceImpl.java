@@ -1,5 +1,9 @@
 package Team.C.Service.Spot.service.impl;
 
+import Team.C.Service.Spot.cache.SearchResultCache;
+import Team.C.Service.Spot.cache.UserChangedEvent;
+import Team.C.Service.Spot.cache.UserProfileCache;
+import Team.C.Service.Spot.config.SearchConfig;
 import Team.C.Service.Spot.dto.request.AdminRegistrationRequest;
 import Team.C.Service.Spot.dto.request.CustomerRegistrationRequest;
 import Team.C.Service.Spot.dto.request.LoginRequest;
@@ -10,18 +14,28 @@ import Team.C.Service.Spot.mapper.UserMapper;
 import Team.C.Service.Spot.model.User;
 import Team.C.Service.Spot.model.enums.Role;
 import Team.C.Service.Spot.repository.UserRepository;
-import Team.C.Service.Spot.repository.ServiceListingRepository;
-import Team.C.Service.Spot.repository.BookingRepository;
-import Team.C.Service.Spot.repository.SpecificAvailabilityRepository;
-import Team.C.Service.Spot.repository.ReviewRepository;
+import Team.C.Service.Spot.security.PasswordHasher;
+import Team.C.Service.Spot.search.ProviderChangedEvent;
+import Team.C.Service.Spot.search.ProviderDocument;
+import Team.C.Service.Spot.search.ProviderFuzzyIndex;
+import Team.C.Service.Spot.search.TextAnalyzer;
+import Team.C.Service.Spot.service.ProviderDirectoryService;
 import Team.C.Service.Spot.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -40,55 +54,64 @@ import java.util.stream.Collectors;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final ServiceListingRepository serviceListingRepository;
-    private final BookingRepository bookingRepository;
-    private final SpecificAvailabilityRepository specificAvailabilityRepository;
-    private final ReviewRepository reviewRepository;
     private final UserMapper userMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchConfig searchConfig;
+    private final ProviderDirectoryService providerDirectoryService;
+    private final ProviderFuzzyIndex providerFuzzyIndex;
+    private final SearchResultCache searchCache;
+    private final UserProfileCache profileCache;
+    private final PlatformTransactionManager transactionManager;
 
     /**
      * Register a new admin.
      * Validates email uniqueness, encodes password, and persists the admin user.
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse registerAdmin(AdminRegistrationRequest request) {
         log.info("Registering new admin with email: {}", request.getEmail());
 
-        // Validate email uniqueness
-        if (emailExists(request.getEmail())) {
-            log.error("Email already exists: {}", request.getEmail());
-            throw new IllegalArgumentException("Email already exists: " + request.getEmail());
-        }
+        // Hash before touching the database so no connection is held while waiting on the hashing executor
+        String passwordHash = passwordHasher.encode(request.getPassword());
 
-        // Validate phone uniqueness
-        if (phoneExists(request.getPhone())) {
-            log.error("Phone number already exists: {}", request.getPhone());
-            throw new IllegalArgumentException("Phone number already exists: " + request.getPhone());
-        }
+        return writeTransaction().execute(status -> {
+            // Validate email uniqueness
+            if (emailExists(request.getEmail())) {
+                log.error("Email already exists: {}", request.getEmail());
+                throw new IllegalArgumentException("Email already exists: " + request.getEmail());
+            }
 
-        // Build Admin User entity
-        User admin = User.builder()
-                .name(request.getName())
-                .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .phone(request.getPhone())
-                .doorNo(request.getDoorNo())
-                .addressLine(request.getAddressLine())
-                .city(request.getCity())
-                .state(request.getState())
-                .pincode(request.getPincode())
-                .role(Role.ADMIN)
-                .active(true)
-                .verified(true) // Admins are verified by default
-                .build();
-
-        // Save to database
-        User savedAdmin = userRepository.save(admin);
-        log.info("Successfully registered admin with ID: {}", savedAdmin.getId());
-
-        // Convert to Response DTO
-        return userMapper.toResponse(savedAdmin);
+            // Validate phone uniqueness
+            if (phoneExists(request.getPhone())) {
+                log.error("Phone number already exists: {}", request.getPhone());
+                throw new IllegalArgumentException("Phone number already exists: " + request.getPhone());
+            }
+
+            // Build Admin User entity
+            User admin = User.builder()
+                    .name(request.getName())
+                    .email(request.getEmail())
+                    .password(passwordHash)
+                    .phone(request.getPhone())
+                    .doorNo(request.getDoorNo())
+                    .addressLine(request.getAddressLine())
+                    .city(request.getCity())
+                    .state(request.getState())
+                    .pincode(request.getPincode())
+                    .role(Role.ADMIN)
+                    .active(true)
+                    .verified(true) // Admins are verified by default
+                    .build();
+
+            // Save to database
+            User savedAdmin = userRepository.save(admin);
+            log.info("Successfully registered admin with ID: {}", savedAdmin.getId());
+
+            // Convert to Response DTO
+            return userMapper.toResponse(savedAdmin);
+        });
     }
 
     /**
@@ -96,33 +119,39 @@ public class UserServiceImpl implements UserService {
      * Validates email uniqueness, encodes password, and persists the user.
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse registerCustomer(CustomerRegistrationRequest request) {
         log.info("Registering new customer with email: {}", request.getEmail());
 
-        // Validate email uniqueness
-        if (emailExists(request.getEmail())) {
-            log.error("Email already exists: {}", request.getEmail());
-            throw new IllegalArgumentException("Email already exists: " + request.getEmail());
-        }
+        // Hash before touching the database so no connection is held while waiting on the hashing executor
+        String passwordHash = passwordHasher.encode(request.getPassword());
 
-        // Validate phone uniqueness
-        if (phoneExists(request.getPhone())) {
-            log.error("Phone number already exists: {}", request.getPhone());
-            throw new IllegalArgumentException("Phone number already exists: " + request.getPhone());
-        }
+        return writeTransaction().execute(status -> {
+            // Validate email uniqueness
+            if (emailExists(request.getEmail())) {
+                log.error("Email already exists: {}", request.getEmail());
+                throw new IllegalArgumentException("Email already exists: " + request.getEmail());
+            }
+
+            // Validate phone uniqueness
+            if (phoneExists(request.getPhone())) {
+                log.error("Phone number already exists: {}", request.getPhone());
+                throw new IllegalArgumentException("Phone number already exists: " + request.getPhone());
+            }
 
-        // Convert DTO to Entity
-        User user = userMapper.toEntity(request);
+            // Convert DTO to Entity
+            User user = userMapper.toEntity(request);
 
-        // Encode password
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+            // Store the password hash computed above
+            user.setPassword(passwordHash);
 
-        // Save to database
-        User savedUser = userRepository.save(user);
-        log.info("Successfully registered customer with ID: {}", savedUser.getId());
+            // Save to database
+            User savedUser = userRepository.save(user);
+            log.info("Successfully registered customer with ID: {}", savedUser.getId());
 
-        // Convert to Response DTO
-        return userMapper.toResponse(savedUser);
+            // Convert to Response DTO
+            return userMapper.toResponse(savedUser);
+        });
     }
 
     /**
@@ -131,46 +160,55 @@ public class UserServiceImpl implements UserService {
      * Automatically creates a default service listing for the provider.
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse registerProvider(ProviderRegistrationRequest request) {
         log.info("Registering new provider with email: {}", request.getEmail());
 
-        // Validate email uniqueness
-        if (emailExists(request.getEmail())) {
-            log.error("Email already exists: {}", request.getEmail());
-            throw new IllegalArgumentException("Email already exists: " + request.getEmail());
-        }
+        // Hash before touching the database so no connection is held while waiting on the hashing executor
+        String passwordHash = passwordHasher.encode(request.getPassword());
 
-        // Validate phone uniqueness
-        if (phoneExists(request.getPhone())) {
-            log.error("Phone number already exists: {}", request.getPhone());
-            throw new IllegalArgumentException("Phone number already exists: " + request.getPhone());
-        }
+        return writeTransaction().execute(status -> {
+            // Validate email uniqueness
+            if (emailExists(request.getEmail())) {
+                log.error("Email already exists: {}", request.getEmail());
+                throw new IllegalArgumentException("Email already exists: " + request.getEmail());
+            }
 
-        // Convert DTO to Entity
-        User user = userMapper.toEntity(request);
+            // Validate phone uniqueness
+            if (phoneExists(request.getPhone())) {
+                log.error("Phone number already exists: {}", request.getPhone());
+                throw new IllegalArgumentException("Phone number already exists: " + request.getPhone());
+            }
 
-        // Encode password
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+            // Convert DTO to Entity
+            User user = userMapper.toEntity(request);
 
-        // Save to database
-        User savedUser = userRepository.save(user);
-        log.info("Successfully registered provider with ID: {} with service type: {}", savedUser.getId(), savedUser.getServiceType());
+            // Store the password hash computed above
+            user.setPassword(passwordHash);
 
-        // TODO: Auto-create default service listing for the provider
-        // This would require ServiceListingService dependency injection
-        // For now, providers will need to manually create services via "Add Service" button
-        // Future enhancement: Inject ServiceListingService and create default listing here
+            // Save to database
+            User savedUser = userRepository.save(user);
+            log.info("Successfully registered provider with ID: {} with service type: {}", savedUser.getId(), savedUser.getServiceType());
+            publishUserChange(savedUser);
 
-        // Convert to Response DTO
-        return userMapper.toResponse(savedUser);
+            // TODO: Auto-create default service listing for the provider
+            // This would require ServiceListingService dependency injection
+            // For now, providers will need to manually create services via "Add Service" button
+            // Future enhancement: Inject ServiceListingService and create default listing here
+
+            // Convert to Response DTO
+            return userMapper.toResponse(savedUser);
+        });
     }
 
     /**
      * Authenticate user login.
      * Verifies email and password, returns User entity if successful.
+     * Runs without a surrounding transaction so no database connection is held
+     * while the password check waits on the hashing executor.
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User authenticateUser(LoginRequest request) {
         log.info("Authenticating user with email: {}", request.getEmail());
 
@@ -182,7 +220,7 @@ public class UserServiceImpl implements UserService {
                 });
 
         // Verify password
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
             log.error("Invalid password for user: {}", request.getEmail());
             throw new IllegalArgumentException("Invalid email or password");
         }
@@ -193,51 +231,71 @@ public class UserServiceImpl implements UserService {
             throw new IllegalArgumentException("Account is inactive. Please contact support.");
         }
 
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            Long userId = user.getId();
+            String currentHash = user.getPassword();
+            passwordHasher.rehashInBackground(request.getPassword(),
+                    newHash -> replacePasswordHash(userId, currentHash, newHash));
+        }
+
         log.info("Successfully authenticated user: {}", request.getEmail());
         return user;
     }
 
     /**
      * Get user by ID.
+     * Served from the profile cache; a miss is loaded and cached.
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public UserResponse getUserById(Long id) {
         log.info("Fetching user with ID: {}", id);
-
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.error("User not found with ID: {}", id);
-                    return new IllegalArgumentException("User not found with ID: " + id);
-                });
-
-        return userMapper.toResponse(user);
+        return userMapper.toResponse(getUserEntityById(id));
     }
 
     /**
      * Get user entity by ID (for internal service use).
+     * A cache hit returns a detached copy: fine as an association target or for
+     * reading, but changes to it are not persisted.
+     * Joins the caller's transaction on a miss, so no second connection is taken.
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public User getUserEntityById(Long id) {
-        return userRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("User not found with ID: " + id));
+        User cached = profileCache.getById(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.error("User not found with ID: {}", id);
+                    return new IllegalArgumentException("User not found with ID: " + id);
+                });
+        profileCache.put(user);
+        return user;
     }
 
     /**
      * Get user by email.
+     * Served from the profile cache; a miss is loaded and cached.
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public UserResponse getUserByEmail(String email) {
         log.info("Fetching user with email: {}", email);
 
+        User cached = profileCache.getByEmail(email);
+        if (cached != null) {
+            return userMapper.toResponse(cached);
+        }
+
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> {
                     log.error("User not found with email: {}", email);
                     return new IllegalArgumentException("User not found with email: " + email);
                 });
-
+        profileCache.put(user);
         return userMapper.toResponse(user);
     }
 
@@ -270,112 +328,54 @@ public class UserServiceImpl implements UserService {
         // Save updated user
         User updatedUser = userRepository.save(user);
         log.info("Successfully updated user with ID: {}", id);
+        publishUserChange(updatedUser);
 
         return userMapper.toResponse(updatedUser);
     }
 
     /**
-     * Delete user account.
-     * Performs HARD DELETE - permanently removes user from database.
-     * This is used by admin to completely remove users from the system.
-     * Handles cascading deletion of all related data.
+     * Search providers by keyword (name or service type).
+     * Uses MySQL FULLTEXT relevance search when search.mode=FULLTEXT;
+     * a blank keyword returns only the first page of the provider directory
+     * (capped by search.max-results and the directory's page size);
+     * GET /api/users/providers pages through the rest.
+     * Sparse results are topped up with typo-tolerant service type matches.
+     * Results are cached per normalized keyword; a cache hit needs no transaction.
      */
     @Override
-    @Transactional
-    public void deleteUser(Long id) {
-        log.info("=== STARTING USER DELETION: ID {} ===", id);
-
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.error("User not found with ID: {}", id);
-                    return new IllegalArgumentException("User not found with ID: " + id);
-                });
-
-        log.info("Deleting user: {} ({}), Role: {}", user.getName(), user.getEmail(), user.getRole());
-
-        // If provider, delete all related data in correct order
-        if (user.getRole() == Role.PROVIDER) {
-            log.info("Provider deletion - removing related data...");
-
-            // Get provider's service listings
-            var services = serviceListingRepository.findByProviderId(id);
-            log.info("Found {} service listings", services.size());
-
-            // For each service, delete related data
-            for (var service : services) {
-                Long serviceId = service.getId();
-
-                // Delete reviews on this service
-                var reviews = reviewRepository.findByServiceListingId(serviceId);
-                if (!reviews.isEmpty()) {
-                    reviewRepository.deleteAll(reviews);
-                    log.info("Deleted {} reviews for service {}", reviews.size(), serviceId);
-                }
-
-                // Delete bookings for this service
-                var bookings = bookingRepository.findByServiceListingId(serviceId);
-                if (!bookings.isEmpty()) {
-                    bookingRepository.deleteAll(bookings);
-                    log.info("Deleted {} bookings for service {}", bookings.size(), serviceId);
-                }
-
-                // Delete specific availability for this service
-                var availability = specificAvailabilityRepository.findByServiceListing(service);
-                if (!availability.isEmpty()) {
-                    specificAvailabilityRepository.deleteAll(availability);
-                    log.info("Deleted {} availability records for service {}", availability.size(), serviceId);
-                }
-            }
-
-            // Delete all provider's specific availability (not tied to specific service)
-            var providerAvailability = specificAvailabilityRepository.findByProvider(user);
-            if (!providerAvailability.isEmpty()) {
-                specificAvailabilityRepository.deleteAll(providerAvailability);
-                log.info("Deleted {} general availability records for provider", providerAvailability.size());
-            }
-
-            // Finally, delete all service listings
-            if (!services.isEmpty()) {
-                serviceListingRepository.deleteAll(services);
-                log.info("Deleted {} service listings", services.size());
-            }
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<UserResponse> searchProviders(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return providerDirectoryService.browseProviders(
+                    null, null, null, null, null, searchConfig.getMaxResults()).getItems();
         }
 
-        // If customer, delete their bookings and reviews
-        if (user.getRole() == Role.CUSTOMER) {
-            log.info("Customer deletion - removing related data...");
-
-            // Delete customer's bookings
-            var customerBookings = bookingRepository.findByCustomerId(id);
-            if (!customerBookings.isEmpty()) {
-                bookingRepository.deleteAll(customerBookings);
-                log.info("Deleted {} bookings for customer", customerBookings.size());
-            }
-
-            // Delete customer's reviews
-            var customerReviews = reviewRepository.findByCustomerId(id);
-            if (!customerReviews.isEmpty()) {
-                reviewRepository.deleteAll(customerReviews);
-                log.info("Deleted {} reviews by customer", customerReviews.size());
-            }
+        boolean fullText = searchConfig.getMode() == SearchConfig.Mode.FULLTEXT;
+        String key = SearchResultCache.key(keyword, fullText);
+        List<UserResponse> cached = searchCache.getProviders(key);
+        if (cached != null) {
+            return cached;
         }
 
-        // Hard delete - permanently remove from database
-        userRepository.deleteById(id);
-
-        log.info("✅ Successfully permanently deleted user: {} (ID: {})", user.getName(), id);
-        log.info("=== USER DELETION COMPLETE ===");
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        List<UserResponse> results = readOnly.execute(status -> runProviderSearch(keyword));
+        return searchCache.putProviders(key, keyword, results);
     }
 
-    /**
-     * Search providers by keyword (name or service type).
-     */
-    @Override
-    @Transactional(readOnly = true)
-    public List<UserResponse> searchProviders(String keyword) {
+    private List<UserResponse> runProviderSearch(String keyword) {
         log.info("Searching providers with keyword: {}", keyword);
 
-        List<User> providers = userRepository.searchProviders(keyword, Role.PROVIDER);
+        List<User> providers;
+        if (searchConfig.getMode() == SearchConfig.Mode.FULLTEXT && keyword != null && !keyword.isBlank()) {
+            providers = fullTextSearchProviders(keyword);
+        } else {
+            providers = userRepository.searchProviders(keyword, Role.PROVIDER);
+        }
+
+        if (keyword != null && !keyword.isBlank() && providers.size() < searchConfig.getFuzzyMinResults()) {
+            providers = appendFuzzyMatches(keyword, providers);
+        }
 
         return providers.stream()
                 .map(userMapper::toResponse)
@@ -383,19 +383,41 @@ public class UserServiceImpl implements UserService {
     }
 
     /**
-     * Get providers by city.
+     * Append providers whose service type is a near miss of the keyword, keeping fuzzy rank order.
      */
-    @Override
-    @Transactional(readOnly = true)
-    public List<UserResponse> getProvidersByCity(String city) {
-        log.info("Fetching providers in city: {}", city);
+    private List<User> appendFuzzyMatches(String keyword, List<User> exact) {
+        Set<Long> seen = exact.stream().map(User::getId).collect(Collectors.toSet());
+        List<Long> extraIds = providerFuzzyIndex.search(keyword, searchConfig.getFuzzyMaxEdits(), searchConfig.getMaxResults())
+                .stream()
+                .filter(id -> !seen.contains(id))
+                .toList();
+        if (extraIds.isEmpty()) {
+            return exact;
+        }
 
-        List<User> providers = userRepository.findByCityAndRole(city, Role.PROVIDER);
+        log.info("Adding {} fuzzy provider matches for keyword: {}", extraIds.size(), keyword);
+        Map<Long, User> byId = userRepository.findAllById(extraIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
 
-        return providers.stream()
-                .filter(User::getActive)
-                .map(userMapper::toResponse)
-                .collect(Collectors.toList());
+        List<User> combined = new ArrayList<>(exact);
+        extraIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .forEach(combined::add);
+        return combined;
+    }
+
+    /**
+     * Run a MATCH ... AGAINST provider search in the configured full-text mode.
+     */
+    private List<User> fullTextSearchProviders(String keyword) {
+        if (searchConfig.getFullTextMode() == SearchConfig.FullTextMode.BOOLEAN) {
+            String query = TextAnalyzer.toBooleanModeQuery(keyword);
+            return query.isEmpty()
+                    ? List.of()
+                    : userRepository.fullTextSearchProvidersBoolean(query, Role.PROVIDER.name(), searchConfig.getMaxResults());
+        }
+        return userRepository.fullTextSearchProviders(keyword, Role.PROVIDER.name(), searchConfig.getMaxResults());
     }
 
     /**
@@ -450,6 +472,7 @@ public class UserServiceImpl implements UserService {
 
         provider.setVerified(true);
         User verifiedProvider = userRepository.save(provider);
+        publishUserChange(verifiedProvider);
 
         log.info("Successfully verified provider with ID: {}", providerId);
         return userMapper.toResponse(verifiedProvider);
@@ -472,5 +495,35 @@ public class UserServiceImpl implements UserService {
     public boolean phoneExists(String phone) {
         return userRepository.existsByPhone(phone);
     }
-}
 
+    /**
+     * Store a hash made with the current BCrypt cost. Runs on the hashing
+     * thread after a login; the cached profile is evicted once it commits.
+     */
+    private void replacePasswordHash(Long userId, String currentHash, String newHash) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            if (userRepository.updatePasswordHash(userId, currentHash, newHash) > 0) {
+                log.info("Rehashed password of user {} with the current BCrypt cost", userId);
+                eventPublisher.publishEvent(new UserChangedEvent(userId));
+            }
+        });
+    }
+
+    /**
+     * Short read-write transaction for work that must not wait on password hashing.
+     */
+    private TransactionTemplate writeTransaction() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Evict the user's cached profile and notify the in-memory provider indexes
+     * that a provider changed (customers and admins are not indexed).
+     */
+    private void publishUserChange(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
+        if (user.isProvider()) {
+            eventPublisher.publishEvent(ProviderChangedEvent.upserted(ProviderDocument.from(user)));
+        }
+    }
+}
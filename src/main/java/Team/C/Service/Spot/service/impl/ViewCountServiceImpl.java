@@ -0,0 +1,189 @@
+package Team.C.Service.Spot.service.impl;
+
+import Team.C.Service.Spot.config.ViewCounterConfig;
+import Team.C.Service.Spot.search.ListingViewedEvent;
+import Team.C.Service.Spot.service.ViewCountService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind implementation of ViewCountService.
+ *
+ * <p>Each listing has its own LongAdder, so concurrent views of the same
+ * listing never contend on the database row. A scheduled flush drains the
+ * counters with {@code sumThenReset} into batched
+ * {@code view_count = view_count + ?} updates; the relative update keeps
+ * counts correct even when other writes to the row happen in between.
+ * Increments never take the map's per-key lock. A flush drops counters that
+ * stayed idle, and a view that still lands in a dropped counter is moved back
+ * into the map by whichever side notices first, so {@code pending} is reduced
+ * by exactly what was written. Views buffered when the process dies without
+ * a shutdown drain are lost, bounded by views.max-pending-views.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ViewCountServiceImpl implements ViewCountService {
+
+    private static final String ADD_VIEWS_SQL =
+            "UPDATE service_listings SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ViewCounterConfig config;
+
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+    private final LongAdder pending = new LongAdder();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Override
+    public void recordView(Long listingId) {
+        if (!config.isBuffered()) {
+            jdbcTemplate.update(ADD_VIEWS_SQL, 1, listingId);
+            return;
+        }
+
+        addViews(listingId, 1);
+        pending.increment();
+
+        // Keep the amount of views at risk bounded under heavy traffic
+        if (pending.sum() >= config.getMaxPendingViews() && flushLock.tryLock()) {
+            try {
+                flushBuffered();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Count a view published by the listing detail endpoint, off the request thread.
+     *
+     * @param event the view event
+     */
+    @Async
+    @EventListener
+    public void onListingViewed(ListingViewedEvent event) {
+        recordView(event.getListingId());
+    }
+
+    @Override
+    public int flush() {
+        flushLock.lock();
+        try {
+            return flushBuffered();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public long getPendingViews() {
+        return pending.sum();
+    }
+
+    /**
+     * Periodic flush of the buffered views.
+     */
+    @Scheduled(fixedDelayString = "${views.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        if (counters.isEmpty()) {
+            return;
+        }
+        int updated = flush();
+        if (updated > 0) {
+            log.debug("Flushed views for {} listings", updated);
+        }
+    }
+
+    /**
+     * Write the remaining views before the datasource goes away.
+     */
+    @PreDestroy
+    public void drain() {
+        if (config.isDrainOnShutdown() && !counters.isEmpty()) {
+            log.info("Draining {} buffered listing views", pending.sum());
+            flush();
+        }
+    }
+
+    /**
+     * Must be called with flushLock held.
+     */
+    private int flushBuffered() {
+        List<Object[]> batch = new ArrayList<>();
+
+        for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+            long views = entry.getValue().sumThenReset();
+            if (views > 0) {
+                batch.add(new Object[]{views, entry.getKey()});
+            } else {
+                // Idle since the last flush: drop the counter and rescue any view that raced with the removal
+                if (counters.remove(entry.getKey(), entry.getValue())) {
+                    rescue(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        int from = 0;
+        try {
+            for (; from < batch.size(); from += config.getBatchSize()) {
+                List<Object[]> chunk = batch.subList(from, Math.min(from + config.getBatchSize(), batch.size()));
+                jdbcTemplate.batchUpdate(ADD_VIEWS_SQL, chunk);
+                pending.add(-chunk.stream().mapToLong(row -> (Long) row[0]).sum());
+            }
+        } catch (RuntimeException e) {
+            // Chunks before the failed one are committed; put the rest back for the next flush
+            List<Object[]> unwritten = batch.subList(from, batch.size());
+            log.error("Failed to flush views for {} listings, keeping them for the next flush: {}",
+                    unwritten.size(), e.getMessage());
+            for (Object[] row : unwritten) {
+                addViews((Long) row[1], (Long) row[0]);
+            }
+            return from;
+        }
+        return batch.size();
+    }
+
+    /**
+     * Add views to the listing's counter without locking the map entry.
+     * If a flush dropped the counter concurrently, the views are moved to its replacement.
+     */
+    private void addViews(Long listingId, long views) {
+        LongAdder adder = counters.computeIfAbsent(listingId, id -> new LongAdder());
+        adder.add(views);
+        if (counters.get(listingId) != adder) {
+            rescue(listingId, adder);
+        }
+    }
+
+    /**
+     * Move whatever landed in a dropped counter back into the map.
+     * sumThenReset swaps each cell atomically, so concurrent rescues never count a view twice.
+     */
+    private void rescue(Long listingId, LongAdder dropped) {
+        long late = dropped.sumThenReset();
+        if (late > 0) {
+            addViews(listingId, late);
+        }
+    }
+}
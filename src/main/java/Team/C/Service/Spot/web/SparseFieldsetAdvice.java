@@ -0,0 +1,90 @@
+package Team.C.Service.Spot.web;
+
+import Team.C.Service.Spot.dto.request.ResponseView;
+import Team.C.Service.Spot.dto.response.ApiResponse;
+import Team.C.Service.Spot.dto.response.BookingResponse;
+import Team.C.Service.Spot.dto.response.CursorPageResponse;
+import Team.C.Service.Spot.dto.response.FacetedListingResponse;
+import Team.C.Service.Spot.dto.response.ServiceListingResponse;
+import Team.C.Service.Spot.dto.response.UserResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractJacksonHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import tools.jackson.databind.ser.FilterProvider;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Applies the {@code fields} and {@code expand} query parameters to listing,
+ * booking and user responses wrapped in {@link ApiResponse}.
+ *
+ * <p>Requests without either parameter are left untouched. Otherwise the
+ * Jackson converter is handed a {@link SparseFieldsetFilter} as a write hint,
+ * which reduces every listing, booking and user in the payload to its card
+ * (or to the requested fields) and drops nested objects unless expanded.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+@RestControllerAdvice
+public class SparseFieldsetAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJacksonHttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        return body;
+    }
+
+    @Override
+    public Map<String, Object> determineWriteHints(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                                   Class<? extends HttpMessageConverter<?>> selectedConverterType) {
+        if (!(body instanceof ApiResponse<?> apiResponse) || !isShaped(apiResponse.getData())) {
+            return null;
+        }
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+
+        HttpServletRequest request = attributes.getRequest();
+        ResponseView view = ResponseView.of(request.getParameter(ResponseView.FIELDS_PARAM),
+                request.getParameter(ResponseView.EXPAND_PARAM));
+        if (!view.isSparse()) {
+            return null;
+        }
+        return Map.of(FilterProvider.class.getName(), SparseFieldsetFilter.provider(view));
+    }
+
+    /**
+     * Only listing, booking and user payloads (alone, in a list or in a page) are reduced.
+     */
+    private static boolean isShaped(Object data) {
+        if (data instanceof CursorPageResponse<?> page) {
+            data = page.getItems();
+        } else if (data instanceof FacetedListingResponse faceted) {
+            data = faceted.getItems();
+        }
+        if (data instanceof Collection<?> collection) {
+            data = collection.stream().filter(Objects::nonNull).findFirst().orElse(null);
+        }
+        return data instanceof ServiceListingResponse
+                || data instanceof BookingResponse
+                || data instanceof UserResponse;
+    }
+}
@@ -0,0 +1,132 @@
+package Team.C.Service.Spot.web;
+
+import Team.C.Service.Spot.dto.request.ResponseView;
+import Team.C.Service.Spot.dto.response.BookingResponse;
+import Team.C.Service.Spot.dto.response.ServiceListingResponse;
+import Team.C.Service.Spot.dto.response.UserResponse;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.TokenStreamContext;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.cfg.MapperBuilder;
+import tools.jackson.databind.ser.PropertyWriter;
+import tools.jackson.databind.ser.std.SimpleBeanPropertyFilter;
+import tools.jackson.databind.ser.std.SimpleFilterProvider;
+
+import java.util.Set;
+
+/**
+ * Jackson property filter that writes listing, booking and user responses
+ * in the shape of a {@link ResponseView}.
+ *
+ * <p>Properties are dropped while the response is serialized, so no
+ * intermediate tree is built. An object written under one of the nested
+ * names (provider, customer, serviceListing, category) is nested: it always
+ * uses its card, and is only written at all when the view expands it.
+ * Explicit {@code fields} apply to the top-level objects only.</p>
+ *
+ * @author Team C
+ * @version 1.0
+ * @since 2026-10-16
+ */
+public class SparseFieldsetFilter extends SimpleBeanPropertyFilter {
+
+    public static final String ID = "sparseFieldset";
+
+    /**
+     * Same fields as ServiceListingMapper.toSimplifiedResponse, plus the search distance
+     */
+    private static final Set<String> LISTING_CARD = Set.of(
+            "id", "title", "description", "price", "currency", "city", "state",
+            "averageRating", "reviewCount", "imageUrl", "distanceKm");
+
+    /**
+     * Same fields as UserMapper.toSimplifiedResponse
+     */
+    private static final Set<String> USER_CARD = Set.of(
+            "id", "role", "name", "email", "phone", "city", "state",
+            "serviceType", "verified", "averageRating", "reviewCount");
+
+    private static final Set<String> BOOKING_CARD = Set.of(
+            "id", "bookingReference", "bookingDate", "bookingTime", "status",
+            "totalAmount", "currency", "serviceCity",
+            "customerId", "providerId", "serviceListingId");
+
+    /**
+     * Properties holding nested objects; categories are not filtered and keep every field
+     */
+    private static final Set<String> NESTED = Set.of("provider", "customer", "serviceListing", "category");
+
+    private final ResponseView view;
+
+    public SparseFieldsetFilter(ResponseView view) {
+        this.view = view;
+    }
+
+    /**
+     * Attach the filter ID to the filtered response types and make every
+     * write without a sparse view serialize all properties.
+     *
+     * @param builder mapper builder of the HTTP message converters
+     */
+    public static void register(MapperBuilder<?, ?> builder) {
+        builder.addMixIn(ServiceListingResponse.class, Filtered.class)
+                .addMixIn(BookingResponse.class, Filtered.class)
+                .addMixIn(UserResponse.class, Filtered.class)
+                .filterProvider(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    /**
+     * @param view requested response shape
+     * @return filter provider to pass as a write hint
+     */
+    public static SimpleFilterProvider provider(ResponseView view) {
+        return new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                .addFilter(ID, new SparseFieldsetFilter(view));
+    }
+
+    @Override
+    public void serializeAsProperty(Object pojo, JsonGenerator g, SerializationContext ctxt, PropertyWriter writer)
+            throws Exception {
+        if (include(pojo, writer.getName(), g)) {
+            writer.serializeAsProperty(pojo, g, ctxt);
+        } else if (!g.canOmitProperties()) {
+            writer.serializeAsOmittedProperty(pojo, g, ctxt);
+        }
+    }
+
+    private boolean include(Object pojo, String name, JsonGenerator g) {
+        if (NESTED.contains(name)) {
+            return view.expands(name);
+        }
+        if ("id".equals(name)) {
+            return true;
+        }
+        Set<String> selected = !isNested(g) && !view.getFields().isEmpty() ? view.getFields() : card(pojo);
+        return selected.contains(name);
+    }
+
+    /**
+     * The generator is inside the object being filtered; its parent tells
+     * under which property that object was written.
+     */
+    private static boolean isNested(JsonGenerator g) {
+        TokenStreamContext parent = g.streamWriteContext().getParent();
+        return parent != null && parent.inObject() && NESTED.contains(parent.currentName());
+    }
+
+    private static Set<String> card(Object pojo) {
+        if (pojo instanceof BookingResponse) {
+            return BOOKING_CARD;
+        }
+        if (pojo instanceof UserResponse) {
+            return USER_CARD;
+        }
+        return LISTING_CARD;
+    }
+
+    @JsonFilter(ID)
+    private interface Filtered {
+    }
+}
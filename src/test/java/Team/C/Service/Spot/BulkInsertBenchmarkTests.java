@@ -0,0 +1,204 @@
+package Team.C.Service.Spot;
+
+import Team.C.Service.Spot.model.ServiceCategory;
+import Team.C.Service.Spot.model.ServiceListing;
+import Team.C.Service.Spot.model.SpecificAvailability;
+import Team.C.Service.Spot.model.User;
+import Team.C.Service.Spot.model.enums.Role;
+import Team.C.Service.Spot.repository.ServiceCategoryRepository;
+import Team.C.Service.Spot.repository.ServiceListingRepository;
+import Team.C.Service.Spot.repository.SpecificAvailabilityRepository;
+import Team.C.Service.Spot.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Insert throughput of bulk availability and bulk listing writes, row at a
+ * time (session JDBC batch size 1) versus batched with the configured batch
+ * size, both with table-allocated IDs. Logs rows per second for both runs and
+ * checks that the batched run actually sends JDBC batches.
+ *
+ * <p>Writes thousands of rows to the configured database, so it is tagged
+ * "benchmark" and excluded from the default test run; use
+ * {@code mvn test -Pbenchmark -Dtest=BulkInsertBenchmarkTests}.</p>
+ */
+@Tag("benchmark")
+@Slf4j
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+class BulkInsertBenchmarkTests {
+
+    private static final int ROWS = 2_000;
+
+    @Autowired
+    private ServiceListingRepository listingRepository;
+
+    @Autowired
+    private SpecificAvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private ServiceCategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final String suffix = Long.toString(System.nanoTime() % 1_000_000_000L);
+
+    private User provider;
+    private ServiceCategory category;
+    private final List<Long> listingIds = new ArrayList<>();
+    private final List<Long> availabilityIds = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            category = categoryRepository.save(ServiceCategory.builder()
+                    .name("Bench Category " + suffix)
+                    .build());
+            provider = userRepository.save(User.builder()
+                    .role(Role.PROVIDER)
+                    .email("bench" + suffix + "@example.com")
+                    .password("not-a-real-hash")
+                    .name("Bench Provider")
+                    .phone("7" + suffix)
+                    .doorNo("1")
+                    .addressLine("Test Street")
+                    .city("BenchCity")
+                    .state("Test State")
+                    .pincode(560001)
+                    .build());
+        });
+    }
+
+    @AfterEach
+    void cleanUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            availabilityRepository.deleteAllByIdInBatch(availabilityIds);
+            listingRepository.deleteAllByIdInBatch(listingIds);
+            userRepository.deleteById(provider.getId());
+            categoryRepository.deleteById(category.getId());
+        });
+    }
+
+    @Test
+    void bulkAvailabilityInsertThroughput() {
+        IntFunction<SpecificAvailability> row = i -> SpecificAvailability.builder()
+                .provider(provider)
+                .availableDate(LocalDate.now().plusDays(1 + i % 365))
+                .startTime(LocalTime.of(8 + i % 10, 0))
+                .endTime(LocalTime.of(9 + i % 10, 0))
+                .build();
+
+        Run rowAtATime = insert("availability", 1, row, availabilityIds);
+        Run batched = insert("availability", null, row, availabilityIds);
+
+        assertBatched(rowAtATime, batched);
+    }
+
+    @Test
+    void bulkListingInsertThroughput() {
+        IntFunction<ServiceListing> row = i -> ServiceListing.builder()
+                .title("Bench listing " + suffix + " " + i)
+                .description("Listing used by the insert benchmark")
+                .price(100.0 + i)
+                .city("BenchCity")
+                .state("Test State")
+                .pincode(560001)
+                .provider(provider)
+                .category(category)
+                .build();
+
+        Run rowAtATime = insert("listing", 1, row, listingIds);
+        Run batched = insert("listing", null, row, listingIds);
+
+        assertBatched(rowAtATime, batched);
+    }
+
+    /**
+     * Persist ROWS entities in one transaction.
+     *
+     * @param label name printed with the result
+     * @param jdbcBatchSize session batch size override (null for the configured size)
+     * @param row builds the i-th entity
+     * @param ids collects the created IDs for clean-up
+     */
+    private <T> Run insert(String label, Integer jdbcBatchSize, IntFunction<T> row, List<Long> ids) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            session.setJdbcBatchSize(jdbcBatchSize);
+            for (int i = 0; i < ROWS; i++) {
+                T entity = row.apply(i);
+                entityManager.persist(entity);
+                ids.add((Long) entityManagerFactory.getPersistenceUnitUtil().getIdentifier(entity));
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+        long elapsed = System.nanoTime() - start;
+
+        Run run = new Run(elapsed, statistics.getEntityInsertCount(), statistics.getPrepareStatementCount());
+        log.info("{} insert, {}: {} rows in {} ms ({} rows/s), {} statements prepared",
+                label, jdbcBatchSize != null ? "batch size " + jdbcBatchSize : "batched",
+                run.rows, elapsed / 1_000_000, Math.round(run.rowsPerSecond()), run.statements);
+        return run;
+    }
+
+    private static void assertBatched(Run rowAtATime, Run batched) {
+        assertTrue(batched.rows >= ROWS, "All rows should be inserted");
+        assertTrue(batched.statements < rowAtATime.statements,
+                "Batched inserts should prepare fewer statements than row-at-a-time inserts");
+    }
+
+    private static final class Run {
+        private final long nanos;
+        private final long rows;
+        private final long statements;
+
+        private Run(long nanos, long rows, long statements) {
+            this.nanos = nanos;
+            this.rows = rows;
+            this.statements = statements;
+        }
+
+        private double rowsPerSecond() {
+            return rows * 1_000_000_000.0 / nanos;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package Team.C.Service.Spot;
+
+import Team.C.Service.Spot.search.FuzzyTermIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The candidate filter must never hide a word that is within the allowed
+ * distance, including adjacent transpositions that share no trigram.
+ */
+class FuzzyTermIndexTests {
+
+    @Test
+    void transposedShortWordIsFound() {
+        FuzzyTermIndex index = new FuzzyTermIndex();
+        index.put(1L, "palm tree trimming");
+        index.put(2L, "pool cleaning");
+
+        assertEquals(List.of(1L), index.search("plam", 2, 10));
+    }
+
+    @Test
+    void transposedLongWordIsFound() {
+        FuzzyTermIndex index = new FuzzyTermIndex();
+        index.put(1L, "electrician");
+        index.put(2L, "plumber");
+
+        assertEquals(List.of(1L), index.search("elcetricain", 2, 10));
+        assertEquals(List.of(2L), index.search("plubmer", 2, 10));
+    }
+
+    @Test
+    void wordsBeyondTheAllowedDistanceAreIgnored() {
+        FuzzyTermIndex index = new FuzzyTermIndex();
+        index.put(1L, "palm");
+
+        assertTrue(index.search("lamp", 2, 10).isEmpty());
+
+        index.remove(1L);
+        assertTrue(index.search("plam", 2, 10).isEmpty());
+    }
+}
@@ -0,0 +1,46 @@
+package Team.C.Service.Spot;
+
+import Team.C.Service.Spot.search.InvertedListingIndex;
+import Team.C.Service.Spot.search.ListingDocument;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Only the last typed word is matched by prefix; earlier words must match a
+ * whole term.
+ */
+class InvertedListingIndexTests {
+
+    @Test
+    void lastWordMatchesByPrefix() {
+        InvertedListingIndex index = index();
+
+        assertEquals(List.of(1L), index.search("plumb", 10));
+        assertEquals(List.of(2L, 1L), index.search("pipes plumb", 10));
+    }
+
+    @Test
+    void earlierWordsMatchWholeTermsOnly() {
+        InvertedListingIndex index = index();
+
+        assertEquals(List.of(2L), index.search("plumb pipes", 10));
+        assertEquals(List.of(1L, 2L), index.search("plumbing pipes", 10));
+    }
+
+    private static InvertedListingIndex index() {
+        InvertedListingIndex index = new InvertedListingIndex();
+        index.rebuild(List.of(listing(1L, "Plumbing repairs"), listing(2L, "Pipes fitted")));
+        return index;
+    }
+
+    private static ListingDocument listing(Long id, String title) {
+        return ListingDocument.builder()
+                .id(id)
+                .title(title)
+                .active(true)
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package Team.C.Service.Spot;
+
+import Team.C.Service.Spot.dto.request.ListingCursor;
+import Team.C.Service.Spot.model.ServiceListing;
+import Team.C.Service.Spot.model.enums.ListingSort;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cursors must survive a round trip, including listings whose sort key is null.
+ */
+class ListingCursorTests {
+
+    @Test
+    void valueRoundTrips() {
+        ServiceListing listing = ServiceListing.builder().id(42L).averageRating(4.5).build();
+
+        ListingCursor cursor = ListingCursor.decode(ListingCursor.after(ListingSort.RATING, listing).encode(),
+                ListingSort.RATING);
+
+        assertFalse(cursor.hasNullValue());
+        assertEquals(4.5, cursor.doubleValue());
+        assertEquals(42L, cursor.getId());
+    }
+
+    @Test
+    void nullSortKeyRoundTripsAsNull() {
+        ServiceListing unrated = ServiceListing.builder().id(7L).averageRating(null).totalBookings(null).build();
+
+        String ratingToken = ListingCursor.after(ListingSort.RATING, unrated).encode();
+        assertFalse(new String(Base64.getUrlDecoder().decode(ratingToken), StandardCharsets.UTF_8).contains("null"));
+
+        ListingCursor rating = ListingCursor.decode(ratingToken, ListingSort.RATING);
+        assertTrue(rating.hasNullValue());
+        assertNull(rating.doubleValue());
+        assertEquals(7L, rating.getId());
+
+        ListingCursor popularity = ListingCursor.decode(
+                ListingCursor.after(ListingSort.POPULARITY, unrated).encode(), ListingSort.POPULARITY);
+        assertTrue(popularity.hasNullValue());
+        assertNull(popularity.intValue());
+    }
+
+    @Test
+    void nullKeyIsRejectedForNotNullColumns() {
+        String token = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("PRICE_ASC||7".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> ListingCursor.decode(token, ListingSort.PRICE_ASC));
+    }
+}
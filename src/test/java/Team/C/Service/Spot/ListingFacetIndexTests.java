@@ -0,0 +1,60 @@
+package Team.C.Service.Spot;
+
+import Team.C.Service.Spot.search.ListingDocument;
+import Team.C.Service.Spot.search.ListingFacetIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Facet search paging must clamp to the matches, even for page numbers whose
+ * offset does not fit in an int.
+ */
+class ListingFacetIndexTests {
+
+    private static final ListingFacetIndex.Filter ALL = ListingFacetIndex.Filter.builder().build();
+
+    @Test
+    void lastPageHoldsTheRemainder() {
+        ListingFacetIndex.Result result = indexWithListings(25).search(ALL, 1, 20);
+
+        assertEquals(25, result.getTotal());
+        assertEquals(5, result.getListingIds().size());
+    }
+
+    @Test
+    void hugePageNumberReturnsEmptyPageWithFullCounts() {
+        ListingFacetIndex index = indexWithListings(25);
+
+        ListingFacetIndex.Result result = index.search(ALL, Integer.MAX_VALUE, 20);
+        assertTrue(result.getListingIds().isEmpty());
+        assertEquals(25, result.getTotal());
+
+        assertTrue(index.search(ALL, 1 << 27, 100).getListingIds().isEmpty());
+        assertTrue(index.search(ALL, 1, Integer.MAX_VALUE).getListingIds().isEmpty());
+    }
+
+    private static ListingFacetIndex indexWithListings(int count) {
+        List<ListingDocument> documents = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            documents.add(ListingDocument.builder()
+                    .id(id)
+                    .categoryId(1L)
+                    .categoryName("Cleaning")
+                    .city("Pune")
+                    .pincode(411001)
+                    .price(1000.0 + id * 10)
+                    .averageRating(4.0)
+                    .reviewCount(1)
+                    .active(true)
+                    .build());
+        }
+        ListingFacetIndex index = new ListingFacetIndex();
+        index.rebuild(documents);
+        return index;
+    }
+}
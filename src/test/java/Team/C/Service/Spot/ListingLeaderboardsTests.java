@@ -0,0 +1,99 @@
+package Team.C.Service.Spot;
+
+import Team.C.Service.Spot.search.ListingDocument;
+import Team.C.Service.Spot.search.ListingLeaderboards;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The city and city-and-category boards follow rating and booking changes,
+ * drop removed listings and honour the minimum rating.
+ */
+class ListingLeaderboardsTests {
+
+    private static final long PLUMBING = 1L;
+    private static final long CLEANING = 2L;
+
+    private ListingLeaderboards leaderboards;
+
+    @BeforeEach
+    void setUp() {
+        leaderboards = new ListingLeaderboards();
+        leaderboards.rebuild(List.of(
+                listing(1L, "Pune", PLUMBING, 4.9, 120, 10),
+                listing(2L, "pune ", PLUMBING, 4.5, 40, 80),
+                listing(3L, "Pune", CLEANING, 4.7, 60, 30),
+                listing(4L, "Mumbai", PLUMBING, 5.0, 300, 500),
+                inactive(listing(5L, "Pune", PLUMBING, 5.0, 10, 999))));
+    }
+
+    @Test
+    void cityBoardsOrderByRatingAndByBookings() {
+        assertEquals(List.of(1L, 3L, 2L), leaderboards.topRated("PUNE", null, 0, 10));
+        assertEquals(List.of(2L, 3L, 1L), leaderboards.popular("Pune", null, 10));
+        assertEquals(List.of(1L, 3L), leaderboards.topRated("Pune", null, 0, 2));
+    }
+
+    @Test
+    void categoryBoardsOnlyHoldThatCategory() {
+        assertEquals(List.of(1L, 2L), leaderboards.topRated("Pune", PLUMBING, 0, 10));
+        assertEquals(List.of(2L, 1L), leaderboards.popular("Pune", PLUMBING, 10));
+        assertEquals(List.of(3L), leaderboards.popular("Pune", CLEANING, 10));
+        assertEquals(List.of(), leaderboards.popular("Delhi", PLUMBING, 10));
+    }
+
+    @Test
+    void minRatingCutsOffTheBoard() {
+        assertEquals(List.of(1L, 3L), leaderboards.topRated("Pune", null, 4.6, 10));
+        assertEquals(List.of(), leaderboards.topRated("Pune", CLEANING, 4.8, 10));
+    }
+
+    @Test
+    void upsertMovesEntryOnRatingAndBookingChanges() {
+        leaderboards.upsert(listing(2L, "Pune", PLUMBING, 5.0, 41, 80));
+        assertEquals(List.of(2L, 1L, 3L), leaderboards.topRated("Pune", null, 0, 10));
+
+        leaderboards.upsert(listing(1L, "Pune", PLUMBING, 4.9, 120, 200));
+        assertEquals(List.of(1L, 2L, 3L), leaderboards.popular("Pune", null, 10));
+        assertEquals(List.of(1L, 2L), leaderboards.popular("Pune", PLUMBING, 10));
+    }
+
+    @Test
+    void upsertMovesEntryBetweenCitiesAndCategories() {
+        leaderboards.upsert(listing(3L, "Mumbai", PLUMBING, 4.7, 60, 30));
+
+        assertEquals(List.of(2L, 1L), leaderboards.popular("Pune", null, 10));
+        assertEquals(List.of(), leaderboards.popular("Pune", CLEANING, 10));
+        assertEquals(List.of(4L, 3L), leaderboards.topRated("Mumbai", PLUMBING, 0, 10));
+    }
+
+    @Test
+    void removedListingLeavesEveryBoard() {
+        leaderboards.remove(1L);
+
+        assertEquals(List.of(3L, 2L), leaderboards.topRated("Pune", null, 0, 10));
+        assertEquals(List.of(2L), leaderboards.topRated("Pune", PLUMBING, 0, 10));
+        assertEquals(List.of(2L, 3L), leaderboards.popular("Pune", null, 10));
+    }
+
+    private static ListingDocument listing(Long id, String city, Long categoryId, double rating, int reviews,
+                                           int bookings) {
+        return ListingDocument.builder()
+                .id(id)
+                .city(city)
+                .categoryId(categoryId)
+                .averageRating(rating)
+                .reviewCount(reviews)
+                .totalBookings(bookings)
+                .active(true)
+                .build();
+    }
+
+    private static ListingDocument inactive(ListingDocument document) {
+        return document.toBuilder().active(false).build();
+    }
+}
@@ -0,0 +1,63 @@
+package Team.C.Service.Spot;
+
+import Team.C.Service.Spot.search.ListingDocument;
+import Team.C.Service.Spot.search.ListingPriceIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Paging through the price index must stop at the last match, even for page
+ * numbers whose offset does not fit in an int.
+ */
+class ListingPriceIndexTests {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Test
+    void pagesThroughMatchesCheapestFirst() {
+        ListingPriceIndex index = indexWithListings(25);
+
+        assertEquals(List.of(1L, 2L, 3L), index.range("Pune", null, null, null, 0, 3));
+        assertEquals(List.of(21L, 22L, 23L, 24L, 25L), index.range("Pune", null, null, null, PAGE_SIZE, PAGE_SIZE));
+        assertEquals(List.of(11L, 12L), index.range("Pune", null, 1105.0, 1125.0, 0, PAGE_SIZE));
+    }
+
+    @Test
+    void offsetPastLastMatchReturnsEmptyPage() {
+        ListingPriceIndex index = indexWithListings(25);
+
+        assertTrue(index.range("Pune", null, null, null, 25, PAGE_SIZE).isEmpty());
+        assertTrue(index.range("Pune", null, 1105.0, 1125.0, 2, PAGE_SIZE).isEmpty());
+    }
+
+    @Test
+    void hugePageNumberDoesNotOverflow() {
+        ListingPriceIndex index = indexWithListings(25);
+
+        long offset = (long) Integer.MAX_VALUE * PAGE_SIZE;
+        assertTrue(index.range("Pune", null, null, null, offset, PAGE_SIZE).isEmpty());
+        assertTrue(index.range("Pune", null, null, null, Integer.MAX_VALUE, Integer.MAX_VALUE).isEmpty());
+        assertEquals(List.of(25L), index.range("Pune", null, null, null, 24, Integer.MAX_VALUE));
+    }
+
+    private static ListingPriceIndex indexWithListings(int count) {
+        List<ListingDocument> documents = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            documents.add(ListingDocument.builder()
+                    .id(id)
+                    .categoryId(1L)
+                    .city("Pune")
+                    .price(1000.0 + id * 10)
+                    .active(true)
+                    .build());
+        }
+        ListingPriceIndex index = new ListingPriceIndex();
+        index.rebuild(documents);
+        return index;
+    }
+}
@@ -0,0 +1,154 @@
+package Team.C.Service.Spot;
+
+import Team.C.Service.Spot.model.ServiceCategory;
+import Team.C.Service.Spot.model.ServiceListing;
+import Team.C.Service.Spot.model.User;
+import Team.C.Service.Spot.model.enums.Role;
+import Team.C.Service.Spot.repository.ServiceCategoryRepository;
+import Team.C.Service.Spot.repository.ServiceListingRepository;
+import Team.C.Service.Spot.repository.UserRepository;
+import Team.C.Service.Spot.service.ServiceListingService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that listing list endpoints load a page of N listings with a fixed
+ * number of SQL statements, independent of N (no lazy provider/category loads).
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "search.mode=LIKE"
+})
+class ListingQueryCountTests {
+
+    private static final int LISTINGS = 8;
+
+    @Autowired
+    private ServiceListingService serviceListingService;
+
+    @Autowired
+    private ServiceListingRepository listingRepository;
+
+    @Autowired
+    private ServiceCategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final String suffix = Long.toString(System.nanoTime() % 1_000_000_000L);
+    private final String city = "QueryCountCity" + suffix;
+    private final int pincode = 900000 + (int) (System.nanoTime() % 99_999);
+
+    private final List<ServiceListing> listings = new ArrayList<>();
+    private final List<User> providers = new ArrayList<>();
+    private final List<ServiceCategory> categories = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < 2; i++) {
+                categories.add(categoryRepository.save(ServiceCategory.builder()
+                        .name("QC Category " + suffix + i)
+                        .build()));
+                providers.add(userRepository.save(User.builder()
+                        .role(Role.PROVIDER)
+                        .email("qc" + suffix + i + "@example.com")
+                        .password("not-a-real-hash")
+                        .name("QC Provider " + i)
+                        .phone("8" + suffix + i)
+                        .doorNo("1")
+                        .addressLine("Test Street")
+                        .city(city)
+                        .state("Test State")
+                        .pincode(pincode)
+                        .build()));
+            }
+            for (int i = 0; i < LISTINGS; i++) {
+                listings.add(listingRepository.save(ServiceListing.builder()
+                        .title("QueryCount listing " + suffix + " " + i)
+                        .description("Listing used by the statement count test")
+                        .price(100.0 + i)
+                        .city(city)
+                        .state("Test State")
+                        .pincode(pincode)
+                        .featured(true)
+                        .provider(providers.get(i % 2))
+                        .category(categories.get(i % 2))
+                        .build()));
+            }
+        });
+    }
+
+    @AfterEach
+    void cleanUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            listingRepository.deleteAllById(listings.stream().map(ServiceListing::getId).toList());
+            userRepository.deleteAllById(providers.stream().map(User::getId).toList());
+            categoryRepository.deleteAllById(categories.stream().map(ServiceCategory::getId).toList());
+        });
+    }
+
+    @Test
+    void allActiveListingsUseOneStatement() {
+        assertStatements(1, () -> serviceListingService.getAllActiveListings());
+    }
+
+    @Test
+    void listingsByCityUseOneStatement() {
+        assertStatements(1, () -> serviceListingService.getListingsByCity(city));
+    }
+
+    @Test
+    void listingsByPincodeUseOneStatement() {
+        assertStatements(1, () -> serviceListingService.getListingsByPincode(pincode, 0, 20));
+    }
+
+    @Test
+    void featuredListingsUseOneStatement() {
+        assertStatements(1, () -> serviceListingService.getFeaturedListings());
+    }
+
+    @Test
+    void keywordSearchUsesOneStatement() {
+        assertStatements(1, () -> serviceListingService.searchListings("QueryCount listing " + suffix));
+    }
+
+    @Test
+    void listingsByCategoryUseCategoryLookupPlusOneStatement() {
+        assertStatements(2, () -> serviceListingService.getListingsByCategory(categories.get(0).getId()));
+    }
+
+    @Test
+    void listingsByProviderUseProviderLookupPlusOneStatement() {
+        assertStatements(2, () -> serviceListingService.getListingsByProvider(providers.get(0).getId()));
+    }
+
+    private void assertStatements(long expected, Supplier<?> call) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        call.get();
+
+        assertEquals(expected, statistics.getPrepareStatementCount(),
+                "Unexpected number of SQL statements");
+    }
+}
@@ -0,0 +1,88 @@
+package Team.C.Service.Spot;
+
+import Team.C.Service.Spot.config.RankingConfig;
+import Team.C.Service.Spot.dto.response.ServiceListingResponse;
+import Team.C.Service.Spot.dto.response.UserResponse;
+import Team.C.Service.Spot.search.ranking.BayesianRatingScorer;
+import Team.C.Service.Spot.search.ranking.DistanceScorer;
+import Team.C.Service.Spot.search.ranking.ListingRanker;
+import Team.C.Service.Spot.search.ranking.PopularityScorer;
+import Team.C.Service.Spot.search.ranking.RecencyScorer;
+import Team.C.Service.Spot.search.ranking.RelevanceScorer;
+import Team.C.Service.Spot.search.ranking.VerifiedProviderScorer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Time to rank 5,000 candidates with every scorer enabled, after JIT warm-up.
+ * Logs the median and checks it stays under one millisecond.
+ *
+ * <p>Timing depends on the machine, so it is tagged "benchmark" and excluded
+ * from the default test run; use
+ * {@code mvn test -Pbenchmark -Dtest=ListingRankerBenchmarkTests}.</p>
+ */
+@Tag("benchmark")
+@Slf4j
+class ListingRankerBenchmarkTests {
+
+    private static final int CANDIDATES = 5_000;
+    private static final int WARM_UP_RUNS = 2_000;
+    private static final int MEASURED_RUNS = 200;
+
+    @Test
+    void fiveThousandCandidatesRankUnderOneMillisecond() {
+        RankingConfig config = new RankingConfig();
+        ListingRanker ranker = new ListingRanker(List.of(
+                new RelevanceScorer(config),
+                new BayesianRatingScorer(config),
+                new PopularityScorer(config),
+                new RecencyScorer(config),
+                new VerifiedProviderScorer(config),
+                new DistanceScorer(config)), config);
+        List<ServiceListingResponse> candidates = candidates();
+
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            assertEquals(CANDIDATES, ranker.rank(candidates, true).size());
+        }
+
+        long[] nanos = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            ranker.rank(candidates, true);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        long median = nanos[MEASURED_RUNS / 2];
+
+        log.info("Ranked {} candidates: median {} us, best {} us", CANDIDATES, median / 1_000, nanos[0] / 1_000);
+        assertTrue(median < 1_000_000, "Ranking took " + median / 1_000 + " us");
+    }
+
+    private static List<ServiceListingResponse> candidates() {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        List<ServiceListingResponse> candidates = new ArrayList<>(CANDIDATES);
+        for (long id = 1; id <= CANDIDATES; id++) {
+            candidates.add(ServiceListingResponse.builder()
+                    .id(id)
+                    .averageRating(1 + random.nextDouble() * 4)
+                    .reviewCount(random.nextInt(300))
+                    .totalBookings(random.nextInt(2_000))
+                    .createdAt(now.minusDays(random.nextInt(720)))
+                    .distanceKm(random.nextDouble() * 30)
+                    .provider(UserResponse.builder().verified(random.nextBoolean()).build())
+                    .build());
+        }
+        return candidates;
+    }
+}
@@ -0,0 +1,120 @@
+package Team.C.Service.Spot;
+
+import Team.C.Service.Spot.config.RankingConfig;
+import Team.C.Service.Spot.dto.response.ServiceListingResponse;
+import Team.C.Service.Spot.search.ranking.BayesianRatingScorer;
+import Team.C.Service.Spot.search.ranking.ListingFeatures;
+import Team.C.Service.Spot.search.ranking.ListingRanker;
+import Team.C.Service.Spot.search.ranking.ListingScorer;
+import Team.C.Service.Spot.search.ranking.PopularityScorer;
+import Team.C.Service.Spot.search.ranking.RelevanceScorer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Candidates come back best first, ties keep the retrieval order, and
+ * disabled ranking or zero-weight scorers leave the order alone.
+ */
+class ListingRankerTests {
+
+    @Test
+    void manyReviewsOutrankOneFiveStarReview() {
+        RankingConfig config = onlyWeight("rating");
+        ListingRanker ranker = new ListingRanker(List.of(new BayesianRatingScorer(config)), config);
+
+        List<ServiceListingResponse> ranked = ranker.rank(List.of(
+                listing(1L, 5.0, 1, 0),
+                listing(2L, 4.8, 200, 0),
+                listing(3L, null, null, 0)), false);
+
+        // Smoothed toward 3.5 over 5 prior reviews: 4.77, 3.75, then the unrated prior 3.5
+        assertEquals(List.of(2L, 1L, 3L), ids(ranked));
+    }
+
+    @Test
+    void higherScoresComeFirstAndTiesKeepRetrievalOrder() {
+        RankingConfig config = onlyWeight("popularity");
+        ListingRanker ranker = new ListingRanker(List.of(new PopularityScorer(config)), config);
+
+        List<ServiceListingResponse> ranked = ranker.rank(List.of(
+                listing(1L, null, null, 3),
+                listing(2L, null, null, 40),
+                listing(3L, null, null, 0),
+                listing(4L, null, null, 3),
+                listing(5L, null, null, 40)), false);
+
+        assertEquals(List.of(2L, 5L, 1L, 4L, 3L), ids(ranked));
+    }
+
+    @Test
+    void retrievalOrderWinsWhenItIsTheOnlySignal() {
+        RankingConfig config = onlyWeight("relevance");
+        ListingRanker ranker = new ListingRanker(List.of(new RelevanceScorer(config)), config);
+        List<ServiceListingResponse> retrieved = List.of(
+                listing(7L, 1.0, 1, 0), listing(3L, 5.0, 90, 500), listing(9L, 4.0, 10, 20));
+
+        assertEquals(List.of(7L, 3L, 9L), ids(ranker.rank(retrieved, true)));
+    }
+
+    @Test
+    void zeroWeightScorerIsNotRun() {
+        RankingConfig config = onlyWeight("popularity");
+        ListingScorer disabled = new ListingScorer() {
+            @Override
+            public double weight() {
+                return 0;
+            }
+
+            @Override
+            public void accumulate(ListingFeatures features, double weight, double[] scores) {
+                fail("A scorer with weight 0 must be skipped");
+            }
+        };
+        ListingRanker ranker = new ListingRanker(List.of(disabled, new PopularityScorer(config)), config);
+
+        List<ServiceListingResponse> ranked = ranker.rank(List.of(
+                listing(1L, null, null, 1), listing(2L, null, null, 9)), false);
+
+        assertEquals(List.of(2L, 1L), ids(ranked));
+    }
+
+    @Test
+    void disabledRankingReturnsTheInput() {
+        RankingConfig config = onlyWeight("popularity");
+        config.setEnabled(false);
+        ListingRanker ranker = new ListingRanker(List.of(new PopularityScorer(config)), config);
+        List<ServiceListingResponse> retrieved = List.of(
+                listing(1L, null, null, 1), listing(2L, null, null, 9));
+
+        assertSame(retrieved, ranker.rank(retrieved, false));
+    }
+
+    private static RankingConfig onlyWeight(String signal) {
+        RankingConfig config = new RankingConfig();
+        config.setRelevanceWeight(signal.equals("relevance") ? 1 : 0);
+        config.setRatingWeight(signal.equals("rating") ? 1 : 0);
+        config.setPopularityWeight(signal.equals("popularity") ? 1 : 0);
+        config.setRecencyWeight(0);
+        config.setVerifiedWeight(0);
+        config.setDistanceWeight(0);
+        return config;
+    }
+
+    private static ServiceListingResponse listing(Long id, Double rating, Integer reviews, int bookings) {
+        return ServiceListingResponse.builder()
+                .id(id)
+                .averageRating(rating)
+                .reviewCount(reviews)
+                .totalBookings(bookings)
+                .build();
+    }
+
+    private static List<Long> ids(List<ServiceListingResponse> listings) {
+        return listings.stream().map(ServiceListingResponse::getId).toList();
+    }
+}
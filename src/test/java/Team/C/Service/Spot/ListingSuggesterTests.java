@@ -0,0 +1,57 @@
+package Team.C.Service.Spot;
+
+import Team.C.Service.Spot.search.ListingDocument;
+import Team.C.Service.Spot.search.ListingSuggester;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Renaming a category must move its suggestion to the new name, even while
+ * other listings of the category still hold the old snapshot.
+ */
+class ListingSuggesterTests {
+
+    @Test
+    void renamedCategoryIsSuggestedUnderItsNewName() {
+        ListingSuggester suggester = new ListingSuggester();
+        suggester.rebuild(List.of(listing(1L, "Cleaning"), listing(2L, "Cleaning"), listing(3L, "Cleaning")));
+
+        // The category listener re-applies the listings one by one
+        suggester.upsert(listing(1L, "Housekeeping"));
+
+        assertEquals(List.of("Housekeeping"), categorySuggestions(suggester, "house"));
+        assertTrue(categorySuggestions(suggester, "clea").isEmpty());
+
+        suggester.upsert(listing(2L, "Housekeeping"));
+        suggester.upsert(listing(3L, "Housekeeping"));
+        suggester.remove(1L);
+        suggester.remove(2L);
+
+        assertEquals(List.of("Housekeeping"), categorySuggestions(suggester, "house"));
+
+        suggester.remove(3L);
+        assertTrue(categorySuggestions(suggester, "house").isEmpty());
+    }
+
+    private static List<String> categorySuggestions(ListingSuggester suggester, String prefix) {
+        return suggester.suggest(prefix, 10).stream()
+                .filter(s -> s.getType() == ListingSuggester.Type.CATEGORY)
+                .map(ListingSuggester.Suggestion::getText)
+                .toList();
+    }
+
+    private static ListingDocument listing(Long id, String categoryName) {
+        return ListingDocument.builder()
+                .id(id)
+                .title("Service " + id)
+                .categoryId(7L)
+                .categoryName(categoryName)
+                .city("Pune")
+                .active(true)
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package Team.C.Service.Spot;
+
+import Team.C.Service.Spot.config.GeoConfig;
+import Team.C.Service.Spot.search.GeoPoint;
+import Team.C.Service.Spot.search.ListingDocument;
+import Team.C.Service.Spot.search.PincodeDirectory;
+import Team.C.Service.Spot.search.ServiceAreaIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Stored service radii are capped at the configured maximum, and invalid
+ * ones fall back to the default radius.
+ */
+class ServiceAreaIndexTests {
+
+    private static final GeoPoint CENTRE = new GeoPoint(18.52, 73.85);
+
+    @Test
+    void hugeRadiusIsCappedAtTheMaximum() {
+        ServiceAreaIndex index = index(listing(1L, 50_000));
+
+        assertEquals(1, index.findReaching(north(80), 10).size());
+        assertTrue(index.findReaching(north(150), 10).isEmpty());
+    }
+
+    @Test
+    void nonPositiveRadiusUsesTheDefault() {
+        ServiceAreaIndex index = index(listing(1L, -5));
+
+        assertEquals(1, index.findReaching(north(5), 10).size());
+        assertTrue(index.findReaching(north(20), 10).isEmpty());
+    }
+
+    private static ServiceAreaIndex index(ListingDocument document) {
+        GeoConfig geoConfig = new GeoConfig();
+        PincodeDirectory directory = new PincodeDirectory(geoConfig) {
+            @Override
+            public Optional<GeoPoint> locate(Integer pincode) {
+                return Optional.of(CENTRE);
+            }
+        };
+        ServiceAreaIndex index = new ServiceAreaIndex(directory, geoConfig);
+        index.rebuild(List.of(document));
+        return index;
+    }
+
+    private static ListingDocument listing(Long id, int radiusKm) {
+        return ListingDocument.builder()
+                .id(id)
+                .pincode(411001)
+                .serviceRadiusKm(radiusKm)
+                .active(true)
+                .build();
+    }
+
+    /**
+     * Point due north of the centre (one degree of latitude is about 111 km)
+     */
+    private static GeoPoint north(double km) {
+        return new GeoPoint(CENTRE.getLatitude() + km / 111.32, CENTRE.getLongitude());
+    }
+}
@@ -0,0 +1,131 @@
+package Team.C.Service.Spot;
+
+import Team.C.Service.Spot.controller.BookingController;
+import Team.C.Service.Spot.dto.request.ResponseView;
+import Team.C.Service.Spot.dto.response.BookingResponse;
+import Team.C.Service.Spot.dto.response.UserResponse;
+import Team.C.Service.Spot.model.enums.BookingStatus;
+import Team.C.Service.Spot.service.BookingService;
+import Team.C.Service.Spot.web.SparseFieldsetAdvice;
+import Team.C.Service.Spot.web.SparseFieldsetFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The fields and expand parameters reach the booking mapper as an explicit
+ * view and shape the JSON written for booking responses.
+ */
+class SparseFieldsetTests {
+
+    private BookingService bookingService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        bookingService = mock(BookingService.class);
+        when(bookingService.getBookingById(eq(1L), any())).thenReturn(booking());
+        when(bookingService.getBookingsByCustomer(eq(5L), any())).thenReturn(List.of(booking()));
+
+        JsonMapper.Builder mapper = JsonMapper.builder();
+        SparseFieldsetFilter.register(mapper);
+        mockMvc = MockMvcBuilders.standaloneSetup(new BookingController(bookingService))
+                .setControllerAdvice(new SparseFieldsetAdvice())
+                .setMessageConverters(new JacksonJsonHttpMessageConverter(mapper.build()))
+                .build();
+    }
+
+    @Test
+    void fullShapeWithoutParameters() throws Exception {
+        mockMvc.perform(get("/api/bookings/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.customerNotes").value("Ring twice"))
+                .andExpect(jsonPath("$.data.customer.addressLine").value("MG Road"))
+                .andExpect(jsonPath("$.data.provider.name").value("Asha"));
+
+        assertFalse(capturedView().isSparse());
+    }
+
+    @Test
+    void fieldsSelectTopLevelProperties() throws Exception {
+        mockMvc.perform(get("/api/bookings/1").param("fields", "status,totalAmount"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.id").value(1))
+                .andExpect(jsonPath("$.data.status").value("CONFIRMED"))
+                .andExpect(jsonPath("$.data.totalAmount").value(1500.0))
+                .andExpect(jsonPath("$.data.bookingReference").doesNotExist())
+                .andExpect(jsonPath("$.data.customer").doesNotExist())
+                .andExpect(jsonPath("$.data.provider").doesNotExist());
+
+        ResponseView view = capturedView();
+        assertTrue(view.isSparse());
+        assertFalse(view.expands("customer"));
+    }
+
+    @Test
+    void nestedObjectNamedInFieldsUsesItsCard() throws Exception {
+        mockMvc.perform(get("/api/bookings/1").param("fields", "status,provider"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("CONFIRMED"))
+                .andExpect(jsonPath("$.data.bookingReference").doesNotExist())
+                .andExpect(jsonPath("$.data.provider.name").value("Asha"))
+                .andExpect(jsonPath("$.data.provider.addressLine").doesNotExist());
+    }
+
+    @Test
+    void expandAddsNestedCardsToBookingCards() throws Exception {
+        mockMvc.perform(get("/api/bookings/customer/5").param("expand", "provider"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].bookingReference").value("BK-1"))
+                .andExpect(jsonPath("$.data[0].customerId").value(5))
+                .andExpect(jsonPath("$.data[0].customerNotes").doesNotExist())
+                .andExpect(jsonPath("$.data[0].customer").doesNotExist())
+                .andExpect(jsonPath("$.data[0].provider.name").value("Asha"))
+                .andExpect(jsonPath("$.data[0].provider.addressLine").doesNotExist());
+
+        ArgumentCaptor<ResponseView> view = ArgumentCaptor.forClass(ResponseView.class);
+        verify(bookingService).getBookingsByCustomer(eq(5L), view.capture());
+        assertTrue(view.getValue().expands("provider"));
+        assertFalse(view.getValue().expands("customer"));
+    }
+
+    private ResponseView capturedView() {
+        ArgumentCaptor<ResponseView> view = ArgumentCaptor.forClass(ResponseView.class);
+        verify(bookingService).getBookingById(eq(1L), view.capture());
+        return view.getValue();
+    }
+
+    private static BookingResponse booking() {
+        return BookingResponse.builder()
+                .id(1L)
+                .bookingReference("BK-1")
+                .bookingDate(LocalDate.of(2026, 10, 20))
+                .status(BookingStatus.CONFIRMED)
+                .totalAmount(1500.0)
+                .customerNotes("Ring twice")
+                .customerId(5L)
+                .providerId(9L)
+                .customer(UserResponse.builder().id(5L).name("Ravi").addressLine("MG Road").build())
+                .provider(UserResponse.builder().id(9L).name("Asha").addressLine("FC Road").build())
+                .build();
+    }
+}
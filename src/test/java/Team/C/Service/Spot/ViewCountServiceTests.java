@@ -0,0 +1,102 @@
+package Team.C.Service.Spot;
+
+import Team.C.Service.Spot.config.ViewCounterConfig;
+import Team.C.Service.Spot.service.impl.ViewCountServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Concurrent recordView and flush calls must neither lose nor double-count
+ * views, and the pending counter must return to zero once everything is written.
+ */
+class ViewCountServiceTests {
+
+    private static final int THREADS = 8;
+    private static final int VIEWS_PER_THREAD = 50_000;
+    private static final int LISTINGS = 5;
+
+    @Test
+    void concurrentViewsAndFlushesPreserveTotal() throws Exception {
+        hammer(LISTINGS);
+    }
+
+    @Test
+    void singleHotListingKeepsEveryView() throws Exception {
+        hammer(1);
+    }
+
+    private static void hammer(int listings) throws Exception {
+        CountingJdbcTemplate jdbcTemplate = new CountingJdbcTemplate();
+        ViewCounterConfig config = new ViewCounterConfig();
+        config.setMaxPendingViews(1_000);
+        config.setBatchSize(2);
+        ViewCountServiceImpl service = new ViewCountServiceImpl(jdbcTemplate, config);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean recording = new AtomicBoolean(true);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                writers.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < VIEWS_PER_THREAD; i++) {
+                        service.recordView((long) (i % listings));
+                    }
+                    return null;
+                }));
+            }
+            Future<?> flusher = pool.submit(() -> {
+                start.await();
+                while (recording.get()) {
+                    service.flush();
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+            recording.set(false);
+            flusher.get();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        service.flush();
+
+        assertEquals((long) THREADS * VIEWS_PER_THREAD, jdbcTemplate.written.get(), "Every view should be written once");
+        assertEquals(0, service.getPendingViews(), "Nothing should be left pending after the final flush");
+    }
+
+    /**
+     * Sums the view increments instead of talking to a database.
+     */
+    private static final class CountingJdbcTemplate extends JdbcTemplate {
+        private final AtomicLong written = new AtomicLong();
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            batchArgs.forEach(row -> written.addAndGet((Long) row[0]));
+            return new int[batchArgs.size()];
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            written.addAndGet(((Number) args[0]).longValue());
+            return 1;
+        }
+    }
+}